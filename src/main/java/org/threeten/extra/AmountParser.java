@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Parser for the single unit amounts, such as {@code P2W3D} and {@code PT4H30M}.
+ * <p>
+ * This replaces a regular expression with a single pass over the text.
+ * The grammar is an optional sign, the letter "P", the letter "T" for time-based
+ * amounts, then one or two sections each consisting of an optionally signed
+ * number and a suffix letter. Letters are matched in upper or lower case.
+ * At least one section must be present, and sections must occur in order.
+ * <p>
+ * Byte input is treated as ASCII, without decoding.
+ * If parsing fails, the exception holds the whole input and the index within it,
+ * matching {@code DateTimeFormatter.parse(CharSequence, ParsePosition)}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+final class AmountParser {
+
+    /**
+     * Parser for {@code Days}, in the format {@code PnWnD}.
+     */
+    static final AmountParser DAYS = new AmountParser("Days", false, 'W', 7, 'D');
+    /**
+     * Parser for {@code Weeks}, in the format {@code PnW}.
+     */
+    static final AmountParser WEEKS = new AmountParser("Weeks", false, 0, 0, 'W');
+    /**
+     * Parser for {@code Months}, in the format {@code PnYnM}.
+     */
+    static final AmountParser MONTHS = new AmountParser("Months", false, 'Y', 12, 'M');
+    /**
+     * Parser for {@code Years}, in the format {@code PnY}.
+     */
+    static final AmountParser YEARS = new AmountParser("Years", false, 0, 0, 'Y');
+    /**
+     * Parser for {@code Hours}, in the format {@code PTnH}.
+     */
+    static final AmountParser HOURS = new AmountParser("Hours", true, 0, 0, 'H');
+    /**
+     * Parser for {@code Minutes}, in the format {@code PTnHnM}.
+     */
+    static final AmountParser MINUTES = new AmountParser("Minutes", true, 'H', 60, 'M');
+
+    /**
+     * The name of the type being parsed.
+     */
+    private final String type;
+    /**
+     * Whether the letter "T" is required after "P".
+     */
+    private final boolean timeBased;
+    /**
+     * The upper case suffix of the larger unit, zero if there is only one unit.
+     */
+    private final int largeSuffix;
+    /**
+     * The size of the larger unit in terms of the smaller unit.
+     */
+    private final int largeMultiplier;
+    /**
+     * The upper case suffix of the smaller unit.
+     */
+    private final int smallSuffix;
+
+    /**
+     * Restricted constructor.
+     *
+     * @param type  the name of the type
+     * @param timeBased  whether "T" is required
+     * @param largeSuffix  the suffix of the larger unit, zero if none
+     * @param largeMultiplier  the size of the larger unit
+     * @param smallSuffix  the suffix of the smaller unit
+     */
+    private AmountParser(String type, boolean timeBased, int largeSuffix, int largeMultiplier, int smallSuffix) {
+        this.type = type;
+        this.timeBased = timeBased;
+        this.largeSuffix = largeSuffix;
+        this.largeMultiplier = largeMultiplier;
+        this.smallSuffix = smallSuffix;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a region of the text, returning the amount in the smaller unit.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the amount
+     * @throws IndexOutOfBoundsException if the region is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    int parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        checkRegion(start, end, text.length());
+        return parseInput(text, start, end);
+    }
+
+    /**
+     * Parses a region of ASCII bytes, returning the amount in the smaller unit.
+     *
+     * @param ascii  the bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the amount
+     * @throws IndexOutOfBoundsException if the region is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed
+     */
+    int parse(byte[] ascii, int start, int end) {
+        Objects.requireNonNull(ascii, "ascii");
+        checkRegion(start, end, ascii.length);
+        return parseInput(ascii, start, end);
+    }
+
+    private static void checkRegion(int start, int end, int length) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid region " + start + " to " + end + " for length " + length);
+        }
+    }
+
+    // single pass, the input is either a CharSequence or a byte array
+    private int parseInput(Object input, int start, int end) {
+        int pos = start;
+        long negate = 1;
+        if (pos < end && (charAt(input, pos) == '-' || charAt(input, pos) == '+')) {
+            negate = charAt(input, pos) == '-' ? -1 : 1;
+            pos++;
+        }
+        pos = expect(input, pos, end, 'P');
+        if (timeBased) {
+            pos = expect(input, pos, end, 'T');
+        }
+        if (pos == end) {
+            throw error(input, "no amount", pos);
+        }
+        long total = 0;
+        boolean largeAllowed = largeSuffix != 0;
+        while (pos < end) {
+            int numberStart = pos;
+            long sign = 1;
+            if (charAt(input, pos) == '-' || charAt(input, pos) == '+') {
+                sign = charAt(input, pos) == '-' ? -1 : 1;
+                pos++;
+            }
+            long value = 0;
+            int digitsStart = pos;
+            while (pos < end) {
+                int digit = charAt(input, pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                if (value > 1L + Integer.MAX_VALUE) {
+                    throw error(input, "number too large", numberStart);
+                }
+                pos++;
+            }
+            if (pos == digitsStart) {
+                throw error(input, "expected digit", pos);
+            }
+            value *= sign;
+            if (value > Integer.MAX_VALUE) {
+                throw error(input, "number too large", numberStart);
+            }
+            if (pos == end) {
+                throw error(input, "expected suffix", pos);
+            }
+            int suffix = upper(charAt(input, pos));
+            if (largeAllowed && suffix == largeSuffix) {
+                total = value * largeMultiplier;
+                largeAllowed = false;
+            } else if (suffix == smallSuffix) {
+                total += value;
+                pos++;
+                if (pos < end) {
+                    throw error(input, "unexpected text", pos);
+                }
+                break;
+            } else {
+                throw error(input, "invalid suffix", pos);
+            }
+            pos++;
+        }
+        total *= negate;
+        if (total < Integer.MIN_VALUE || total > Integer.MAX_VALUE) {
+            throw error(input, "overflow", start);
+        }
+        return (int) total;
+    }
+
+    private int expect(Object input, int pos, int end, int letter) {
+        if (pos == end || upper(charAt(input, pos)) != letter) {
+            throw new DateTimeParseException(
+                    "Text cannot be parsed to a " + type + ", expected '" + (char) letter + "'", text(input), pos);
+        }
+        return pos + 1;
+    }
+
+    private static int charAt(Object input, int index) {
+        if (input instanceof byte[]) {
+            return ((byte[]) input)[index] & 0xFF;
+        }
+        return ((CharSequence) input).charAt(index);
+    }
+
+    // the whole input, as the error index is relative to the whole input
+    private static CharSequence text(Object input) {
+        if (input instanceof byte[]) {
+            return new String((byte[]) input, StandardCharsets.ISO_8859_1);
+        }
+        return (CharSequence) input;
+    }
+
+    private static int upper(int ch) {
+        return ch >= 'a' && ch <= 'z' ? ch - 32 : ch;
+    }
+
+    private DateTimeParseException error(Object input, String reason, int index) {
+        return new DateTimeParseException("Text cannot be parsed to a " + type + ", " + reason, text(input), index);
+    }
+
+}
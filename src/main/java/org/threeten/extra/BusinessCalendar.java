@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjuster;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A calendar of business days, defined by a weekend and a set of holidays.
+ * <p>
+ * A business day is any day that is neither a weekend day nor a holiday.
+ * The calendar is precomputed over a fixed window of dates, allowing
+ * "is business day", "business days between" and "plus business days"
+ * to be answered in constant time by looking up an index.
+ * All operations throw {@code DateTimeException} if a date or result
+ * falls outside the window.
+ * <p>
+ * Adjusters based on the calendar are available from {@link Temporals}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class BusinessCalendar {
+
+    /**
+     * The window of dates covered.
+     */
+    private final LocalDateRange window;
+    /**
+     * The weekend days.
+     */
+    private final Set<DayOfWeek> weekend;
+    /**
+     * The business days, indexed by offset from the start of the window.
+     */
+    private final BitSet businessDays;
+    /**
+     * The number of business days before each offset from the start of the window.
+     * This has one more entry than the number of days in the window.
+     */
+    private final int[] prefix;
+    /**
+     * The offset of each business day, indexed by the ordinal of the business day.
+     */
+    private final int[] offsets;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code BusinessCalendar} from a window, weekend and holidays.
+     * <p>
+     * The calendar is precomputed for the window, which should be chosen to
+     * cover all the dates of interest. Holidays outside the window are ignored.
+     *
+     * @param window  the window of dates to cover, not null
+     * @param weekend  the days of the week that are not business days, not null
+     * @param holidays  the holidays that are not business days, not null
+     * @return the business calendar, not null
+     * @throws IllegalArgumentException if the window is too large
+     */
+    public static BusinessCalendar of(LocalDateRange window, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        Objects.requireNonNull(window, "window");
+        Objects.requireNonNull(weekend, "weekend");
+        Objects.requireNonNull(holidays, "holidays");
+        if (window.lengthInDays() >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window is too large: " + window);
+        }
+        return new BusinessCalendar(window, weekend, holidays);
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param window  the window of dates to cover, not null
+     * @param weekend  the days of the week that are not business days, not null
+     * @param holidays  the holidays that are not business days, not null
+     */
+    private BusinessCalendar(LocalDateRange window, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        this.window = window;
+        this.weekend = Collections.unmodifiableSet(weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend));
+        int length = (int) window.lengthInDays();
+        long start = window.getStartEpochDay();
+        boolean[] weekendMask = new boolean[7];
+        for (DayOfWeek dow : weekend) {
+            weekendMask[dow.ordinal()] = true;
+        }
+        BitSet bits = new BitSet(length);
+        // epoch-day 0 is a Thursday, ordinal 3
+        int dow = (int) Math.floorMod(start + 3, 7L);
+        for (int i = 0; i < length; i++) {
+            if (weekendMask[dow] == false) {
+                bits.set(i);
+            }
+            dow = (dow == 6 ? 0 : dow + 1);
+        }
+        for (LocalDate holiday : holidays) {
+            long epochDay = holiday.toEpochDay();
+            if (epochDay >= start && epochDay < window.getEndEpochDay()) {
+                bits.clear((int) (epochDay - start));
+            }
+        }
+        this.businessDays = bits;
+        this.prefix = new int[length + 1];
+        this.offsets = new int[bits.cardinality()];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (bits.get(i)) {
+                offsets[count++] = i;
+            }
+            prefix[i + 1] = count;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the window of dates covered by this calendar.
+     *
+     * @return the window, not null
+     */
+    public LocalDateRange getWindow() {
+        return window;
+    }
+
+    /**
+     * Gets the days of the week that are not business days.
+     *
+     * @return the unmodifiable set of weekend days, not null
+     */
+    public Set<DayOfWeek> getWeekend() {
+        return weekend;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified date is a business day.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is neither a weekend day nor a holiday
+     * @throws DateTimeException if the date is outside the window
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        return businessDays.get(offset(date.toEpochDay()));
+    }
+
+    /**
+     * Counts the business days between two dates.
+     * <p>
+     * The start date is included and the end date is excluded.
+     * The result is negative if the end is before the start.
+     * The end date may be the end of the window.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the number of business days between the dates
+     * @throws DateTimeException if either date is outside the window
+     */
+    public int businessDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return prefix[boundary(endExclusive.toEpochDay())] - prefix[boundary(startInclusive.toEpochDay())];
+    }
+
+    /**
+     * Returns a copy of the specified date with the specified number of business days added.
+     * <p>
+     * A positive amount returns the nth business day after the date, and a negative
+     * amount returns the nth business day before the date.
+     * The date itself does not need to be a business day.
+     * An amount of zero returns the date unchanged.
+     *
+     * @param date  the date to add to, not null
+     * @param amount  the number of business days to add, may be negative
+     * @return the adjusted date, not null
+     * @throws DateTimeException if the date or result is outside the window
+     */
+    public LocalDate plusBusinessDays(LocalDate date, int amount) {
+        Objects.requireNonNull(date, "date");
+        return LocalDate.ofEpochDay(plusBusinessDays(date.toEpochDay(), amount));
+    }
+
+    /**
+     * Adds business days to an epoch-day.
+     *
+     * @param epochDay  the epoch-day to add to
+     * @param amount  the number of business days to add, may be negative
+     * @return the adjusted epoch-day
+     * @throws DateTimeException if the epoch-day or result is outside the window
+     */
+    long plusBusinessDays(long epochDay, int amount) {
+        int offset = offset(epochDay);
+        if (amount == 0) {
+            return epochDay;
+        }
+        long ordinal = (amount > 0 ? prefix[offset + 1] + (long) amount - 1 : prefix[offset] + (long) amount);
+        if (ordinal < 0 || ordinal >= offsets.length) {
+            throw new DateTimeException("Result is outside the business calendar window: " + window);
+        }
+        return window.getStartEpochDay() + offsets[(int) ordinal];
+    }
+
+    /**
+     * Returns an adjuster that adds the specified number of business days.
+     *
+     * @param amount  the number of business days to add, may be negative
+     * @return the adjuster, not null
+     */
+    TemporalAdjuster adjuster(int amount) {
+        return temporal -> temporal.with(EPOCH_DAY, plusBusinessDays(temporal.getLong(EPOCH_DAY), amount));
+    }
+
+    private int offset(long epochDay) {
+        long offset = epochDay - window.getStartEpochDay();
+        if (offset < 0 || epochDay >= window.getEndEpochDay()) {
+            throw new DateTimeException("Date is outside the business calendar window: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return (int) offset;
+    }
+
+    private int boundary(long epochDay) {
+        long offset = epochDay - window.getStartEpochDay();
+        if (offset < 0 || epochDay > window.getEndEpochDay()) {
+            throw new DateTimeException("Date is outside the business calendar window: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return (int) offset;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this calendar as a {@code String}.
+     *
+     * @return a string representation of this calendar, not null
+     */
+    @Override
+    public String toString() {
+        return "BusinessCalendar[" + window + ", weekend=" + weekend + ", businessDays=" + offsets.length + "]";
+    }
+
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.NANO_OF_DAY;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjuster;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A schedule in the style of a cron expression, compiled to bitmasks.
+ * <p>
+ * A schedule is defined by five fields, separated by whitespace:
+ * <ul>
+ * <li>minute-of-hour, from 0 to 59
+ * <li>hour-of-day, from 0 to 23
+ * <li>day-of-month, from 1 to 31
+ * <li>month-of-year, from 1 to 12, or {@code JAN} to {@code DEC}
+ * <li>day-of-week, from 0 to 7, or {@code SUN} to {@code SAT}, where both 0 and 7 are Sunday
+ * </ul>
+ * Each field is a comma separated list of {@code *}, a single value or a range {@code a-b},
+ * each optionally followed by a step {@code /n}.
+ * For example, {@code 30 6 1-7 * MON} matches 06:30 on the first Monday of each month,
+ * and {@code 0/15 9-17 * * MON-FRI} matches every quarter hour during the working week.
+ * The schedule can be further restricted to a set of quarters using {@link #withQuarters(Quarter...)}.
+ * <p>
+ * Unlike traditional cron, the day-of-month and day-of-week fields are combined using AND.
+ * A date matches only if it satisfies both fields, which allows the expression of
+ * rules such as "the first Monday of the month".
+ * <p>
+ * The next matching date-time is found by jumping field by field, from year, to month,
+ * to day, to hour, to minute, using the bitmasks to find the next matching value of each.
+ * Each field is examined at most once per candidate value of the larger field,
+ * thus the search does not step through the intervening days or minutes.
+ * A schedule that can never match, such as the 30th of February, is detected after
+ * searching a full 400 year cycle.
+ * <p>
+ * The schedule is a {@link TemporalAdjuster}, returning the next matching date-time
+ * strictly after the input.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class CronSchedule implements TemporalAdjuster {
+
+    /**
+     * The number of years after which the search stops.
+     * The Gregorian calendar repeats every 400 years.
+     */
+    private static final int MAX_YEARS = 400;
+    /**
+     * The month names.
+     */
+    private static final String[] MONTH_NAMES = {
+        "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    /**
+     * The day-of-week names, starting from Sunday as zero.
+     */
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    /**
+     * Offsets used to calculate the day-of-week.
+     */
+    private static final int[] DOW_OFFSETS = {0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4};
+
+    /**
+     * The original expression.
+     */
+    private final String expression;
+    /**
+     * The matching minutes, bits 0 to 59.
+     */
+    private final long minutes;
+    /**
+     * The matching hours, bits 0 to 23.
+     */
+    private final long hours;
+    /**
+     * The matching day-of-month, bits 1 to 31.
+     */
+    private final long daysOfMonth;
+    /**
+     * The matching day-of-week, bits 1 to 7 from Monday to Sunday.
+     */
+    private final long daysOfWeek;
+    /**
+     * The matching months, bits 1 to 12.
+     */
+    private final long months;
+    /**
+     * The matching quarters, bits 1 to 4.
+     */
+    private final int quarters;
+    /**
+     * The matching days-of-month, bits 1 to 31, indexed by the day-of-week of
+     * the first of the month, from Monday as zero to Sunday as six.
+     * This combines the day-of-month and day-of-week masks.
+     */
+    private final long[] dayMasks;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code CronSchedule} by parsing an expression.
+     * <p>
+     * The expression consists of five fields, minute, hour, day-of-month,
+     * month and day-of-week, as described in the class documentation.
+     *
+     * @param expression  the expression to parse, not null
+     * @return the parsed schedule, not null
+     * @throws DateTimeParseException if the expression cannot be parsed
+     */
+    public static CronSchedule parse(CharSequence expression) {
+        Objects.requireNonNull(expression, "expression");
+        String text = expression.toString();
+        String[] fields = text.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new DateTimeParseException("Schedule must have five fields: " + text, text, 0);
+        }
+        long minutes = parseField(text, fields[0], 0, 59, null, 0);
+        long hours = parseField(text, fields[1], 0, 23, null, 0);
+        long daysOfMonth = parseField(text, fields[2], 1, 31, null, 0);
+        long months = parseField(text, fields[3], 1, 12, MONTH_NAMES, 1);
+        long daysOfWeek = parseField(text, fields[4], 0, 7, DAY_NAMES, 0);
+        // convert Sunday from bit 0 to bit 7
+        if ((daysOfWeek & 1) != 0) {
+            daysOfWeek = (daysOfWeek & ~1L) | (1L << 7);
+        }
+        return new CronSchedule(text, minutes, hours, daysOfMonth, daysOfWeek, months, 0x1E);
+    }
+
+    private static long parseField(String text, String field, int min, int max, String[] names, int nameBase) {
+        long mask = 0;
+        for (String item : field.split(",", -1)) {
+            int step = 1;
+            int slash = item.indexOf('/');
+            String range = item;
+            if (slash >= 0) {
+                step = parseValue(text, item.substring(slash + 1), 1, max, null, 0);
+                range = item.substring(0, slash);
+            }
+            int from;
+            int to;
+            if (range.equals("*")) {
+                from = min;
+                to = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash >= 0) {
+                    from = parseValue(text, range.substring(0, dash), min, max, names, nameBase);
+                    to = parseValue(text, range.substring(dash + 1), min, max, names, nameBase);
+                    if (to < from) {
+                        throw new DateTimeParseException("Invalid range in schedule: " + item, text, text.indexOf(field));
+                    }
+                } else {
+                    from = parseValue(text, range, min, max, names, nameBase);
+                    to = (slash >= 0 ? max : from);
+                }
+            }
+            for (int i = from; i <= to; i += step) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static int parseValue(String text, String value, int min, int max, String[] names, int nameBase) {
+        if (names != null) {
+            String upper = value.toUpperCase(Locale.ENGLISH);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return i + nameBase;
+                }
+            }
+        }
+        int result;
+        try {
+            result = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new DateTimeParseException("Invalid value in schedule: " + value, text, 0, ex);
+        }
+        if (result < min || result > max) {
+            throw new DateTimeParseException(
+                    "Value out of range in schedule: " + value + ", must be from " + min + " to " + max, text, 0);
+        }
+        return result;
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param expression  the original expression
+     * @param minutes  the minute mask
+     * @param hours  the hour mask
+     * @param daysOfMonth  the day-of-month mask
+     * @param daysOfWeek  the day-of-week mask
+     * @param months  the month mask
+     * @param quarters  the quarter mask
+     */
+    private CronSchedule(String expression, long minutes, long hours, long daysOfMonth, long daysOfWeek, long months, int quarters) {
+        this.expression = expression;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.daysOfWeek = daysOfWeek;
+        this.months = months;
+        this.quarters = quarters;
+        this.dayMasks = new long[7];
+        for (int first = 0; first < 7; first++) {
+            long mask = 0;
+            for (int dom = 1; dom <= 31; dom++) {
+                int dow = (first + dom - 1) % 7 + 1;
+                if ((daysOfMonth & (1L << dom)) != 0 && (daysOfWeek & (1L << dow)) != 0) {
+                    mask |= 1L << dom;
+                }
+            }
+            dayMasks[first] = mask;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this schedule restricted to the specified quarters.
+     * <p>
+     * Only months within the specified quarters will match.
+     * This replaces any previous quarter restriction.
+     *
+     * @param quarters  the quarters to match, not null
+     * @return a schedule restricted to the quarters, not null
+     * @throws IllegalArgumentException if no quarters are specified
+     */
+    public CronSchedule withQuarters(Quarter... quarters) {
+        Objects.requireNonNull(quarters, "quarters");
+        if (quarters.length == 0) {
+            throw new IllegalArgumentException("At least one quarter must be specified");
+        }
+        int mask = 0;
+        for (Quarter quarter : quarters) {
+            mask |= 1 << quarter.getValue();
+        }
+        return new CronSchedule(expression, minutes, hours, daysOfMonth, daysOfWeek, months, mask);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the next date-time matching this schedule strictly after the specified date-time.
+     * <p>
+     * The result always has zero seconds and nanoseconds.
+     *
+     * @param dateTime  the date-time to search after, not null
+     * @return the next matching date-time, not null
+     * @throws DateTimeException if there is no match within 400 years
+     */
+    public LocalDateTime next(LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        int year = dateTime.getYear();
+        int month = dateTime.getMonthValue();
+        int day = dateTime.getDayOfMonth();
+        int hour = dateTime.getHour();
+        int minute = dateTime.getMinute() + 1;
+        int endYear = year + MAX_YEARS;
+        while (year <= endYear) {
+            int matchMonth = nextBit(months, month);
+            while (matchMonth >= 0 && (quarters & (1 << ((matchMonth + 2) / 3))) == 0) {
+                matchMonth = nextBit(months, matchMonth + 1);
+            }
+            if (matchMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (matchMonth != month) {
+                month = matchMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+            }
+            int length = Month.of(month).length(Year.isLeap(year));
+            long dayMask = dayMasks[firstDayOfWeek(year, month)] & ((1L << (length + 1)) - 1);
+            int matchDay = nextBit(dayMask, day);
+            if (matchDay < 0) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (matchDay != day) {
+                day = matchDay;
+                hour = 0;
+                minute = 0;
+            }
+            int matchHour = nextBit(hours, hour);
+            if (matchHour < 0) {
+                day++;
+                hour = 0;
+                minute = 0;
+                continue;
+            }
+            if (matchHour != hour) {
+                hour = matchHour;
+                minute = 0;
+            }
+            int matchMinute = nextBit(minutes, minute);
+            if (matchMinute < 0) {
+                hour++;
+                minute = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, matchMinute);
+        }
+        throw new DateTimeException("Schedule has no match within " + MAX_YEARS + " years: " + this);
+    }
+
+    /**
+     * Finds the next date-time matching this schedule strictly after the specified date-time.
+     * <p>
+     * The schedule is matched against the local date-time.
+     * If the matching local date-time is in a gap, such as when clocks spring forward,
+     * the result is moved later by the length of the gap.
+     * If the matching local date-time is in an overlap, such as when clocks fall back,
+     * the earlier offset is used unless the input is already in the later offset.
+     * The result is always after the input instant.
+     *
+     * @param dateTime  the date-time to search after, not null
+     * @return the next matching date-time, not null
+     * @throws DateTimeException if there is no match within 400 years
+     */
+    public ZonedDateTime next(ZonedDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        LocalDateTime local = dateTime.toLocalDateTime();
+        while (true) {
+            local = next(local);
+            ZonedDateTime result = ZonedDateTime.ofLocal(local, dateTime.getZone(), dateTime.getOffset());
+            if (result.isAfter(dateTime)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Adjusts the specified temporal to the next date-time matching this schedule.
+     * <p>
+     * A {@code ZonedDateTime} is handled as per {@link #next(ZonedDateTime)}.
+     * Any other temporal must support {@code EPOCH_DAY} and {@code NANO_OF_DAY},
+     * and is handled as per {@link #next(LocalDateTime)}, retaining any offset.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the target object to be adjusted, not null
+     * @return the adjusted object, not null
+     * @throws DateTimeException if unable to make the adjustment
+     */
+    @Override
+    public Temporal adjustInto(Temporal temporal) {
+        if (temporal instanceof ZonedDateTime) {
+            return next((ZonedDateTime) temporal);
+        }
+        LocalDateTime local = LocalDateTime.of(
+                LocalDate.ofEpochDay(temporal.getLong(EPOCH_DAY)),
+                LocalTime.ofNanoOfDay(temporal.getLong(NANO_OF_DAY)));
+        LocalDateTime next = next(local);
+        return temporal
+                .with(EPOCH_DAY, next.toLocalDate().toEpochDay())
+                .with(NANO_OF_DAY, next.toLocalTime().toNanoOfDay());
+    }
+
+    private static int nextBit(long mask, int from) {
+        if (from >= 64) {
+            return -1;
+        }
+        long remaining = mask & (-1L << from);
+        return (remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining));
+    }
+
+    private static int firstDayOfWeek(int year, int month) {
+        // Sakamoto's method, giving zero for Sunday
+        int y = (month < 3 ? year - 1 : year);
+        int sunday0 = Math.floorMod(
+                y + Math.floorDiv(y, 4) - Math.floorDiv(y, 100) + Math.floorDiv(y, 400) + DOW_OFFSETS[month - 1] + 1, 7);
+        return (sunday0 + 6) % 7;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this schedule is equal to another schedule.
+     * <p>
+     * The comparison is based on the compiled fields, thus two different
+     * expressions that match the same date-times are equal.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other schedule
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof CronSchedule) {
+            CronSchedule other = (CronSchedule) obj;
+            return minutes == other.minutes &&
+                    hours == other.hours &&
+                    daysOfMonth == other.daysOfMonth &&
+                    daysOfWeek == other.daysOfWeek &&
+                    months == other.months &&
+                    quarters == other.quarters;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this schedule.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        long hash = minutes ^ (hours << 7) ^ (daysOfMonth << 13) ^ (daysOfWeek << 23) ^ (months << 41) ^ ((long) quarters << 59);
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * Outputs this schedule as a {@code String}.
+     * <p>
+     * This returns the original expression, followed by any quarter restriction.
+     *
+     * @return a string representation of this schedule, not null
+     */
+    @Override
+    public String toString() {
+        if (quarters == 0x1E) {
+            return expression;
+        }
+        StringBuilder buf = new StringBuilder(expression).append(" in ");
+        for (int q = 1; q <= 4; q++) {
+            if ((quarters & (1 << q)) != 0) {
+                buf.append('Q').append(q).append(',');
+            }
+        }
+        buf.setLength(buf.length() - 1);
+        return buf.toString();
+    }
+
+}
@@ -43,10 +43,12 @@ import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * A hour-based amount of time, such as '4 hours'.
@@ -74,13 +76,20 @@ public final class Hours
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8494096666041369608L;
-
     /**
-     * The pattern for parsing.
+     * The magnitude of the largest cached amount.
+     */
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * The cache of small amounts, from -1024 to 1024, sharing the constants.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)PT"
-                    + "(?:([-+]?[0-9]+)H)?", Pattern.CASE_INSENSITIVE);
+    private static final Hours[] CACHE = new Hours[CACHE_LIMIT * 2 + 1];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Hours(i - CACHE_LIMIT);
+        }
+        CACHE[CACHE_LIMIT] = ZERO;
+    }
 
     /**
      * The number of hours.
@@ -91,16 +100,17 @@ public final class Hours
      * Obtains an {@code Hours} representing a number of hours.
      * <p>
      * The resulting amount will have the specified hours.
+     * <p>
+     * Small amounts are cached, thus this method does not allocate for them.
      *
      * @param hours  the number of hours, positive or negative
      * @return the number of hours, not null
      */
     public static Hours of(int hours) {
-        if (hours == 0) {
-            return ZERO;
-        } else {
-            return new Hours(hours);
+        if (hours >= -CACHE_LIMIT && hours <= CACHE_LIMIT) {
+            return CACHE[hours + CACHE_LIMIT];
         }
+        return new Hours(hours);
     }
     
     //-----------------------------------------------------------------------
@@ -173,20 +183,45 @@ public final class Hours
      */
     public static Hours parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String hoursStr = matcher.group(2);
-            if (hoursStr != null) {
-                try {
-                    int hours = Integer.parseInt(hoursStr);
-                    return of(negate * hours);
-                } catch (NumberFormatException ex) {
-                    throw new DateTimeParseException("Text cannot be parsed to Hours, non-numeric hours", text, 0, ex);
-                }
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Hours", text, 0);
+        return of(AmountParser.HOURS.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Hours} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period,
+     *  with the error index being the index of the problem within the text
+     */
+    public static Hours parse(CharSequence text, int start, int end) {
+        return of(AmountParser.HOURS.parse(text, start, end));
+    }
+
+    /**
+     * Obtains a {@code Hours} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing amounts to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed to a period,
+     *  with the error index being the index of the problem within the array
+     */
+    public static Hours parse(byte[] ascii, int start, int end) {
+        return of(AmountParser.HOURS.parse(ascii, start, end));
     }
 
     //-----------------------------------------------------------------------
@@ -204,6 +239,58 @@ public final class Hours
         return of(Math.toIntExact(HOURS.between(startDateInclusive, endDateExclusive)));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a collector that sums a stream of {@code Hours}.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static Collector<Hours, ?, Hours> summing() {
+        return summing(Function.identity());
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Hours} and sums the results.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static <T> Collector<T, ?, Hours> summing(Function<? super T, Hours> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                () -> new long[1],
+                (total, element) -> total[0] += mapper.apply(element).getAmount(),
+                (total, other) -> {
+                    total[0] += other[0];
+                    return total;
+                },
+                total -> of(Math.toIntExact(total[0])));
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Hours} and summarizes the results.
+     * <p>
+     * The statistics are the count, sum, minimum, maximum and average of the number of hours.
+     * The sum is held as a {@code long}, thus it does not overflow.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, not null
+     */
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizing(Function<? super T, Hours> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collectors.summarizingInt(element -> mapper.apply(element).getAmount());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of hours.
@@ -277,6 +277,35 @@ public final class Interval
         return end.equals(interval.start) ^ start.equals(interval.end);
     }
 
+    /**
+     * Calculates the interval that is the intersection of this interval and the specified interval.
+     * <p>
+     * This finds the part of the time-line shared by the two intervals.
+     * The result starts at the later of the two start instants and ends at the earlier
+     * of the two end instants.
+     * The two intervals must {@linkplain #overlaps(Interval) overlap}.
+     *
+     * @param interval  the interval to intersect with, not null
+     * @return the intersection of the two intervals, not null
+     * @throws DateTimeException if the intervals do not overlap
+     */
+    public Interval intersection(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        if (overlaps(interval) == false) {
+            throw new DateTimeException("Intervals do not overlap: " + this + " and " + interval);
+        }
+        int cmpStart = start.compareTo(interval.start);
+        int cmpEnd = end.compareTo(interval.end);
+        if (cmpStart >= 0 && cmpEnd <= 0) {
+            return this;
+        } else if (cmpStart <= 0 && cmpEnd >= 0) {
+            return interval;
+        }
+        Instant newStart = (cmpStart >= 0 ? start : interval.start);
+        Instant newEnd = (cmpEnd <= 0 ? end : interval.end);
+        return new Interval(newStart, newEnd);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Checks if this interval is after the specified instant.
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The number of concurrently active intervals over the time-line.
+ * <p>
+ * Occupancy is a step function obtained from a collection of {@link Interval}s.
+ * At each instant, the concurrency is the number of intervals that {@linkplain Interval#contains(Instant) contain}
+ * the instant. This class stores the instants at which the concurrency changes, together with the
+ * concurrency from that instant until the next change.
+ * <p>
+ * The step function is built in a single pass over the sorted start and end instants.
+ * The peak concurrency, the duration spent at each level of concurrency and the total covered
+ * duration are all calculated during that pass.
+ * The data is held in primitive arrays, so the memory used is proportional to
+ * the number of changes rather than the number of intervals.
+ * <p>
+ * For example, the maximum number of concurrent sessions can be found as follows:
+ * <pre>
+ *  int peak = IntervalOccupancy.of(sessions).getPeakConcurrency();
+ * </pre>
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class IntervalOccupancy {
+
+    /**
+     * The number of intervals above which sorting is performed in parallel.
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    /**
+     * Nanoseconds per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000_000_000;
+
+    /**
+     * The epoch-seconds of each change in concurrency, ascending.
+     */
+    private final long[] seconds;
+    /**
+     * The nano-of-second of each change in concurrency.
+     */
+    private final int[] nanos;
+    /**
+     * The concurrency from each change until the next, zero after the last change.
+     */
+    private final int[] counts;
+    /**
+     * The peak concurrency.
+     */
+    private final int peak;
+    /**
+     * The seconds part of the duration spent at each level of concurrency.
+     */
+    private final long[] levelSeconds;
+    /**
+     * The nanos part of the duration spent at each level of concurrency.
+     */
+    private final long[] levelNanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the occupancy of a collection of intervals.
+     * <p>
+     * The intervals may be in any order, and may overlap, abut or be duplicated.
+     * Empty intervals do not contain any instant, and thus do not affect the result.
+     *
+     * @param intervals  the intervals to analyze, not null and no null elements
+     * @return the occupancy, not null
+     */
+    public static IntervalOccupancy of(Collection<Interval> intervals) {
+        Objects.requireNonNull(intervals, "intervals");
+        int size = intervals.size();
+        Instant[] starts = new Instant[size];
+        Instant[] ends = new Instant[size];
+        int index = 0;
+        for (Interval interval : intervals) {
+            starts[index] = interval.getStart();
+            ends[index] = interval.getEnd();
+            index++;
+        }
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(starts);
+            Arrays.parallelSort(ends);
+        } else {
+            Arrays.sort(starts);
+            Arrays.sort(ends);
+        }
+        return new IntervalOccupancy(starts, ends);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor, performing the single pass over the sorted instants.
+     *
+     * @param starts  the sorted start instants, not null
+     * @param ends  the sorted end instants, not null
+     */
+    private IntervalOccupancy(Instant[] starts, Instant[] ends) {
+        int size = starts.length;
+        long[] changeSeconds = new long[size * 2];
+        int[] changeNanos = new int[size * 2];
+        int[] changeCounts = new int[size * 2];
+        long[] levelSecs = new long[16];
+        long[] levelNans = new long[16];
+        int changes = 0;
+        int active = 0;
+        int max = 0;
+        int s = 0;
+        int e = 0;
+        while (e < size) {
+            // the end instants are always reached last, as each end is not before its start
+            Instant instant = (s < size && starts[s].compareTo(ends[e]) < 0 ? starts[s] : ends[e]);
+            int delta = 0;
+            while (s < size && starts[s].equals(instant)) {
+                delta++;
+                s++;
+            }
+            while (e < size && ends[e].equals(instant)) {
+                delta--;
+                e++;
+            }
+            if (delta == 0) {
+                continue;
+            }
+            long secs = instant.getEpochSecond();
+            int nano = instant.getNano();
+            if (changes > 0) {
+                if (active >= levelSecs.length) {
+                    levelSecs = Arrays.copyOf(levelSecs, Math.max(levelSecs.length * 2, active + 1));
+                    levelNans = Arrays.copyOf(levelNans, levelSecs.length);
+                }
+                levelSecs[active] += secs - changeSeconds[changes - 1];
+                levelNans[active] += nano - changeNanos[changes - 1];
+            }
+            active += delta;
+            max = Math.max(max, active);
+            changeSeconds[changes] = secs;
+            changeNanos[changes] = nano;
+            changeCounts[changes] = active;
+            changes++;
+        }
+        this.seconds = Arrays.copyOf(changeSeconds, changes);
+        this.nanos = Arrays.copyOf(changeNanos, changes);
+        this.counts = Arrays.copyOf(changeCounts, changes);
+        this.peak = max;
+        this.levelSeconds = Arrays.copyOf(levelSecs, max + 1);
+        this.levelNanos = Arrays.copyOf(levelNans, max + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the peak concurrency.
+     * <p>
+     * This is the maximum number of intervals that contain any single instant.
+     * Zero is returned if there are no non-empty intervals.
+     *
+     * @return the peak concurrency, zero or greater
+     */
+    public int getPeakConcurrency() {
+        return peak;
+    }
+
+    /**
+     * Gets the concurrency at the specified instant.
+     * <p>
+     * This is the number of intervals that contain the instant.
+     * The result is found by binary search.
+     *
+     * @param instant  the instant to query, not null
+     * @return the concurrency at the instant, zero or greater
+     */
+    public int getConcurrencyAt(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        int index = floorIndex(instant.getEpochSecond(), instant.getNano());
+        return (index < 0 ? 0 : counts[index]);
+    }
+
+    /**
+     * Gets the total duration covered by at least one interval.
+     * <p>
+     * This is the length of the union of the intervals.
+     *
+     * @return the covered duration, not null
+     */
+    public Duration getCoveredDuration() {
+        long secs = 0;
+        long nans = 0;
+        for (int level = 1; level <= peak; level++) {
+            secs = Math.addExact(secs, levelSeconds[level]);
+            nans += levelNanos[level];
+        }
+        return Duration.ofSeconds(secs, nans);
+    }
+
+    /**
+     * Gets the total duration during which exactly the specified number of intervals are active.
+     * <p>
+     * For level zero, this is the total length of the gaps between the first start and last end.
+     * Any level above the {@linkplain #getPeakConcurrency() peak} returns zero.
+     *
+     * @param level  the level of concurrency, zero or greater
+     * @return the duration spent at the level, not null
+     * @throws IllegalArgumentException if the level is negative
+     */
+    public Duration getDurationAtLevel(int level) {
+        if (level < 0) {
+            throw new IllegalArgumentException("Level must not be negative");
+        }
+        if (level > peak) {
+            return Duration.ZERO;
+        }
+        return Duration.ofSeconds(levelSeconds[level], levelNanos[level]);
+    }
+
+    /**
+     * Gets the intervals during which the concurrency exceeds the specified threshold.
+     * <p>
+     * The result consists of the maximal, non-overlapping, non-abutting intervals where
+     * more than {@code threshold} of the input intervals are active, in ascending order.
+     * For example, a threshold of zero returns the union of the input intervals.
+     *
+     * @param threshold  the threshold that the concurrency must exceed, zero or greater
+     * @return the intervals above the threshold, not null
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public List<Interval> getIntervalsAbove(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        if (threshold >= peak) {
+            return Collections.emptyList();
+        }
+        List<Interval> result = new ArrayList<>();
+        int startIndex = -1;
+        for (int i = 0; i < counts.length; i++) {
+            boolean above = counts[i] > threshold;
+            if (above && startIndex < 0) {
+                startIndex = i;
+            } else if (above == false && startIndex >= 0) {
+                result.add(Interval.of(instant(startIndex), instant(i)));
+                startIndex = -1;
+            }
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    private Instant instant(int index) {
+        return Instant.ofEpochSecond(seconds[index], nanos[index]);
+    }
+
+    // finds the last change at or before the instant, -1 if none
+    private int floorIndex(long secs, int nano) {
+        int lo = 0;
+        int hi = seconds.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = Long.compare(seconds[mid], secs);
+            if (cmp == 0) {
+                cmp = Integer.compare(nanos[mid], nano);
+            }
+            if (cmp <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this occupancy as a {@code String}.
+     *
+     * @return a string representation of this occupancy, not null
+     */
+    @Override
+    public String toString() {
+        return "IntervalOccupancy[changes=" + counts.length + ", peak=" + peak + ", covered=" + getCoveredDuration() + "]";
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A mutable set of intervals that expire as time advances.
+ * <p>
+ * This class tracks a changing set of {@link Interval}s, such as the windows that
+ * are currently open in a stream of live events.
+ * Intervals may be added and removed at any time.
+ * The tracker has a current time that only ever moves forward.
+ * When the time advances, every interval that ends at or before the new time is evicted.
+ * Only {@link #advanceTo(Instant)} moves the time, queries never change the tracker.
+ * <p>
+ * Two concurrent skip lists are maintained, one ordered by end and one ordered by start.
+ * The list ordered by end acts as a priority queue, allowing expired intervals to be found
+ * without examining the rest. The list ordered by start answers queries: once the expired
+ * intervals have been evicted, the intervals containing an instant are exactly those that
+ * start at or before it, which are found at the head of the list.
+ * Querying at the current time is thus a logarithmic operation.
+ * <p>
+ * The tracker has set semantics, with intervals compared using {@link Interval#equals(Object)}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is mutable and thread-safe.
+ * All operations are non-blocking, thus queries are not delayed by concurrent changes.
+ * As with other concurrent collections, a query that runs concurrently with a change
+ * may or may not observe the change.
+ */
+public final class IntervalTracker {
+
+    /**
+     * Orders intervals by start, then by end.
+     */
+    private static final Comparator<Interval> START_ORDER =
+            Comparator.comparing(Interval::getStart).thenComparing(Interval::getEnd);
+    /**
+     * Orders intervals by end, then by start.
+     */
+    private static final Comparator<Interval> END_ORDER =
+            Comparator.comparing(Interval::getEnd).thenComparing(Interval::getStart);
+
+    /**
+     * The intervals ordered by start.
+     */
+    private final ConcurrentSkipListSet<Interval> byStart = new ConcurrentSkipListSet<>(START_ORDER);
+    /**
+     * The intervals ordered by end.
+     */
+    private final ConcurrentSkipListSet<Interval> byEnd = new ConcurrentSkipListSet<>(END_ORDER);
+    /**
+     * The current time.
+     */
+    private final AtomicReference<Instant> time = new AtomicReference<>(Instant.MIN);
+
+    /**
+     * Creates an empty tracker.
+     * <p>
+     * The current time is initially {@link Instant#MIN}.
+     */
+    public IntervalTracker() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current time of the tracker.
+     * <p>
+     * All intervals ending at or before this instant have been evicted.
+     *
+     * @return the current time, not null
+     */
+    public Instant getTime() {
+        return time.get();
+    }
+
+    /**
+     * Advances the current time, evicting expired intervals.
+     * <p>
+     * Every interval that ends at or before the specified instant is removed.
+     * If the instant is before the current time, the current time is unchanged,
+     * however any expired intervals are still evicted.
+     *
+     * @param now  the new current time, not null
+     */
+    public void advanceTo(Instant now) {
+        Objects.requireNonNull(now, "now");
+        Instant current = time.get();
+        while (now.isAfter(current) && time.compareAndSet(current, now) == false) {
+            current = time.get();
+        }
+        evict(time.get());
+    }
+
+    private void evict(Instant now) {
+        Iterator<Interval> it = byEnd.iterator();
+        while (it.hasNext()) {
+            Interval interval = it.next();
+            if (interval.getEnd().isAfter(now)) {
+                return;
+            }
+            if (byEnd.remove(interval)) {
+                byStart.remove(interval);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds an interval to the tracker.
+     * <p>
+     * An interval that ends at or before the current time has already expired, and is not added.
+     *
+     * @param interval  the interval to add, not null
+     * @return true if the interval was added, false if it was already present or has expired
+     */
+    public boolean add(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        if (interval.getEnd().isAfter(time.get()) == false) {
+            return false;
+        }
+        // add to the start order first, so that eviction never leaves an interval behind
+        if (byStart.add(interval) == false) {
+            return false;
+        }
+        byEnd.add(interval);
+        if (interval.getEnd().isAfter(time.get()) == false) {
+            // time advanced concurrently
+            if (byEnd.remove(interval)) {
+                byStart.remove(interval);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes an interval from the tracker.
+     *
+     * @param interval  the interval to remove, not null
+     * @return true if the interval was removed, false if it was not present
+     */
+    public boolean remove(Interval interval) {
+        Objects.requireNonNull(interval, "interval");
+        if (byEnd.remove(interval)) {
+            byStart.remove(interval);
+            return true;
+        }
+        return false;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if any tracked interval contains the specified instant.
+     * <p>
+     * The query examines the intervals in order of start, stopping at the first that
+     * contains the instant. At the current time, this is normally the first interval examined.
+     * The query does not change the tracker, thus no intervals are evicted.
+     * <p>
+     * Intervals that have already been evicted are not considered, thus querying an
+     * instant before the current time may not find an interval that used to contain it.
+     *
+     * @param instant  the instant to query, not null
+     * @return true if a tracked interval contains the instant
+     */
+    public boolean contains(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        for (Interval interval : byStart) {
+            if (interval.getStart().isAfter(instant)) {
+                return false;
+            }
+            if (interval.getEnd().isAfter(instant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the tracked intervals that contain the specified instant.
+     * <p>
+     * The intervals are returned in order of start.
+     * The query does not change the tracker, thus no intervals are evicted.
+     * <p>
+     * Intervals that have already been evicted are not considered, thus querying an
+     * instant before the current time may not find an interval that used to contain it.
+     *
+     * @param instant  the instant to query, not null
+     * @return the list of intervals containing the instant, not null
+     */
+    public List<Interval> getActive(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        List<Interval> result = new ArrayList<>();
+        for (Interval interval : byStart) {
+            if (interval.getStart().isAfter(instant)) {
+                break;
+            }
+            if (interval.getEnd().isAfter(instant)) {
+                result.add(interval);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the tracker is empty.
+     *
+     * @return true if no intervals are tracked
+     */
+    public boolean isEmpty() {
+        return byEnd.isEmpty();
+    }
+
+    /**
+     * Gets the number of tracked intervals.
+     * <p>
+     * This is not a constant-time operation, as it must traverse the tracked intervals.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return byEnd.size();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this tracker as a {@code String}.
+     *
+     * @return a string representation of this tracker, not null
+     */
+    @Override
+    public String toString() {
+        return "IntervalTracker[time=" + time.get() + ", intervals=" + byEnd + "]";
+    }
+
+}
@@ -0,0 +1,695 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilities for working with collections of {@link Interval}.
+ * <p>
+ * This includes:
+ * <ul>
+ * <li>joining two collections of intervals on overlap
+ * <li>finding the intersections between two collections of intervals
+ * <li>splitting an interval into the calendar periods it touches
+ * </ul>
+ * <p>
+ * The joins use a sweep-line over the intervals sorted by start instant.
+ * As such, the cost is proportional to the time taken to sort the inputs
+ * plus the number of overlapping pairs found, rather than the product
+ * of the sizes of the two inputs.
+ * Overlap is defined exactly as per {@link Interval#overlaps(Interval)}.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This is a thread-safe utility class.
+ * All returned classes are immutable and thread-safe.
+ */
+public final class Intervals {
+
+    /**
+     * Orders intervals by start, then by end.
+     */
+    private static final Comparator<Interval> START_ORDER =
+            Comparator.comparing(Interval::getStart).thenComparing(Interval::getEnd);
+    /**
+     * The total input size below which the parallel join runs sequentially.
+     */
+    private static final int PARALLEL_THRESHOLD = 8192;
+    /**
+     * The number of time-range partitions to create for each thread in the parallel join.
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+    /**
+     * The minimum size at which the active list of one side is pruned.
+     */
+    private static final int MIN_PRUNE_SIZE = 16;
+
+    /**
+     * Restricted constructor.
+     */
+    private Intervals() {
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Joins two collections of intervals, passing each overlapping pair to the action.
+     * <p>
+     * Each pair of intervals, one from each collection, that {@linkplain Interval#overlaps(Interval) overlap}
+     * is passed to the action exactly once, with the interval from the left collection first.
+     * Pairs are passed in order of the later of the two start instants.
+     * <p>
+     * The inputs are copied and sorted by start instant, and do not need to be sorted.
+     * Duplicate intervals are treated as distinct elements.
+     *
+     * @param left  the left collection of intervals, not null and no null elements
+     * @param right  the right collection of intervals, not null and no null elements
+     * @param action  the action to pass each overlapping pair to, not null
+     */
+    public static void overlapJoin(
+            Collection<Interval> left,
+            Collection<Interval> right,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        Objects.requireNonNull(action, "action");
+        Interval[] sortedLeft = sort(left, "left", false);
+        Interval[] sortedRight = sort(right, "right", false);
+        sweep(Arrays.asList(sortedLeft).iterator(), Arrays.asList(sortedRight).iterator(),
+                new ArrayList<>(), new ArrayList<>(), action);
+    }
+
+    /**
+     * Joins two streams of intervals that are already sorted by start, passing each overlapping pair to the action.
+     * <p>
+     * This performs the same join as {@link #overlapJoin(Collection, Collection, BiConsumer)}
+     * without copying or sorting the inputs.
+     * Each iterator must return intervals in ascending order of start instant.
+     * The iterators are consumed lazily, and only those intervals that may still
+     * overlap a later interval are retained, allowing inputs larger than memory to be joined.
+     *
+     * @param left  the left intervals, sorted by start, not null and no null elements
+     * @param right  the right intervals, sorted by start, not null and no null elements
+     * @param action  the action to pass each overlapping pair to, not null
+     * @throws IllegalArgumentException if either input is not sorted by start
+     */
+    public static void overlapJoinSorted(
+            Iterator<Interval> left,
+            Iterator<Interval> right,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        Objects.requireNonNull(action, "action");
+        sweep(left, right, new ArrayList<>(), new ArrayList<>(), action);
+    }
+
+    /**
+     * Joins two collections of intervals in parallel, passing each overlapping pair to the action.
+     * <p>
+     * This performs the same join as {@link #overlapJoin(Collection, Collection, BiConsumer)},
+     * but partitions the time-line into ranges that are joined in parallel using the
+     * {@linkplain ForkJoinPool#commonPool() common fork-join pool}.
+     * Each overlapping pair is processed by the partition containing the later of the two
+     * start instants, thus each pair is still passed to the action exactly once.
+     * <p>
+     * The action will be invoked concurrently from multiple threads, and must be thread-safe.
+     * No guarantee is made as to the order in which pairs are passed to the action.
+     *
+     * @param left  the left collection of intervals, not null and no null elements
+     * @param right  the right collection of intervals, not null and no null elements
+     * @param action  the thread-safe action to pass each overlapping pair to, not null
+     */
+    public static void overlapJoinParallel(
+            Collection<Interval> left,
+            Collection<Interval> right,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        Objects.requireNonNull(action, "action");
+        Interval[] sortedLeft = sort(left, "left", true);
+        Interval[] sortedRight = sort(right, "right", true);
+        int partitions = ForkJoinPool.getCommonPoolParallelism() * PARTITIONS_PER_THREAD;
+        if (sortedLeft.length + sortedRight.length < PARALLEL_THRESHOLD) {
+            sweep(Arrays.asList(sortedLeft).iterator(), Arrays.asList(sortedRight).iterator(),
+                    new ArrayList<>(), new ArrayList<>(), action);
+            return;
+        }
+        // partition boundaries are taken from the starts of the larger side
+        Interval[] larger = (sortedLeft.length >= sortedRight.length ? sortedLeft : sortedRight);
+        Instant[] bounds = new Instant[partitions + 1];
+        for (int i = 1; i < partitions; i++) {
+            bounds[i] = larger[(int) ((long) larger.length * i / partitions)].getStart();
+        }
+        List<List<Interval>> leftCarried = new CarryOverSweep().carryOvers(sortedLeft, bounds);
+        List<List<Interval>> rightCarried = new CarryOverSweep().carryOvers(sortedRight, bounds);
+        IntStream.range(0, partitions).parallel().forEach(
+                i -> joinPartition(sortedLeft, leftCarried.get(i), sortedRight, rightCarried.get(i), bounds[i], bounds[i + 1], action));
+    }
+
+    /**
+     * Finds the intersection of every overlapping pair of intervals from two collections.
+     * <p>
+     * This performs the join described in {@link #overlapJoin(Collection, Collection, BiConsumer)},
+     * returning the {@linkplain Interval#intersection(Interval) intersection} of each pair.
+     *
+     * @param left  the left collection of intervals, not null and no null elements
+     * @param right  the right collection of intervals, not null and no null elements
+     * @return the list of intersections, in order of start, not null
+     */
+    public static List<Interval> intersections(Collection<Interval> left, Collection<Interval> right) {
+        List<Interval> result = new ArrayList<>();
+        overlapJoin(left, right, (a, b) -> result.add(a.intersection(b)));
+        return result;
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Copies and sorts the intervals by start.
+     *
+     * @param intervals  the intervals to sort, not null
+     * @param name  the parameter name
+     * @param parallel  whether to sort in parallel
+     * @return the sorted array, not null
+     */
+    private static Interval[] sort(Collection<Interval> intervals, String name, boolean parallel) {
+        Objects.requireNonNull(intervals, name);
+        Interval[] array = intervals.toArray(new Interval[intervals.size()]);
+        if (parallel) {
+            Arrays.parallelSort(array, START_ORDER);
+        } else {
+            Arrays.sort(array, START_ORDER);
+        }
+        return array;
+    }
+
+    /**
+     * Joins the pairs whose later start instant is within a range.
+     *
+     * @param left  the sorted left intervals, not null
+     * @param leftCarried  the left intervals starting before the range that extend into it, not null
+     * @param right  the sorted right intervals, not null
+     * @param rightCarried  the right intervals starting before the range that extend into it, not null
+     * @param from  the start of the range, inclusive, null for unbounded
+     * @param to  the end of the range, exclusive, null for unbounded
+     * @param action  the action, not null
+     */
+    private static void joinPartition(
+            Interval[] left,
+            List<Interval> leftCarried,
+            Interval[] right,
+            List<Interval> rightCarried,
+            Instant from,
+            Instant to,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        int leftLo = (from == null ? 0 : lowerBound(left, from));
+        int leftHi = (to == null ? left.length : lowerBound(left, to));
+        int rightLo = (from == null ? 0 : lowerBound(right, from));
+        int rightHi = (to == null ? right.length : lowerBound(right, to));
+        if (leftLo == leftHi && rightLo == rightHi) {
+            return;
+        }
+        // intervals starting before the range that extend into it are only ever matched, never matching
+        sweep(Arrays.asList(left).subList(leftLo, leftHi).iterator(),
+                Arrays.asList(right).subList(rightLo, rightHi).iterator(),
+                leftCarried, rightCarried, action);
+    }
+
+    private static int lowerBound(Interval[] sorted, Instant instant) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].getStart().compareTo(instant) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Finds the intervals carried into each partition of the parallel join.
+     * <p>
+     * A single sweep over the sorted intervals visits the partition boundaries in order,
+     * passing the active intervals from one partition to the next.
+     * Each interval is visited once when it starts, and again at each boundary while it
+     * is active, thus the work is proportional to the input size plus the size of the output.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    static final class CarryOverSweep {
+        /**
+         * The number of intervals visited.
+         */
+        private long visited;
+
+        /**
+         * Finds the intervals that start before each partition and extend into it.
+         * <p>
+         * Each returned list is ordered by start and may be modified by the caller.
+         *
+         * @param sorted  the intervals sorted by start, not null
+         * @param bounds  the partition boundaries, where element zero and the last element are null
+         * @return the carried intervals, one list for each partition, not null
+         */
+        List<List<Interval>> carryOvers(Interval[] sorted, Instant[] bounds) {
+            int partitions = bounds.length - 1;
+            List<List<Interval>> result = new ArrayList<>(partitions);
+            result.add(new ArrayList<>());
+            List<Interval> active = new ArrayList<>();
+            int index = 0;
+            for (int i = 1; i < partitions; i++) {
+                Instant from = bounds[i];
+                List<Interval> next = new ArrayList<>();
+                for (Interval interval : active) {
+                    visited++;
+                    if (interval.getEnd().isAfter(from)) {
+                        next.add(interval);
+                    }
+                }
+                for (; index < sorted.length && sorted[index].getStart().isBefore(from); index++) {
+                    visited++;
+                    if (sorted[index].getEnd().isAfter(from)) {
+                        next.add(sorted[index]);
+                    }
+                }
+                active = next;
+                result.add(new ArrayList<>(active));
+            }
+            return result;
+        }
+
+        /**
+         * Gets the number of intervals visited, a measure of the work done.
+         *
+         * @return the number of intervals visited
+         */
+        long getVisited() {
+            return visited;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Performs the sweep-line join.
+     * <p>
+     * The two inputs are merged in order of start.
+     * Each interval is matched against the active intervals of the other side,
+     * then added to the active intervals of its own side.
+     * Active intervals are discarded once they end at or before the current start,
+     * as no later interval can overlap them.
+     *
+     * @param left  the left intervals, sorted by start, not null
+     * @param right  the right intervals, sorted by start, not null
+     * @param leftActive  the initial active left intervals, not null
+     * @param rightActive  the initial active right intervals, not null
+     * @param action  the action, not null
+     */
+    private static void sweep(
+            Iterator<Interval> left,
+            Iterator<Interval> right,
+            List<Interval> leftActive,
+            List<Interval> rightActive,
+            BiConsumer<? super Interval, ? super Interval> action) {
+
+        Interval nextLeft = next(left, null, "left");
+        Interval nextRight = next(right, null, "right");
+        int leftPruneSize = MIN_PRUNE_SIZE;
+        int rightPruneSize = MIN_PRUNE_SIZE;
+        while (nextLeft != null || nextRight != null) {
+            if ((nextLeft == null && leftActive.isEmpty()) || (nextRight == null && rightActive.isEmpty())) {
+                return;  // nothing left to match against
+            }
+            if (nextRight == null || (nextLeft != null && nextLeft.getStart().compareTo(nextRight.getStart()) <= 0)) {
+                Interval current = nextLeft;
+                Instant start = current.getStart();
+                prune(rightActive, start);
+                for (Interval other : rightActive) {
+                    if (current.overlaps(other)) {
+                        action.accept(current, other);
+                    }
+                }
+                leftActive.add(current);
+                if (leftActive.size() >= leftPruneSize) {
+                    prune(leftActive, start);
+                    leftPruneSize = Math.max(MIN_PRUNE_SIZE, leftActive.size() * 2);
+                }
+                nextLeft = next(left, current, "left");
+            } else {
+                Interval current = nextRight;
+                Instant start = current.getStart();
+                prune(leftActive, start);
+                for (Interval other : leftActive) {
+                    if (current.overlaps(other)) {
+                        action.accept(other, current);
+                    }
+                }
+                rightActive.add(current);
+                if (rightActive.size() >= rightPruneSize) {
+                    prune(rightActive, start);
+                    rightPruneSize = Math.max(MIN_PRUNE_SIZE, rightActive.size() * 2);
+                }
+                nextRight = next(right, current, "right");
+            }
+        }
+    }
+
+    private static Interval next(Iterator<Interval> iterator, Interval previous, String name) {
+        if (iterator.hasNext() == false) {
+            return null;
+        }
+        Interval next = Objects.requireNonNull(iterator.next(), name);
+        if (previous != null && next.getStart().compareTo(previous.getStart()) < 0) {
+            throw new IllegalArgumentException("Intervals must be sorted by start: " + previous + " followed by " + next);
+        }
+        return next;
+    }
+
+    // retains those intervals that can overlap an interval starting at the specified instant
+    private static void prune(List<Interval> active, Instant start) {
+        int size = active.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Interval interval = active.get(i);
+            if (interval.getEnd().compareTo(start) > 0 || interval.getStart().equals(start)) {
+                active.set(kept++, interval);
+            }
+        }
+        if (kept < size) {
+            active.subList(kept, size).clear();
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Splits an interval into the days that it touches in the specified time-zone.
+     * <p>
+     * This returns each local date that the interval overlaps, together with the
+     * duration of the overlap, in order.
+     * The durations sum to the duration of the interval.
+     * Days that are only 23 or 25 hours long due to daylight savings are handled.
+     * <p>
+     * The stream is lazy, with each day calculated from the previous one as it is consumed.
+     * The time-zone rules are only consulted again when a transition is crossed.
+     *
+     * @param interval  the interval to split, not null
+     * @param zone  the time-zone that defines the start of each day, not null
+     * @return the stream of date and overlap pairs, not null
+     */
+    public static Stream<Map.Entry<LocalDate, Duration>> splitByDay(Interval interval, ZoneId zone) {
+        return split(interval, zone, DAYS, LocalDateTime::toLocalDate);
+    }
+
+    /**
+     * Splits an interval into the ISO weeks that it touches in the specified time-zone.
+     * <p>
+     * This returns each {@link YearWeek} that the interval overlaps, together with the
+     * duration of the overlap, in order.
+     * Each week starts at the start of Monday in the time-zone.
+     * <p>
+     * The stream is lazy, with each week calculated from the previous one as it is consumed.
+     * The time-zone rules are only consulted again when a transition is crossed.
+     *
+     * @param interval  the interval to split, not null
+     * @param zone  the time-zone that defines the start of each week, not null
+     * @return the stream of year-week and overlap pairs, not null
+     */
+    public static Stream<Map.Entry<YearWeek, Duration>> splitByYearWeek(Interval interval, ZoneId zone) {
+        return split(interval, zone, WEEKS, YearWeek::from);
+    }
+
+    /**
+     * Splits an interval into the quarters that it touches in the specified time-zone.
+     * <p>
+     * This returns each {@link YearQuarter} that the interval overlaps, together with the
+     * duration of the overlap, in order.
+     * Each quarter starts at the start of its first day in the time-zone.
+     * <p>
+     * The stream is lazy, with each quarter calculated from the previous one as it is consumed.
+     * The time-zone rules are only consulted again when a transition is crossed.
+     *
+     * @param interval  the interval to split, not null
+     * @param zone  the time-zone that defines the start of each quarter, not null
+     * @return the stream of year-quarter and overlap pairs, not null
+     */
+    public static Stream<Map.Entry<YearQuarter, Duration>> splitByYearQuarter(Interval interval, ZoneId zone) {
+        return split(interval, zone, QUARTER_YEARS, YearQuarter::from);
+    }
+
+    /**
+     * Splits an interval into the periods of the specified unit that it touches in the specified time-zone.
+     * <p>
+     * This returns the local date-time at the start of each period that the interval overlaps,
+     * together with the duration of the overlap, in order.
+     * The periods are aligned to the calendar as follows:
+     * <ul>
+     * <li>time-based {@code ChronoUnit} values, such as {@code HOURS}, are aligned to the start of the day,
+     *  and must divide a day exactly
+     * <li>{@code DAYS} is aligned to the start of the day
+     * <li>{@code WEEKS} is aligned to the start of Monday
+     * <li>{@code MONTHS} is aligned to the start of the first day of the month
+     * <li>{@link java.time.temporal.IsoFields#QUARTER_YEARS QUARTER_YEARS} is aligned to the start of the first day of the quarter
+     * <li>{@code YEARS} is aligned to the start of the first day of the year
+     * </ul>
+     * A period that starts in a daylight savings gap starts at the end of the gap.
+     * A period that would have zero length due to a gap is omitted.
+     * <p>
+     * The stream is lazy, with each period calculated from the previous one as it is consumed.
+     * The time-zone rules are only consulted again when a transition is crossed.
+     *
+     * Other units, including those that are not a {@code ChronoUnit}, have no natural alignment
+     * and throw an exception. Use {@link #splitBy(Interval, ZoneId, TemporalUnit, LocalDateTime)}
+     * to split by such a unit from a specified origin.
+     *
+     * @param interval  the interval to split, not null
+     * @param zone  the time-zone that defines the periods, not null
+     * @param unit  the unit defining the length of each period, not null
+     * @return the stream of local start and overlap pairs, not null
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public static Stream<Map.Entry<LocalDateTime, Duration>> splitBy(Interval interval, ZoneId zone, TemporalUnit unit) {
+        return split(interval, zone, unit, Function.identity());
+    }
+
+    /**
+     * Splits an interval into the periods of the specified unit, aligned to an origin,
+     * that it touches in the specified time-zone.
+     * <p>
+     * This returns the local date-time at the start of each period that the interval overlaps,
+     * together with the duration of the overlap, in order.
+     * The periods start at the origin plus whole multiples of the unit, calculated using
+     * {@link LocalDateTime#plus(long, TemporalUnit)}, thus any unit that can be added to
+     * a {@code LocalDateTime} is supported, including units that are not a {@code ChronoUnit}.
+     * The origin may be before, within or after the interval.
+     * <p>
+     * A period that starts in a daylight savings gap starts at the end of the gap.
+     * A period that would have zero length due to a gap is omitted.
+     *
+     * @param interval  the interval to split, not null
+     * @param zone  the time-zone that defines the periods, not null
+     * @param unit  the unit defining the length of each period, not null
+     * @param origin  the local start of one of the periods, not null
+     * @return the stream of local start and overlap pairs, not null
+     * @throws DateTimeException if the unit cannot be added to a {@code LocalDateTime}
+     */
+    public static Stream<Map.Entry<LocalDateTime, Duration>> splitBy(
+            Interval interval,
+            ZoneId zone,
+            TemporalUnit unit,
+            LocalDateTime origin) {
+
+        Objects.requireNonNull(interval, "interval");
+        Objects.requireNonNull(zone, "zone");
+        Objects.requireNonNull(unit, "unit");
+        Objects.requireNonNull(origin, "origin");
+        LocalDateTime local = LocalDateTime.ofInstant(interval.getStart(), zone);
+        long index = unit.between(origin, local);
+        while (origin.plus(index, unit).isAfter(local)) {
+            index--;
+        }
+        while (origin.plus(index + 1, unit).isAfter(local) == false) {
+            index++;
+        }
+        return StreamSupport.stream(new Splitter<>(interval, zone, unit, origin, index, Function.identity()), false);
+    }
+
+    private static <K> Stream<Map.Entry<K, Duration>> split(
+            Interval interval,
+            ZoneId zone,
+            TemporalUnit unit,
+            Function<LocalDateTime, K> keyFunction) {
+
+        Objects.requireNonNull(interval, "interval");
+        Objects.requireNonNull(zone, "zone");
+        Objects.requireNonNull(unit, "unit");
+        LocalDateTime local = LocalDateTime.ofInstant(interval.getStart(), zone);
+        LocalDateTime first = truncate(local, unit);
+        return StreamSupport.stream(new Splitter<>(interval, zone, unit, first, 0, keyFunction), false);
+    }
+
+    private static LocalDateTime truncate(LocalDateTime local, TemporalUnit unit) {
+        if (unit == QUARTER_YEARS) {
+            return local.toLocalDate().with(DAY_OF_QUARTER, 1).atStartOfDay();
+        } else if (unit instanceof ChronoUnit) {
+            ChronoUnit chronoUnit = (ChronoUnit) unit;
+            if (chronoUnit.isTimeBased() || chronoUnit == DAYS) {
+                return local.truncatedTo(chronoUnit);
+            } else if (chronoUnit == WEEKS) {
+                return local.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+            } else if (chronoUnit == MONTHS) {
+                return local.toLocalDate().withDayOfMonth(1).atStartOfDay();
+            } else if (chronoUnit == YEARS) {
+                return local.toLocalDate().withDayOfYear(1).atStartOfDay();
+            }
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Lazily splits an interval into calendar periods.
+     * <p>
+     * The boundary of each period is converted to an instant using the offset of the previous boundary.
+     * The time-zone rules are only queried when that conversion passes the next transition.
+     *
+     * @param <K>  the type of the period key
+     */
+    private static final class Splitter<K> extends Spliterators.AbstractSpliterator<Map.Entry<K, Duration>> {
+        private final Instant end;
+        private final ZoneId zone;
+        private final ZoneRules rules;
+        private final TemporalUnit unit;
+        private final Function<LocalDateTime, K> keyFunction;
+        private final LocalDateTime origin;
+        private long index;
+        private LocalDateTime periodStart;
+        private Instant current;
+        private ZoneOffset offset;
+        private long transitionEpochSecond;
+
+        Splitter(
+                Interval interval,
+                ZoneId zone,
+                TemporalUnit unit,
+                LocalDateTime origin,
+                long index,
+                Function<LocalDateTime, K> keyFunction) {
+            super(Long.MAX_VALUE, ORDERED | DISTINCT | NONNULL | IMMUTABLE);
+            this.end = interval.getEnd();
+            this.zone = zone;
+            this.rules = zone.getRules();
+            this.unit = unit;
+            this.keyFunction = keyFunction;
+            this.origin = origin;
+            this.index = index;
+            this.periodStart = origin.plus(index, unit);
+            this.current = interval.getStart();
+            updateOffset(interval.getStart());
+        }
+
+        private void updateOffset(Instant instant) {
+            offset = rules.getOffset(instant);
+            ZoneOffsetTransition transition = rules.nextTransition(instant);
+            transitionEpochSecond = (transition != null ? transition.getInstant().getEpochSecond() : Long.MAX_VALUE);
+        }
+
+        private Instant toInstant(LocalDateTime local) {
+            long epochSecond = local.toEpochSecond(offset);
+            if (epochSecond < transitionEpochSecond) {
+                return Instant.ofEpochSecond(epochSecond, local.getNano());
+            }
+            Instant instant = ZonedDateTime.ofLocal(local, zone, offset).toInstant();
+            updateOffset(instant);
+            return instant;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Map.Entry<K, Duration>> action) {
+            while (current.isBefore(end)) {
+                // each period is calculated from the origin, so month-end clipping does not accumulate
+                LocalDateTime periodEnd = origin.plus(++index, unit);
+                Instant boundary = toInstant(periodEnd);
+                Instant segmentEnd = (boundary.isBefore(end) ? boundary : end);
+                LocalDateTime key = periodStart;
+                Instant segmentStart = current;
+                periodStart = periodEnd;
+                if (segmentEnd.isAfter(segmentStart)) {
+                    current = segmentEnd;
+                    action.accept(new AbstractMap.SimpleImmutableEntry<>(
+                            keyFunction.apply(key), Duration.between(segmentStart, segmentEnd)));
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+/**
+ * Civil calendar arithmetic on primitive ISO-8601 dates.
+ * <p>
+ * This converts between epoch-days and year-month-day without creating a {@code LocalDate}.
+ * It is used where dates are held in primitive form, such as the packed fields.
+ * The algorithms are the standard "days from civil" and "civil from days"
+ * conversions, which work in 400 year eras starting on March 1st.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This is a thread-safe utility class.
+ */
+final class IsoDays {
+
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from 0000-03-01 to 1970-01-01.
+     */
+    private static final long DAYS_0000_TO_1970 = 719468;
+    /**
+     * The number of weeks in a 400 year cycle of week-based-years.
+     */
+    private static final int WEEKS_PER_CYCLE = DAYS_PER_CYCLE / 7;
+    /**
+     * The epoch-day of the Monday of week one of week-based-year zero.
+     */
+    private static final long WEEK_ONE_MONDAY_0000 = -719526;
+    /**
+     * Bitset of the years in a 400 year cycle that have 53 weeks.
+     */
+    private static final long[] LONG_YEARS = new long[7];
+    /**
+     * The number of weeks from the start of a 400 year cycle to the start of each year.
+     */
+    private static final int[] WEEKS_BEFORE_YEAR = new int[401];
+    static {
+        for (int year = 0; year < 400; year++) {
+            // 53 weeks if the year starts on a Thursday, or on a Wednesday in a leap year
+            long dayOfWeek = Math.floorMod(epochDay(year, 1, 1) + 3, 7L);
+            boolean longYear = dayOfWeek == 3 || (dayOfWeek == 2 && isLeapYear(year));
+            if (longYear) {
+                LONG_YEARS[year >> 6] |= 1L << year;
+            }
+            WEEKS_BEFORE_YEAR[year + 1] = WEEKS_BEFORE_YEAR[year] + (longYear ? 53 : 52);
+        }
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private IsoDays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a year, month and day to an epoch-day.
+     * <p>
+     * The input is not validated, thus the caller must ensure it is a valid date.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @param day  the day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    static long epochDay(long year, int month, int day) {
+        long y = (month <= 2 ? year - 1 : year);
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        int mp = (month + 9) % 12;
+        long doy = (153 * mp + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * DAYS_PER_CYCLE + doe - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts an epoch-day to a packed year, month and day.
+     * <p>
+     * The result is packed as {@code (year << 9) | (month << 5) | day},
+     * and can be unpacked using {@link #year(long)}, {@link #month(long)} and {@link #day(long)}.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed year, month and day
+     */
+    static long civil(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_CYCLE);
+        long doe = z - era * DAYS_PER_CYCLE;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (int) ((5 * doy + 2) / 153);
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (mp < 10 ? mp + 3 : mp - 9);
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Extracts the year from a value packed by {@link #civil(long)}.
+     *
+     * @param civil  the packed year, month and day
+     * @return the proleptic year
+     */
+    static long year(long civil) {
+        return civil >> 9;
+    }
+
+    /**
+     * Extracts the month from a value packed by {@link #civil(long)}.
+     *
+     * @param civil  the packed year, month and day
+     * @return the month-of-year, from 1 to 12
+     */
+    static int month(long civil) {
+        return (int) ((civil >> 5) & 15);
+    }
+
+    /**
+     * Extracts the day from a value packed by {@link #civil(long)}.
+     *
+     * @param civil  the packed year, month and day
+     * @return the day-of-month, from 1 to 31
+     */
+    static int day(long civil) {
+        return (int) (civil & 31);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the number of whole months between two epoch-days.
+     * <p>
+     * This matches {@code LocalDate.until(end, MONTHS)}, where the last month
+     * is only complete once the day-of-month of the start has been reached.
+     *
+     * @param startEpochDay  the start epoch-day, inclusive
+     * @param endEpochDay  the end epoch-day, exclusive
+     * @return the number of whole months, negative if the end is before the start
+     */
+    static long monthsBetween(long startEpochDay, long endEpochDay) {
+        long start = civil(startEpochDay);
+        long end = civil(endEpochDay);
+        long packed1 = (year(start) * 12 + month(start) - 1) * 32 + day(start);
+        long packed2 = (year(end) * 12 + month(end) - 1) * 32 + day(end);
+        return (packed2 - packed1) / 32;
+    }
+
+    /**
+     * Converts an epoch-day to a packed year and quarter.
+     * <p>
+     * The result is packed as {@code year * 10 + quarter}, which preserves ordering.
+     * It can be unpacked using {@code Math.floorDiv(packed, 10)} and {@code Math.floorMod(packed, 10)}.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed year and quarter
+     */
+    static long yearQuarter(long epochDay) {
+        long civil = civil(epochDay);
+        return year(civil) * 10 + (month(civil) + 2) / 3;
+    }
+
+    /**
+     * Converts an epoch-day to a packed week-based-year and week.
+     * <p>
+     * The result is packed as {@code weekBasedYear * 100 + week}, which preserves ordering.
+     * It can be unpacked using {@code Math.floorDiv(packed, 100)} and {@code Math.floorMod(packed, 100)}.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed week-based-year and week
+     */
+    static long yearWeek(long epochDay) {
+        long weeks = Math.floorDiv(epochDay - WEEK_ONE_MONDAY_0000, 7);
+        long cycles = Math.floorDiv(weeks, WEEKS_PER_CYCLE);
+        int weekOfCycle = (int) (weeks - cycles * WEEKS_PER_CYCLE);
+        // estimate using the average year length, then correct
+        int yearOfCycle = (int) (weekOfCycle * 400L / WEEKS_PER_CYCLE);
+        while (WEEKS_BEFORE_YEAR[yearOfCycle + 1] <= weekOfCycle) {
+            yearOfCycle++;
+        }
+        while (WEEKS_BEFORE_YEAR[yearOfCycle] > weekOfCycle) {
+            yearOfCycle--;
+        }
+        return (cycles * 400 + yearOfCycle) * 100 + weekOfCycle - WEEKS_BEFORE_YEAR[yearOfCycle] + 1;
+    }
+
+    /**
+     * Gets the epoch-day of the Monday of week one of a week-based-year.
+     * <p>
+     * Week one is the week containing the 4th January.
+     *
+     * @param weekBasedYear  the week-based-year
+     * @return the epoch-day of the Monday
+     */
+    static long weekOneMonday(long weekBasedYear) {
+        long cycles = Math.floorDiv(weekBasedYear, 400);
+        int yearOfCycle = (int) (weekBasedYear - cycles * 400);
+        return WEEK_ONE_MONDAY_0000 + (cycles * WEEKS_PER_CYCLE + WEEKS_BEFORE_YEAR[yearOfCycle]) * 7;
+    }
+
+    /**
+     * Checks if a week-based-year has 53 weeks.
+     *
+     * @param weekBasedYear  the week-based-year
+     * @return true if the year has 53 weeks
+     */
+    static boolean is53WeekYear(long weekBasedYear) {
+        int yearOfCycle = (int) Math.floorMod(weekBasedYear, 400L);
+        return (LONG_YEARS[yearOfCycle >> 6] & (1L << yearOfCycle)) != 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the year is a leap year.
+     *
+     * @param year  the proleptic year
+     * @return true if the year is a leap year
+     */
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Gets the length of the month.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @return the length of the month, from 28 to 31
+     */
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return (isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Checks if the year, month and day form a valid date.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @return true if the date is valid
+     */
+    static boolean isValid(long year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+}
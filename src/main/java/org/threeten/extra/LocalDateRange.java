@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable range of dates in the ISO-8601 calendar system.
+ * <p>
+ * A range represents the dates between two {@link LocalDate}s, such as a billing period.
+ * The class stores the start and end dates, with the start inclusive and the end exclusive.
+ * The end date is always greater than or equal to the start date.
+ * <p>
+ * This is the date-based companion to {@link Interval}, providing the same queries.
+ * The dates are stored as epoch-days, thus all queries use simple integer arithmetic,
+ * without reference to any time-zone or conversion to an instant.
+ * <p>
+ * Ranges are not comparable. To compare the length of two ranges, it is
+ * generally recommended to compare their length in days.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ * <p>
+ * This class must be treated as a value type. Do not synchronize, rely on the
+ * identity hash code or use the distinction between equals() and ==.
+ */
+public final class LocalDateRange
+        implements Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 3358656715467L;
+
+    /**
+     * The start epoch-day (inclusive).
+     */
+    private final long start;
+    /**
+     * The end epoch-day (exclusive).
+     */
+    private final long end;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code LocalDateRange} from the start and end date.
+     * <p>
+     * The end date must not be before the start date.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    public static LocalDateRange of(LocalDate startInclusive, LocalDate endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return create(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDateRange} from the start and a period.
+     * <p>
+     * The end date is calculated as the start plus the period.
+     * The period must not be negative.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param period  the period from the start to the end, not null
+     * @return the range, not null
+     * @throws DateTimeException if the end is before the start,
+     *  or if the period addition cannot be made
+     * @throws ArithmeticException if numeric overflow occurs when adding the period
+     */
+    public static LocalDateRange of(LocalDate startInclusive, Period period) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(period, "period");
+        if (period.isNegative()) {
+            throw new DateTimeException("Period must not be zero or negative");
+        }
+        return of(startInclusive, startInclusive.plus(period));
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDateRange} from the start and end epoch-day.
+     * <p>
+     * The epoch-day is the count of days where day 0 is 1970-01-01 (ISO),
+     * as per {@link LocalDate#toEpochDay()}.
+     * The end must not be before the start.
+     *
+     * @param startInclusive  the start epoch-day, inclusive
+     * @param endExclusive  the end epoch-day, exclusive
+     * @return the range, not null
+     * @throws DateTimeException if either epoch-day is invalid, or the end is before the start
+     */
+    public static LocalDateRange ofEpochDays(long startInclusive, long endExclusive) {
+        EPOCH_DAY.checkValidValue(startInclusive);
+        EPOCH_DAY.checkValidValue(endExclusive);
+        return create(startInclusive, endExclusive);
+    }
+
+    private static LocalDateRange create(long startInclusive, long endExclusive) {
+        if (endExclusive < startInclusive) {
+            throw new DateTimeException("Start date must be before end date");
+        }
+        return new LocalDateRange(startInclusive, endExclusive);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code LocalDateRange} from a text string such as
+     * {@code 2007-12-03/2007-12-04}.
+     * <p>
+     * The string must consist of one of the following three formats:
+     * <ul>
+     * <li>a representation of a {@link LocalDate}, followed by a forward slash, followed by a representation of a {@link LocalDate}
+     * <li>a representation of a {@link LocalDate}, followed by a forward slash, followed by a representation of a {@link Period}
+     * <li>a representation of a {@link Period}, followed by a forward slash, followed by a representation of a {@link LocalDate}
+     * </ul>
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed range, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static LocalDateRange parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '/') {
+                char firstChar = text.charAt(0);
+                if (firstChar == 'P' || firstChar == 'p') {
+                    // period followed by date
+                    Period period = Period.parse(text.subSequence(0, i));
+                    LocalDate end = LocalDate.parse(text.subSequence(i + 1, text.length()));
+                    return LocalDateRange.of(end.minus(period), end);
+                } else {
+                    // date followed by date or period
+                    LocalDate start = LocalDate.parse(text.subSequence(0, i));
+                    if (i + 1 < text.length()) {
+                        char c = text.charAt(i + 1);
+                        if (c == 'P' || c == 'p') {
+                            Period period = Period.parse(text.subSequence(i + 1, text.length()));
+                            return LocalDateRange.of(start, start.plus(period));
+                        }
+                    }
+                    LocalDate end = LocalDate.parse(text.subSequence(i + 1, text.length()));
+                    return LocalDateRange.of(start, end);
+                }
+            }
+        }
+        throw new DateTimeParseException("LocalDateRange cannot be parsed, no forward slash found", text, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param startInclusive  the start epoch-day, inclusive, validated
+     * @param endExclusive  the end epoch-day, exclusive, validated
+     */
+    private LocalDateRange(long startInclusive, long endExclusive) {
+        this.start = startInclusive;
+        this.end = endExclusive;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start of this range, inclusive.
+     *
+     * @return the start of the range
+     */
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(start);
+    }
+
+    /**
+     * Gets the end of this range, exclusive.
+     *
+     * @return the end of the range
+     */
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(end);
+    }
+
+    /**
+     * Gets the start of this range as an epoch-day, inclusive.
+     *
+     * @return the start epoch-day of the range
+     */
+    public long getStartEpochDay() {
+        return start;
+    }
+
+    /**
+     * Gets the end of this range as an epoch-day, exclusive.
+     *
+     * @return the end epoch-day of the range
+     */
+    public long getEndEpochDay() {
+        return end;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a new range with the specified start date.
+     *
+     * @param start  the start date for the new range, not null
+     * @return a range with the end from this range and the specified start
+     * @throws DateTimeException if the resulting range has end before start
+     */
+    public LocalDateRange withStart(LocalDate start) {
+        Objects.requireNonNull(start, "start");
+        return create(start.toEpochDay(), end);
+    }
+
+    /**
+     * Creates a new range with the specified end date.
+     *
+     * @param end  the end date for the new range, not null
+     * @return a range with the start from this range and the specified end
+     * @throws DateTimeException if the resulting range has end before start
+     */
+    public LocalDateRange withEnd(LocalDate end) {
+        Objects.requireNonNull(end, "end");
+        return create(start, end.toEpochDay());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range contains the specified date.
+     * <p>
+     * The result is true if the date is equal or after the start and before the end.
+     * An empty range does not contain anything.
+     *
+     * @param date  the date, not null
+     * @return true if this range contains the date
+     */
+    public boolean contains(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        long epochDay = date.toEpochDay();
+        return epochDay >= start && epochDay < end;
+    }
+
+    /**
+     * Checks if this range encloses the specified range.
+     * <p>
+     * This checks if the specified range is fully enclosed by this range.
+     * The result is true if the start of the specified range is contained in this range,
+     * and the end is contained or equal to the end of this range.
+     * An empty range contains an equal empty range, but no other ranges.
+     *
+     * @param range  the range, not null
+     * @return true if this range contains the other range
+     */
+    public boolean encloses(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        return start <= range.start && range.end <= end;
+    }
+
+    /**
+     * Checks if this range overlaps the specified range.
+     * <p>
+     * The result is true if the the two ranges share some part of the time-line.
+     * An empty range overlaps an equal empty range.
+     *
+     * @param range  the range to compare to, not null
+     * @return true if the ranges overlap
+     */
+    public boolean overlaps(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        return (start == range.start && end == range.end) ||
+                (start < range.end && range.start < end);
+    }
+
+    /**
+     * Checks if this range abuts the specified range.
+     * <p>
+     * The result is true if the the end of one range is the start of the other.
+     * An empty range does not abut an equal empty range.
+     *
+     * @param range  the range, not null
+     * @return true if this range abuts the other range
+     */
+    public boolean abuts(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        return (end == range.start) ^ (start == range.end);
+    }
+
+    /**
+     * Calculates the range that is the intersection of this range and the specified range.
+     * <p>
+     * This finds the dates shared by the two ranges.
+     * The two ranges must {@linkplain #overlaps(LocalDateRange) overlap}.
+     *
+     * @param range  the range to intersect with, not null
+     * @return the intersection of the two ranges, not null
+     * @throws DateTimeException if the ranges do not overlap
+     */
+    public LocalDateRange intersection(LocalDateRange range) {
+        Objects.requireNonNull(range, "range");
+        if (overlaps(range) == false) {
+            throw new DateTimeException("Ranges do not overlap: " + this + " and " + range);
+        }
+        return new LocalDateRange(Math.max(start, range.start), Math.min(end, range.end));
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Checks if this range is after the specified date.
+     * <p>
+     * The result is true if the this range starts after the specified date.
+     * An empty range behaves as though it is a date for comparison purposes.
+     *
+     * @param date  the other date to compare to, not null
+     * @return true if the start of this range is after the specified date
+     */
+    public boolean isAfter(LocalDate date) {
+        return start > date.toEpochDay();
+    }
+
+    /**
+     * Checks if this range is before the specified date.
+     * <p>
+     * The result is true if the this range ends before the specified date.
+     * Since ranges do not include their end points, this will return true if the
+     * date equals the end of the range.
+     * An empty range behaves as though it is a date for comparison purposes.
+     *
+     * @param date  the other date to compare to, not null
+     * @return true if the start of this range is before the specified date
+     */
+    public boolean isBefore(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        return end <= epochDay && start < epochDay;
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Checks if this range is after the specified range.
+     * <p>
+     * The result is true if the this range starts after the end of the specified range.
+     * Since ranges do not include their end points, this will return true if the
+     * two ranges abut.
+     * An empty range behaves as though it is a date for comparison purposes.
+     *
+     * @param range  the other range to compare to, not null
+     * @return true if this range is after the specified range
+     */
+    public boolean isAfter(LocalDateRange range) {
+        return start >= range.end && !range.equals(this);
+    }
+
+    /**
+     * Checks if this range is before the specified range.
+     * <p>
+     * The result is true if the this range ends before the start of the specified range.
+     * Since ranges do not include their end points, this will return true if the
+     * two ranges abut.
+     * An empty range behaves as though it is a date for comparison purposes.
+     *
+     * @param range  the other range to compare to, not null
+     * @return true if this range is before the specified range
+     */
+    public boolean isBefore(LocalDateRange range) {
+        return end <= range.start && !range.equals(this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains the length of this range in days.
+     * <p>
+     * This returns the number of dates in the range, which is zero for an empty range.
+     *
+     * @return the length in days, zero or greater
+     */
+    public long lengthInDays() {
+        return end - start;
+    }
+
+    /**
+     * Obtains the period of this range.
+     * <p>
+     * This returns the period between the start and end, as per
+     * {@link Period#between(LocalDate, LocalDate)}.
+     *
+     * @return the period of the range, not null
+     */
+    public Period toPeriod() {
+        return Period.between(getStart(), getEnd());
+    }
+
+    /**
+     * Streams the dates in this range.
+     * <p>
+     * This returns a sequential stream of every date in the range, in order.
+     * The stream is sized, and each date is only created as it is consumed.
+     *
+     * @return the stream of dates from the start to the end, not null
+     */
+    public Stream<LocalDate> stream() {
+        return LongStream.range(start, end).mapToObj(LocalDate::ofEpochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range is equal to another range.
+     * <p>
+     * Compares this {@code LocalDateRange} with another ensuring that the two dates are the same.
+     * Only objects of type {@code LocalDateRange} are compared, other types return false.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other range
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateRange) {
+            LocalDateRange other = (LocalDateRange) obj;
+            return start == other.start && end == other.end;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this range.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(start) + Long.hashCode(end);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this range as a {@code String}, such as {@code 2007-12-03/2007-12-04}.
+     * <p>
+     * The output will be the ISO-8601 format formed by combining the
+     * {@code toString()} methods of the two dates, separated by a forward slash.
+     *
+     * @return a string representation of this range, not null
+     */
+    @Override
+    public String toString() {
+        return getStart().toString() + '/' + getEnd().toString();
+    }
+
+}
@@ -43,10 +43,12 @@ import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * A minute-based amount of time, such as '8 minutes'.
@@ -74,19 +76,25 @@ public final class Minutes
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = 2602801843170589407L;
-
     /**
-     * The number of minutes per hour.
+     * The magnitude of the largest cached amount.
      */
-    private static final int MINUTES_PER_HOUR = 60;
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * The cache of small amounts, from -1024 to 1024, sharing the constants.
+     */
+    private static final Minutes[] CACHE = new Minutes[CACHE_LIMIT * 2 + 1];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Minutes(i - CACHE_LIMIT);
+        }
+        CACHE[CACHE_LIMIT] = ZERO;
+    }
 
     /**
-     * The pattern for parsing.
+     * The number of minutes per hour.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)PT"
-                    + "(?:([-+]?[0-9]+)H)?"
-                    + "(?:([-+]?[0-9]+)M)?", Pattern.CASE_INSENSITIVE);
+    private static final int MINUTES_PER_HOUR = 60;
 
     /**
      * The number of minutes.
@@ -97,13 +105,15 @@ public final class Minutes
      * Obtains a {@code Minutes} representing a number of minutes.
      * <p>
      * The resulting amount will have the specified minutes.
+     * <p>
+     * Small amounts are cached, thus this method does not allocate for them.
      *
      * @param minutes  the number of minutes, positive or negative
      * @return the number of minutes, not null
      */
     public static Minutes of(int minutes) {
-        if (minutes == 0) {
-            return ZERO;
+        if (minutes >= -CACHE_LIMIT && minutes <= CACHE_LIMIT) {
+            return CACHE[minutes + CACHE_LIMIT];
         }
         return new Minutes(minutes);
     }
@@ -123,7 +133,7 @@ public final class Minutes
         if (hours == 0) {
             return ZERO;
         }
-        return new Minutes(Math.multiplyExact(hours, MINUTES_PER_HOUR));
+        return of(Math.multiplyExact(hours, MINUTES_PER_HOUR));
     }
 
     //-----------------------------------------------------------------------
@@ -201,32 +211,45 @@ public final class Minutes
      */
     public static Minutes parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String hoursStr = matcher.group(2);
-            String minutesStr = matcher.group(3);
-            if (hoursStr != null || minutesStr != null) {
-                int minutes = 0;
-                if (minutesStr != null) {
-                    try {
-                        minutes = Integer.parseInt(minutesStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Minutes, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                if (hoursStr != null) {
-                    try {
-                        int hours = Math.multiplyExact(Integer.parseInt(hoursStr), MINUTES_PER_HOUR);
-                        minutes = Math.addExact(minutes, hours);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Minutes, non-numeric minutes", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(minutes, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Minutes", text, 0);
+        return of(AmountParser.MINUTES.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Minutes} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period,
+     *  with the error index being the index of the problem within the text
+     */
+    public static Minutes parse(CharSequence text, int start, int end) {
+        return of(AmountParser.MINUTES.parse(text, start, end));
+    }
+
+    /**
+     * Obtains a {@code Minutes} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing amounts to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed to a period,
+     *  with the error index being the index of the problem within the array
+     */
+    public static Minutes parse(byte[] ascii, int start, int end) {
+        return of(AmountParser.MINUTES.parse(ascii, start, end));
     }
 
     //-----------------------------------------------------------------------
@@ -244,6 +267,58 @@ public final class Minutes
         return of(Math.toIntExact(MINUTES.between(startDateInclusive, endDateExclusive)));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a collector that sums a stream of {@code Minutes}.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static Collector<Minutes, ?, Minutes> summing() {
+        return summing(Function.identity());
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Minutes} and sums the results.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static <T> Collector<T, ?, Minutes> summing(Function<? super T, Minutes> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                () -> new long[1],
+                (total, element) -> total[0] += mapper.apply(element).getAmount(),
+                (total, other) -> {
+                    total[0] += other[0];
+                    return total;
+                },
+                total -> of(Math.toIntExact(total[0])));
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Minutes} and summarizes the results.
+     * <p>
+     * The statistics are the count, sum, minimum, maximum and average of the number of minutes.
+     * The sum is held as a {@code long}, thus it does not overflow.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, not null
+     */
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizing(Function<? super T, Minutes> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collectors.summarizingInt(element -> mapper.apply(element).getAmount());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of minutes.
@@ -31,6 +31,7 @@
  */
 package org.threeten.extra;
 
+import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoUnit.MONTHS;
 
 import java.io.Serializable;
@@ -43,10 +44,12 @@ import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * A month-based amount of time, such as '12 months'.
@@ -79,16 +82,24 @@ public final class Months
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The number of months per year.
+     * The magnitude of the largest cached amount.
      */
-    private static final int MONTHS_PER_YEAR = 12;
+    private static final int CACHE_LIMIT = 1024;
     /**
-     * The pattern for parsing.
+     * The cache of small amounts, from -1024 to 1024, sharing the constants.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P"
-                    + "(?:([-+]?[0-9]+)Y)?"
-                    + "(?:([-+]?[0-9]+)M)?", Pattern.CASE_INSENSITIVE);
+    private static final Months[] CACHE = new Months[CACHE_LIMIT * 2 + 1];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Months(i - CACHE_LIMIT);
+        }
+        CACHE[CACHE_LIMIT] = ZERO;
+        CACHE[CACHE_LIMIT + 1] = ONE;
+    }
+    /**
+     * The number of months per year.
+     */
+    private static final int MONTHS_PER_YEAR = 12;
 
     /**
      * The number of months.
@@ -99,15 +110,15 @@ public final class Months
      * Obtains a {@code Months} representing a number of months.
      * <p>
      * The resulting amount will have the specified months.
+     * <p>
+     * Small amounts are cached, thus this method does not allocate for them.
      *
      * @param months  the number of months, positive or negative
      * @return the number of months, not null
      */
     public static Months of(int months) {
-        if (months == 0) {
-            return ZERO;
-        } else if (months == 1) {
-            return ONE;
+        if (months >= -CACHE_LIMIT && months <= CACHE_LIMIT) {
+            return CACHE[months + CACHE_LIMIT];
         }
         return new Months(months);
     }
@@ -127,7 +138,7 @@ public final class Months
         if (years == 0) {
             return ZERO;
         }
-        return new Months(Math.multiplyExact(years, MONTHS_PER_YEAR));
+        return of(Math.multiplyExact(years, MONTHS_PER_YEAR));
     }
 
     //-----------------------------------------------------------------------
@@ -205,32 +216,45 @@ public final class Months
      */
     public static Months parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String weeksStr = matcher.group(2);
-            String daysStr = matcher.group(3);
-            if (weeksStr != null || daysStr != null) {
-                int months = 0;
-                if (daysStr != null) {
-                    try {
-                        months = Integer.parseInt(daysStr);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric months", text, 0, ex);
-                    }
-                }
-                if (weeksStr != null) {
-                    try {
-                        int years = Math.multiplyExact(Integer.parseInt(weeksStr), MONTHS_PER_YEAR);
-                        months = Math.addExact(months, years);
-                    } catch (NumberFormatException ex) {
-                        throw new DateTimeParseException("Text cannot be parsed to a Months, non-numeric years", text, 0, ex);
-                    }
-                }
-                return of(Math.multiplyExact(months, negate));
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Months", text, 0);
+        return of(AmountParser.MONTHS.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Months} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period,
+     *  with the error index being the index of the problem within the text
+     */
+    public static Months parse(CharSequence text, int start, int end) {
+        return of(AmountParser.MONTHS.parse(text, start, end));
+    }
+
+    /**
+     * Obtains a {@code Months} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing amounts to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed to a period,
+     *  with the error index being the index of the problem within the array
+     */
+    public static Months parse(byte[] ascii, int start, int end) {
+        return of(AmountParser.MONTHS.parse(ascii, start, end));
     }
 
     //-----------------------------------------------------------------------
@@ -248,6 +272,100 @@ public final class Months
         return of(Math.toIntExact(MONTHS.between(startDateInclusive, endDateExclusive)));
     }
 
+    /**
+     * Calculates the number of whole months between two dates expressed as epoch-days.
+     * <p>
+     * This is a primitive equivalent of {@link #between(Temporal, Temporal)} for ISO dates,
+     * returning the same amount without creating any objects.
+     * The start date is included, but the end date is not.
+     * The result of this method can be negative if the end is before the start.
+     *
+     * @param startEpochDay  the start date as an epoch-day, inclusive
+     * @param endEpochDay  the end date as an epoch-day, exclusive
+     * @return the number of months between the dates, positive or negative
+     * @throws DateTimeException if either epoch-day is outside the range of {@code LocalDate}
+     * @throws ArithmeticException if the amount exceeds the capacity of {@code int}
+     */
+    public static int betweenEpochDays(long startEpochDay, long endEpochDay) {
+        EPOCH_DAY.checkValidValue(startEpochDay);
+        EPOCH_DAY.checkValidValue(endEpochDay);
+        return Math.toIntExact(IsoDays.monthsBetween(startEpochDay, endEpochDay));
+    }
+
+    /**
+     * Calculates the number of whole months between pairs of dates expressed as epoch-days.
+     * <p>
+     * Each element of the result is {@link #betweenEpochDays(long, long)} applied to the
+     * elements at the same index of the input arrays.
+     *
+     * @param startEpochDays  the start dates as epoch-days, inclusive, not null
+     * @param endEpochDays  the end dates as epoch-days, exclusive, not null
+     * @param results  the array to store the number of months in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any epoch-day is outside the range of {@code LocalDate}
+     * @throws ArithmeticException if any amount exceeds the capacity of {@code int}
+     */
+    public static void betweenEpochDays(long[] startEpochDays, long[] endEpochDays, int[] results) {
+        if (startEpochDays.length != endEpochDays.length || startEpochDays.length != results.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < results.length; i++) {
+            results[i] = betweenEpochDays(startEpochDays[i], endEpochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a collector that sums a stream of {@code Months}.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static Collector<Months, ?, Months> summing() {
+        return summing(Function.identity());
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Months} and sums the results.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static <T> Collector<T, ?, Months> summing(Function<? super T, Months> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                () -> new long[1],
+                (total, element) -> total[0] += mapper.apply(element).getAmount(),
+                (total, other) -> {
+                    total[0] += other[0];
+                    return total;
+                },
+                total -> of(Math.toIntExact(total[0])));
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Months} and summarizes the results.
+     * <p>
+     * The statistics are the count, sum, minimum, maximum and average of the number of months.
+     * The sum is held as a {@code long}, thus it does not overflow.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, not null
+     */
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizing(Function<? super T, Months> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collectors.summarizingInt(element -> mapper.apply(element).getAmount());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of months.
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * Scanner reading packed date and time digits directly from ASCII bytes.
+ * <p>
+ * This reads the text form of the {@link PackedFields} values, such as {@code 20240131}
+ * for a date and {@code 235959} for a time, from a byte array or buffer,
+ * such as a memory-mapped CSV or fixed-width file.
+ * The start of each value is specified by an array of byte offsets, and the results
+ * are written to a primitive array of the same length, without creating any objects.
+ * <p>
+ * Each value must consist of exactly the expected number of ASCII digits,
+ * and must be valid as per the matching field in {@code PackedFields}.
+ * A malformed value does not throw an exception. Instead, its byte offset is passed to
+ * the callback, the corresponding result element is left unchanged, and scanning continues.
+ * Each method returns the number of malformed values.
+ * <p>
+ * Methods taking a {@code ByteBuffer} use absolute indices, and do not change the
+ * position or limit of the buffer. A value that extends beyond the limit is malformed.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This is a thread-safe utility class.
+ */
+public final class PackedFieldScanner {
+
+    /**
+     * Restricted constructor.
+     */
+    private PackedFieldScanner() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans packed dates in the form {@code yyyyMMdd} to epoch-days.
+     *
+     * @param bytes  the bytes to read, not null
+     * @param offsets  the offset of the first digit of each date, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param malformed  the callback receiving the offset of each malformed date, not null
+     * @return the number of malformed dates
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanDates(byte[] bytes, int[] offsets, long[] epochDays, IntConsumer malformed) {
+        Objects.requireNonNull(bytes, "bytes");
+        return scanDates(ByteBuffer.wrap(bytes), offsets, epochDays, malformed);
+    }
+
+    /**
+     * Scans packed dates in the form {@code yyyyMMdd} to epoch-days.
+     *
+     * @param buffer  the buffer to read, not null
+     * @param offsets  the absolute index of the first digit of each date, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @param malformed  the callback receiving the index of each malformed date, not null
+     * @return the number of malformed dates
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanDates(ByteBuffer buffer, int[] offsets, long[] epochDays, IntConsumer malformed) {
+        validate(buffer, offsets, epochDays.length, malformed);
+        int errors = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            long packed = digits(buffer, offsets[i], 8);
+            if (PackedFields.isValidPackedDate(packed)) {
+                epochDays[i] = PackedFields.packedDateToEpochDay((int) packed);
+            } else {
+                malformed.accept(offsets[i]);
+                errors++;
+            }
+        }
+        return errors;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans packed times in the form {@code HHmmss} to second-of-day values.
+     *
+     * @param bytes  the bytes to read, not null
+     * @param offsets  the offset of the first digit of each time, not null
+     * @param secondsOfDay  the array to store the second-of-day values in, not null
+     * @param malformed  the callback receiving the offset of each malformed time, not null
+     * @return the number of malformed times
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanTimes(byte[] bytes, int[] offsets, int[] secondsOfDay, IntConsumer malformed) {
+        Objects.requireNonNull(bytes, "bytes");
+        return scanTimes(ByteBuffer.wrap(bytes), offsets, secondsOfDay, malformed);
+    }
+
+    /**
+     * Scans packed times in the form {@code HHmmss} to second-of-day values.
+     *
+     * @param buffer  the buffer to read, not null
+     * @param offsets  the absolute index of the first digit of each time, not null
+     * @param secondsOfDay  the array to store the second-of-day values in, not null
+     * @param malformed  the callback receiving the index of each malformed time, not null
+     * @return the number of malformed times
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanTimes(ByteBuffer buffer, int[] offsets, int[] secondsOfDay, IntConsumer malformed) {
+        validate(buffer, offsets, secondsOfDay.length, malformed);
+        int errors = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            long packed = digits(buffer, offsets[i], 6);
+            if (PackedFields.isValidPackedTime(packed)) {
+                secondsOfDay[i] = PackedFields.packedTimeToSecondOfDay((int) packed);
+            } else {
+                malformed.accept(offsets[i]);
+                errors++;
+            }
+        }
+        return errors;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans packed date-times in the form {@code yyyyMMddHHmmss} to epoch-seconds, treating them as UTC.
+     *
+     * @param bytes  the bytes to read, not null
+     * @param offsets  the offset of the first digit of each date-time, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @param malformed  the callback receiving the offset of each malformed date-time, not null
+     * @return the number of malformed date-times
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanDateTimes(byte[] bytes, int[] offsets, long[] epochSeconds, IntConsumer malformed) {
+        Objects.requireNonNull(bytes, "bytes");
+        return scanDateTimes(ByteBuffer.wrap(bytes), offsets, epochSeconds, malformed);
+    }
+
+    /**
+     * Scans packed date-times in the form {@code yyyyMMddHHmmss} to epoch-seconds, treating them as UTC.
+     *
+     * @param buffer  the buffer to read, not null
+     * @param offsets  the absolute index of the first digit of each date-time, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @param malformed  the callback receiving the index of each malformed date-time, not null
+     * @return the number of malformed date-times
+     * @throws IllegalArgumentException if the offsets and results have different lengths
+     */
+    public static int scanDateTimes(ByteBuffer buffer, int[] offsets, long[] epochSeconds, IntConsumer malformed) {
+        validate(buffer, offsets, epochSeconds.length, malformed);
+        int errors = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            long packed = digits(buffer, offsets[i], 14);
+            if (PackedFields.isValidPackedDateTime(packed)) {
+                epochSeconds[i] = PackedFields.packedDateTimeToEpochSecond(packed);
+            } else {
+                malformed.accept(offsets[i]);
+                errors++;
+            }
+        }
+        return errors;
+    }
+
+    //-----------------------------------------------------------------------
+    private static void validate(ByteBuffer buffer, int[] offsets, int resultLength, IntConsumer malformed) {
+        Objects.requireNonNull(buffer, "buffer");
+        Objects.requireNonNull(offsets, "offsets");
+        Objects.requireNonNull(malformed, "malformed");
+        if (offsets.length != resultLength) {
+            throw new IllegalArgumentException("Offsets and results must have the same length");
+        }
+    }
+
+    /**
+     * Reads a fixed number of ASCII digits.
+     *
+     * @param buffer  the buffer to read
+     * @param offset  the absolute index of the first digit
+     * @param count  the number of digits, at most 18
+     * @return the value, or -1 if the digits are missing or not all digits
+     */
+    private static long digits(ByteBuffer buffer, int offset, int count) {
+        if (offset < 0 || offset > buffer.limit() - count) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            int digit = buffer.get(offset + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+}
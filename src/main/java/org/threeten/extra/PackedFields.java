@@ -33,20 +33,29 @@ package org.threeten.extra;
 
 import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MILLI_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_DAY;
 import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
 import static java.time.temporal.ChronoField.SECOND_OF_DAY;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.time.temporal.ChronoField.YEAR;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.FOREVER;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
+import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
+import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalField;
@@ -57,7 +66,12 @@ import java.util.Map;
 /**
  * Temporal fields based on a packed representation.
  * <p>
- * This provides three fields that use a packed integer representation for dates and times.
+ * This provides fields that use a packed integer representation for dates and times.
+ * <p>
+ * Static methods are also provided to convert directly between the packed values
+ * and epoch-day, minute-of-day, second-of-day, epoch-second or epoch-milli, without creating a temporal object.
+ * The packed year-quarter and year-week values convert to and from the epoch-day of the start of the period.
+ * These are intended for columnar data, where values are held in primitive arrays.
  */
 public final class PackedFields {
 
@@ -104,6 +118,73 @@ public final class PackedFields {
      * times will be accepted. For example, 107310 will result in 11:13:10.
      */
     public static final TemporalField PACKED_TIME = PackedTime.INSTANCE;
+    /**
+     * Packed date-time field.
+     * <p>
+     * This returns the date-time as a single long value.
+     * Only date-times from year 1000 to year 9999 are supported.
+     * The output is always a 14 digit long, in the form {@code yyyyMMddHHmmss}.
+     * For example, the date-time 2015-12-03T11:30:52 is packed to the long 20151203113052.
+     * <p>
+     * This field has invalid values within the range of value values.
+     * For example, 20121301113052 is invalid as it implies month 13.
+     * Setting this field does not change the nano-of-second.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * date-times will be accepted. For example, 20151231240000 will result in 2016-01-01T00:00.
+     */
+    public static final TemporalField PACKED_DATE_TIME = PackedDateTime.SECONDS;
+    /**
+     * Packed date-time field with milliseconds.
+     * <p>
+     * This returns the date-time as a single long value.
+     * Only date-times from year 1000 to year 9999 are supported.
+     * The output is always a 17 digit long, in the form {@code yyyyMMddHHmmssSSS}.
+     * For example, the date-time 2015-12-03T11:30:52.125 is packed to the long 20151203113052125.
+     * <p>
+     * This field has invalid values within the range of value values.
+     * For example, 20121301113052125 is invalid as it implies month 13.
+     * Setting this field sets the nano-of-second to the milliseconds, discarding any finer precision.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * date-times will be accepted. For example, 20151231240000000 will result in 2016-01-01T00:00.
+     */
+    public static final TemporalField PACKED_DATE_TIME_MILLIS = PackedDateTime.MILLIS;
+    /**
+     * Packed year-quarter field.
+     * <p>
+     * This returns the year and quarter as a single integer value.
+     * Only years from 1000 to 9999 are supported.
+     * The output is always a 5 digit integer.
+     * For example, the third quarter of 2024 is packed to the integer 20243.
+     * The packed values sort in the same order as the quarters.
+     * <p>
+     * This field is supported by {@link YearQuarter} and any temporal that supports
+     * {@code YEAR} and {@code QUARTER_OF_YEAR}, such as {@code LocalDate}.
+     * Setting this field on a date retains the month-of-quarter and day-of-month where possible.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * quarters will be accepted. For example, 20245 will result in 2025-Q1.
+     */
+    public static final TemporalField PACKED_YEAR_QUARTER = PackedYearQuarter.INSTANCE;
+    /**
+     * Packed week-based-year and week field.
+     * <p>
+     * This returns the ISO week-based-year and week as a single integer value.
+     * Only week-based-years from 1000 to 9999 are supported.
+     * The output is always a 6 digit integer.
+     * For example, week 52 of 2024 is packed to the integer 202452.
+     * The packed values sort in the same order as the weeks.
+     * <p>
+     * This field is supported by {@link YearWeek} and any temporal that supports
+     * {@code WEEK_BASED_YEAR} and {@code WEEK_OF_WEEK_BASED_YEAR}, such as {@code LocalDate}.
+     * Week 53 is only valid in week-based-years that have 53 weeks.
+     * Setting this field on a date retains the day-of-week.
+     * <p>
+     * When parsing in {@linkplain ResolverStyle#LENIENT lenient mode}, invalid
+     * weeks will be accepted. For example, 202454 will result in 2025-W02.
+     */
+    public static final TemporalField PACKED_YEAR_WEEK = PackedYearWeek.INSTANCE;
 
     /**
      * Restricted constructor.
@@ -111,6 +192,483 @@ public final class PackedFields {
     private PackedFields() {
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Converts a packed date to an epoch-day.
+     * <p>
+     * This is equivalent to {@code LocalDate.MIN.with(PACKED_DATE, packedDate).toEpochDay()},
+     * but uses civil calendar arithmetic without creating a date.
+     *
+     * @param packedDate  the packed date, such as 20151203
+     * @return the epoch-day
+     * @throws DateTimeException if the packed date is invalid
+     */
+    public static long packedDateToEpochDay(int packedDate) {
+        if (isValidPackedDate(packedDate) == false) {
+            throw new DateTimeException("Invalid value: PackedDate " + packedDate);
+        }
+        return IsoDays.epochDay(packedDate / 10000, (packedDate / 100) % 100, packedDate % 100);
+    }
+
+    /**
+     * Converts an epoch-day to a packed date.
+     * <p>
+     * This is equivalent to {@code LocalDate.ofEpochDay(epochDay).get(PACKED_DATE)},
+     * but uses civil calendar arithmetic without creating a date.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed date, such as 20151203
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     */
+    public static int epochDayToPackedDate(long epochDay) {
+        long civil = IsoDays.civil(epochDay);
+        long year = IsoDays.year(civil);
+        if (year < 1000 || year > 9999) {
+            throw new DateTimeException("Unable to obtain PackedDate from epoch-day: " + epochDay);
+        }
+        return (int) year * 10000 + IsoDays.month(civil) * 100 + IsoDays.day(civil);
+    }
+
+    /**
+     * Converts a packed hour-minute to a minute-of-day.
+     *
+     * @param packedHourMin  the packed hour-minute, such as 1130
+     * @return the minute-of-day, from 0 to 1439
+     * @throws DateTimeException if the packed hour-minute is invalid
+     */
+    public static int packedHourMinToMinuteOfDay(int packedHourMin) {
+        if (isValidPackedHourMin(packedHourMin) == false) {
+            throw new DateTimeException("Invalid value: PackedHourMin " + packedHourMin);
+        }
+        return (packedHourMin / 100) * 60 + packedHourMin % 100;
+    }
+
+    /**
+     * Converts a minute-of-day to a packed hour-minute.
+     *
+     * @param minuteOfDay  the minute-of-day, from 0 to 1439
+     * @return the packed hour-minute, such as 1130
+     * @throws DateTimeException if the minute-of-day is invalid
+     */
+    public static int minuteOfDayToPackedHourMin(int minuteOfDay) {
+        MINUTE_OF_DAY.checkValidValue(minuteOfDay);
+        return (minuteOfDay / 60) * 100 + minuteOfDay % 60;
+    }
+
+    /**
+     * Converts a packed time to a second-of-day.
+     *
+     * @param packedTime  the packed time, such as 113052
+     * @return the second-of-day, from 0 to 86399
+     * @throws DateTimeException if the packed time is invalid
+     */
+    public static int packedTimeToSecondOfDay(int packedTime) {
+        if (isValidPackedTime(packedTime) == false) {
+            throw new DateTimeException("Invalid value: PackedTime " + packedTime);
+        }
+        return (packedTime / 10000) * 3600 + ((packedTime / 100) % 100) * 60 + packedTime % 100;
+    }
+
+    /**
+     * Converts a second-of-day to a packed time.
+     *
+     * @param secondOfDay  the second-of-day, from 0 to 86399
+     * @return the packed time, such as 113052
+     * @throws DateTimeException if the second-of-day is invalid
+     */
+    public static int secondOfDayToPackedTime(int secondOfDay) {
+        SECOND_OF_DAY.checkValidValue(secondOfDay);
+        return (secondOfDay / 3600) * 10000 + ((secondOfDay / 60) % 60) * 100 + secondOfDay % 60;
+    }
+
+    /**
+     * Converts a packed date-time to an epoch-second, treating it as UTC.
+     *
+     * @param packedDateTime  the packed date-time, such as 20151203113052
+     * @return the number of seconds from 1970-01-01T00:00Z
+     * @throws DateTimeException if the packed date-time is invalid
+     */
+    public static long packedDateTimeToEpochSecond(long packedDateTime) {
+        return PackedDateTime.SECONDS.toEpochSub(packedDateTime);
+    }
+
+    /**
+     * Converts an epoch-second to a packed date-time, in UTC.
+     *
+     * @param epochSecond  the number of seconds from 1970-01-01T00:00Z
+     * @return the packed date-time, such as 20151203113052
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     */
+    public static long epochSecondToPackedDateTime(long epochSecond) {
+        return PackedDateTime.SECONDS.fromEpochSub(epochSecond);
+    }
+
+    /**
+     * Converts a packed date-time with milliseconds to an epoch-milli, treating it as UTC.
+     *
+     * @param packedDateTimeMillis  the packed date-time, such as 20151203113052125
+     * @return the number of milliseconds from 1970-01-01T00:00Z
+     * @throws DateTimeException if the packed date-time is invalid
+     */
+    public static long packedDateTimeMillisToEpochMilli(long packedDateTimeMillis) {
+        return PackedDateTime.MILLIS.toEpochSub(packedDateTimeMillis);
+    }
+
+    /**
+     * Converts an epoch-milli to a packed date-time with milliseconds, in UTC.
+     *
+     * @param epochMilli  the number of milliseconds from 1970-01-01T00:00Z
+     * @return the packed date-time, such as 20151203113052125
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     */
+    public static long epochMilliToPackedDateTimeMillis(long epochMilli) {
+        return PackedDateTime.MILLIS.fromEpochSub(epochMilli);
+    }
+
+    /**
+     * Converts an epoch-day to the packed year-quarter containing it.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed year-quarter, such as 20243
+     * @throws DateTimeException if the year is outside the range 1000 to 9999
+     */
+    public static int epochDayToPackedYearQuarter(long epochDay) {
+        long packed = IsoDays.yearQuarter(epochDay);
+        if (packed < 10001 || packed > 99994) {
+            throw new DateTimeException("Unable to obtain PackedYearQuarter from epoch-day: " + epochDay);
+        }
+        return (int) packed;
+    }
+
+    /**
+     * Converts a packed year-quarter to the epoch-day of the first day of the quarter.
+     *
+     * @param packedYearQuarter  the packed year-quarter, such as 20243
+     * @return the epoch-day of the first day of the quarter
+     * @throws DateTimeException if the packed year-quarter is invalid
+     */
+    public static long packedYearQuarterToEpochDay(int packedYearQuarter) {
+        if (isValidPackedYearQuarter(packedYearQuarter) == false) {
+            throw new DateTimeException("Invalid value: PackedYearQuarter " + packedYearQuarter);
+        }
+        return IsoDays.epochDay(packedYearQuarter / 10, (packedYearQuarter % 10) * 3 - 2, 1);
+    }
+
+    /**
+     * Converts an epoch-day to the packed week-based-year and week containing it.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed year-week, such as 202452
+     * @throws DateTimeException if the week-based-year is outside the range 1000 to 9999
+     */
+    public static int epochDayToPackedYearWeek(long epochDay) {
+        long packed = IsoDays.yearWeek(epochDay);
+        if (packed < 100001 || packed > 999953) {
+            throw new DateTimeException("Unable to obtain PackedYearWeek from epoch-day: " + epochDay);
+        }
+        return (int) packed;
+    }
+
+    /**
+     * Converts a packed week-based-year and week to the epoch-day of the Monday of the week.
+     *
+     * @param packedYearWeek  the packed year-week, such as 202452
+     * @return the epoch-day of the Monday of the week
+     * @throws DateTimeException if the packed year-week is invalid
+     */
+    public static long packedYearWeekToEpochDay(int packedYearWeek) {
+        if (isValidPackedYearWeek(packedYearWeek) == false) {
+            throw new DateTimeException("Invalid value: PackedYearWeek " + packedYearWeek);
+        }
+        return IsoDays.weekOneMonday(packedYearWeek / 100) + (packedYearWeek % 100 - 1) * 7L;
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Converts an array of packed dates to epoch-days.
+     *
+     * @param packedDates  the packed dates, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any packed date is invalid
+     */
+    public static void packedDatesToEpochDays(int[] packedDates, long[] epochDays) {
+        validateLengths(packedDates.length, epochDays.length);
+        for (int i = 0; i < packedDates.length; i++) {
+            epochDays[i] = packedDateToEpochDay(packedDates[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to packed dates.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param packedDates  the array to store the packed dates in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any year is outside the range 1000 to 9999
+     */
+    public static void epochDaysToPackedDates(long[] epochDays, int[] packedDates) {
+        validateLengths(epochDays.length, packedDates.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedDates[i] = epochDayToPackedDate(epochDays[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed hour-minutes to minute-of-day values.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param packedHourMins  the packed hour-minutes, not null
+     * @param minutesOfDay  the array to store the minute-of-day values in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any packed hour-minute is invalid
+     */
+    public static void packedHourMinsToMinutesOfDay(int[] packedHourMins, int[] minutesOfDay) {
+        validateLengths(packedHourMins.length, minutesOfDay.length);
+        for (int i = 0; i < packedHourMins.length; i++) {
+            minutesOfDay[i] = packedHourMinToMinuteOfDay(packedHourMins[i]);
+        }
+    }
+
+    /**
+     * Converts an array of minute-of-day values to packed hour-minutes.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param minutesOfDay  the minute-of-day values, not null
+     * @param packedHourMins  the array to store the packed hour-minutes in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any minute-of-day is invalid
+     */
+    public static void minutesOfDayToPackedHourMins(int[] minutesOfDay, int[] packedHourMins) {
+        validateLengths(minutesOfDay.length, packedHourMins.length);
+        for (int i = 0; i < minutesOfDay.length; i++) {
+            packedHourMins[i] = minuteOfDayToPackedHourMin(minutesOfDay[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed times to second-of-day values.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param packedTimes  the packed times, not null
+     * @param secondsOfDay  the array to store the second-of-day values in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any packed time is invalid
+     */
+    public static void packedTimesToSecondsOfDay(int[] packedTimes, int[] secondsOfDay) {
+        validateLengths(packedTimes.length, secondsOfDay.length);
+        for (int i = 0; i < packedTimes.length; i++) {
+            secondsOfDay[i] = packedTimeToSecondOfDay(packedTimes[i]);
+        }
+    }
+
+    /**
+     * Converts an array of second-of-day values to packed times.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param secondsOfDay  the second-of-day values, not null
+     * @param packedTimes  the array to store the packed times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any second-of-day is invalid
+     */
+    public static void secondsOfDayToPackedTimes(int[] secondsOfDay, int[] packedTimes) {
+        validateLengths(secondsOfDay.length, packedTimes.length);
+        for (int i = 0; i < secondsOfDay.length; i++) {
+            packedTimes[i] = secondOfDayToPackedTime(secondsOfDay[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed date-times to epoch-seconds, treating them as UTC.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param packedDateTimes  the packed date-times, not null
+     * @param epochSeconds  the array to store the epoch-seconds in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any packed date-time is invalid
+     */
+    public static void packedDateTimesToEpochSeconds(long[] packedDateTimes, long[] epochSeconds) {
+        validateLengths(packedDateTimes.length, epochSeconds.length);
+        for (int i = 0; i < packedDateTimes.length; i++) {
+            epochSeconds[i] = PackedDateTime.SECONDS.toEpochSub(packedDateTimes[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-seconds to packed date-times, in UTC.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param epochSeconds  the epoch-seconds, not null
+     * @param packedDateTimes  the array to store the packed date-times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any year is outside the range 1000 to 9999
+     */
+    public static void epochSecondsToPackedDateTimes(long[] epochSeconds, long[] packedDateTimes) {
+        validateLengths(epochSeconds.length, packedDateTimes.length);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            packedDateTimes[i] = PackedDateTime.SECONDS.fromEpochSub(epochSeconds[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed date-times with milliseconds to epoch-millis, treating them as UTC.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param packedDateTimeMillis  the packed date-times, not null
+     * @param epochMillis  the array to store the epoch-millis in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any packed date-time is invalid
+     */
+    public static void packedDateTimeMillisToEpochMillis(long[] packedDateTimeMillis, long[] epochMillis) {
+        validateLengths(packedDateTimeMillis.length, epochMillis.length);
+        for (int i = 0; i < packedDateTimeMillis.length; i++) {
+            epochMillis[i] = PackedDateTime.MILLIS.toEpochSub(packedDateTimeMillis[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-millis to packed date-times with milliseconds, in UTC.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param epochMillis  the epoch-millis, not null
+     * @param packedDateTimeMillis  the array to store the packed date-times in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any year is outside the range 1000 to 9999
+     */
+    public static void epochMillisToPackedDateTimeMillis(long[] epochMillis, long[] packedDateTimeMillis) {
+        validateLengths(epochMillis.length, packedDateTimeMillis.length);
+        for (int i = 0; i < epochMillis.length; i++) {
+            packedDateTimeMillis[i] = PackedDateTime.MILLIS.fromEpochSub(epochMillis[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to the packed year-quarters containing them.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param packedYearQuarters  the array to store the packed year-quarters in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any year is outside the range 1000 to 9999
+     */
+    public static void epochDaysToPackedYearQuarters(long[] epochDays, int[] packedYearQuarters) {
+        validateLengths(epochDays.length, packedYearQuarters.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedYearQuarters[i] = epochDayToPackedYearQuarter(epochDays[i]);
+        }
+    }
+
+    /**
+     * Converts an array of epoch-days to the packed week-based-years and weeks containing them.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param packedYearWeeks  the array to store the packed year-weeks in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any week-based-year is outside the range 1000 to 9999
+     */
+    public static void epochDaysToPackedYearWeeks(long[] epochDays, int[] packedYearWeeks) {
+        validateLengths(epochDays.length, packedYearWeeks.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedYearWeeks[i] = epochDayToPackedYearWeek(epochDays[i]);
+        }
+    }
+
+    private static void validateLengths(int inputLength, int outputLength) {
+        if (inputLength != outputLength) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Checks if the value is a valid packed date, without throwing an exception.
+     *
+     * @param packedDate  the packed date
+     * @return true if valid
+     */
+    static boolean isValidPackedDate(long packedDate) {
+        if (packedDate < 10000101 || packedDate > 99991231) {
+            return false;
+        }
+        int val = (int) packedDate;
+        return IsoDays.isValid(val / 10000, (val / 100) % 100, val % 100);
+    }
+
+    /**
+     * Checks if the value is a valid packed hour-minute, without throwing an exception.
+     *
+     * @param packedHourMin  the packed hour-minute
+     * @return true if valid
+     */
+    static boolean isValidPackedHourMin(long packedHourMin) {
+        return packedHourMin >= 0 && packedHourMin <= 2359 && packedHourMin % 100 < 60;
+    }
+
+    /**
+     * Checks if the value is a valid packed time, without throwing an exception.
+     *
+     * @param packedTime  the packed time
+     * @return true if valid
+     */
+    static boolean isValidPackedTime(long packedTime) {
+        return packedTime >= 0 && packedTime <= 235959 && (packedTime / 100) % 100 < 60 && packedTime % 100 < 60;
+    }
+
+    /**
+     * Checks if the value is a valid packed date-time, without throwing an exception.
+     *
+     * @param packedDateTime  the packed date-time
+     * @return true if valid
+     */
+    static boolean isValidPackedDateTime(long packedDateTime) {
+        return PackedDateTime.SECONDS.isValid(packedDateTime);
+    }
+
+    /**
+     * Checks if the value is a valid packed date-time with milliseconds, without throwing an exception.
+     *
+     * @param packedDateTimeMillis  the packed date-time
+     * @return true if valid
+     */
+    static boolean isValidPackedDateTimeMillis(long packedDateTimeMillis) {
+        return PackedDateTime.MILLIS.isValid(packedDateTimeMillis);
+    }
+
+    /**
+     * Checks if the value is a valid packed year-quarter, without throwing an exception.
+     *
+     * @param packedYearQuarter  the packed year-quarter
+     * @return true if valid
+     */
+    static boolean isValidPackedYearQuarter(long packedYearQuarter) {
+        long quarter = packedYearQuarter % 10;
+        return packedYearQuarter >= 10001 && packedYearQuarter <= 99994 && quarter >= 1 && quarter <= 4;
+    }
+
+    /**
+     * Checks if the value is a valid packed year-week, without throwing an exception.
+     *
+     * @param packedYearWeek  the packed year-week
+     * @return true if valid
+     */
+    static boolean isValidPackedYearWeek(long packedYearWeek) {
+        if (packedYearWeek < 100001 || packedYearWeek > 999953) {
+            return false;
+        }
+        long week = packedYearWeek % 100;
+        if (week == 53) {
+            return IsoDays.is53WeekYear(packedYearWeek / 100);
+        }
+        return week >= 1 && week <= 52;
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Implementation of packed date.
@@ -163,32 +721,20 @@ public final class PackedFields {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
-            LocalDate date = LocalDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
-            int year = date.getYear();
-            if (year < 1000 || year > 9999) {
-                throw new DateTimeException("Unable to obtain PackedDate from LocalDate: " + date);
-            }
-            int moy = date.getMonthValue();
-            int dom = date.getDayOfMonth();
-            return year * 10000 + moy * 100 + dom;
+            return epochDayToPackedDate(temporal.getLong(EPOCH_DAY));
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public <R extends Temporal> R adjustInto(R temporal, long newValue) {
-            LocalDate date = toDate(newValue);
-            return (R) temporal.with(date);
+            return (R) temporal.with(EPOCH_DAY, toEpochDay(newValue));
         }
 
-        private LocalDate toDate(long newValue) {
+        private long toEpochDay(long newValue) {
             if (range().isValidValue(newValue) == false) {
                 throw new DateTimeException("Invalid value: PackedDate " + newValue);
             }
-            int val = (int) newValue;
-            int year = val / 10000;
-            int moy = (val % 10000) / 100;
-            int dom = val % 100;
-            return LocalDate.of(year, moy, dom);
+            return packedDateToEpochDay((int) newValue);
         }
 
         //-----------------------------------------------------------------------
@@ -203,7 +749,7 @@ public final class PackedFields {
                 long dom = value % 100;
                 date = LocalDate.of(year, 1, 1).plusMonths(moy - 1).plusDays(dom - 1);
             } else {
-                date = toDate(value);
+                date = LocalDate.ofEpochDay(toEpochDay(value));
             }
             Chronology chrono = Chronology.from(partialTemporal);
             return chrono.date(date);
@@ -405,6 +951,341 @@ public final class PackedFields {
         }
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Implementation of packed date-time, with and without milliseconds.
+     */
+    private static enum PackedDateTime implements TemporalField {
+        /** Packed date-time to the second. */
+        SECONDS("PackedDateTime", SECOND_OF_DAY, 1, ChronoUnit.SECONDS, ValueRange.of(10000101000000L, 99991231235959L)),
+        /** Packed date-time to the millisecond. */
+        MILLIS("PackedDateTimeMillis", MILLI_OF_DAY, 1000, ChronoUnit.MILLIS, ValueRange.of(10000101000000000L, 99991231235959999L));
+
+        private static final long serialVersionUID = -5218649876453L;
+
+        private final String name;
+        private final ChronoField subField;
+        private final int scale;
+        private final TemporalUnit baseUnit;
+        private final ValueRange range;
+
+        private PackedDateTime(String name, ChronoField subField, int scale, TemporalUnit baseUnit, ValueRange range) {
+            this.name = name;
+            this.subField = subField;
+            this.scale = scale;
+            this.baseUnit = baseUnit;
+            this.range = range;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return baseUnit;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return FOREVER;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return false;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public ValueRange range() {
+            return range;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            return temporal.isSupported(EPOCH_DAY) && temporal.isSupported(subField);
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            if (isSupportedBy(temporal) == false) {
+                throw new DateTimeException("Unsupported field: " + this);
+            }
+            return range();
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            return pack(temporal.getLong(EPOCH_DAY), temporal.getLong(subField));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            if (isValid(newValue) == false) {
+                throw new DateTimeException("Invalid value: " + name + " " + newValue);
+            }
+            long epochSub = toEpochSub(newValue);
+            long subPerDay = 86400L * scale;
+            return (R) temporal
+                    .with(EPOCH_DAY, Math.floorDiv(epochSub, subPerDay))
+                    .with(subField, Math.floorMod(epochSub, subPerDay));
+        }
+
+        //-----------------------------------------------------------------------
+        boolean isValid(long value) {
+            if (range.isValidValue(value) == false) {
+                return false;
+            }
+            long secs = value / scale;
+            return isValidPackedDate(secs / 1000000) && isValidPackedTime(secs % 1000000);
+        }
+
+        long toEpochSub(long value) {
+            if (isValid(value) == false) {
+                throw new DateTimeException("Invalid value: " + name + " " + value);
+            }
+            long secs = value / scale;
+            long epochDay = packedDateToEpochDay((int) (secs / 1000000));
+            long sod = packedTimeToSecondOfDay((int) (secs % 1000000));
+            return (epochDay * 86400 + sod) * scale + value % scale;
+        }
+
+        long fromEpochSub(long epochSub) {
+            long subPerDay = 86400L * scale;
+            return pack(Math.floorDiv(epochSub, subPerDay), Math.floorMod(epochSub, subPerDay));
+        }
+
+        private long pack(long epochDay, long subOfDay) {
+            long packedDate = epochDayToPackedDate(epochDay);
+            long packedTime = secondOfDayToPackedTime((int) (subOfDay / scale));
+            return (packedDate * 1000000 + packedTime) * scale + subOfDay % scale;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public ChronoLocalDate resolve(
+                Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+            long value = fieldValues.remove(this);
+            long epochSub;
+            if (resolverStyle == ResolverStyle.LENIENT) {
+                long secs = value / scale;
+                long packedDate = secs / 1000000;
+                int year = Math.toIntExact(packedDate / 10000);
+                int moy = (int) ((packedDate % 10000) / 100);
+                long dom = packedDate % 100;
+                long epochDay = LocalDate.of(year, 1, 1).plusMonths(moy - 1).plusDays(dom - 1).toEpochDay();
+                long packedTime = secs % 1000000;
+                long sod = (packedTime / 10000) * 3600 + ((packedTime / 100) % 100) * 60 + packedTime % 100;
+                epochSub = (epochDay * 86400 + sod) * scale + value % scale;
+            } else {
+                epochSub = toEpochSub(value);
+            }
+            long subPerDay = 86400L * scale;
+            updateCheckConflict(fieldValues, this, EPOCH_DAY, Math.floorDiv(epochSub, subPerDay));
+            updateCheckConflict(fieldValues, this, subField, Math.floorMod(epochSub, subPerDay));
+            return null;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Implementation of packed year-quarter.
+     */
+    private static enum PackedYearQuarter implements TemporalField {
+        INSTANCE;
+
+        private static final ValueRange RANGE = ValueRange.of(10001, 99994);
+        private static final long serialVersionUID = -2643568709234L;
+
+        //-----------------------------------------------------------------------
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return QUARTER_YEARS;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return FOREVER;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public ValueRange range() {
+            return RANGE;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            return temporal.isSupported(YEAR) && temporal.isSupported(QUARTER_OF_YEAR);
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            if (isSupportedBy(temporal) == false) {
+                throw new DateTimeException("Unsupported field: " + this);
+            }
+            return range();
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            long year = temporal.getLong(YEAR);
+            if (year < 1000 || year > 9999) {
+                throw new DateTimeException("Unable to obtain PackedYearQuarter from year: " + year);
+            }
+            return year * 10 + temporal.getLong(QUARTER_OF_YEAR);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            if (isValidPackedYearQuarter(newValue) == false) {
+                throw new DateTimeException("Invalid value: PackedYearQuarter " + newValue);
+            }
+            return (R) temporal.with(YEAR, newValue / 10).with(QUARTER_OF_YEAR, newValue % 10);
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public ChronoLocalDate resolve(
+                Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+            long value = fieldValues.remove(this);
+            long year = value / 10;
+            long quarter = value % 10;
+            if (resolverStyle == ResolverStyle.LENIENT) {
+                long prolepticQuarter = year * 4 + quarter - 1;
+                year = Math.floorDiv(prolepticQuarter, 4);
+                quarter = Math.floorMod(prolepticQuarter, 4) + 1;
+            } else if (isValidPackedYearQuarter(value) == false) {
+                throw new DateTimeException("Invalid value: PackedYearQuarter " + value);
+            }
+            updateCheckConflict(fieldValues, this, YEAR, year);
+            updateCheckConflict(fieldValues, this, QUARTER_OF_YEAR, quarter);
+            return null;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            return "PackedYearQuarter";
+        }
+    }
+
+    //-------------------------------------------------------------------------
+    /**
+     * Implementation of packed year-week.
+     */
+    private static enum PackedYearWeek implements TemporalField {
+        INSTANCE;
+
+        private static final ValueRange RANGE = ValueRange.of(100001, 999953);
+        private static final long serialVersionUID = -7869254368762L;
+
+        //-----------------------------------------------------------------------
+        @Override
+        public TemporalUnit getBaseUnit() {
+            return WEEKS;
+        }
+
+        @Override
+        public TemporalUnit getRangeUnit() {
+            return FOREVER;
+        }
+
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+
+        @Override
+        public ValueRange range() {
+            return RANGE;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public boolean isSupportedBy(TemporalAccessor temporal) {
+            return temporal.isSupported(WEEK_BASED_YEAR) && temporal.isSupported(WEEK_OF_WEEK_BASED_YEAR);
+        }
+
+        @Override
+        public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
+            if (isSupportedBy(temporal) == false) {
+                throw new DateTimeException("Unsupported field: " + this);
+            }
+            return range();
+        }
+
+        @Override
+        public long getFrom(TemporalAccessor temporal) {
+            long year = temporal.getLong(WEEK_BASED_YEAR);
+            if (year < 1000 || year > 9999) {
+                throw new DateTimeException("Unable to obtain PackedYearWeek from week-based-year: " + year);
+            }
+            return year * 100 + temporal.getLong(WEEK_OF_WEEK_BASED_YEAR);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R adjustInto(R temporal, long newValue) {
+            if (isValidPackedYearWeek(newValue) == false) {
+                throw new DateTimeException("Invalid value: PackedYearWeek " + newValue);
+            }
+            return (R) temporal.with(WEEK_BASED_YEAR, newValue / 100).with(WEEK_OF_WEEK_BASED_YEAR, newValue % 100);
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public ChronoLocalDate resolve(
+                Map<TemporalField, Long> fieldValues, TemporalAccessor partialTemporal, ResolverStyle resolverStyle) {
+            long value = fieldValues.remove(this);
+            long year = value / 100;
+            long week = value % 100;
+            if (resolverStyle == ResolverStyle.LENIENT) {
+                long monday = IsoDays.weekOneMonday(year) + (week - 1) * 7;
+                int packed = epochDayToPackedYearWeek(monday);
+                year = packed / 100;
+                week = packed % 100;
+            } else if (isValidPackedYearWeek(value) == false) {
+                throw new DateTimeException("Invalid value: PackedYearWeek " + value);
+            }
+            updateCheckConflict(fieldValues, this, WEEK_BASED_YEAR, year);
+            updateCheckConflict(fieldValues, this, WEEK_OF_WEEK_BASED_YEAR, week);
+            return null;
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            return "PackedYearWeek";
+        }
+    }
+
     //-------------------------------------------------------------------------
     private static void updateCheckConflict(
             Map<TemporalField, Long> fieldValues,
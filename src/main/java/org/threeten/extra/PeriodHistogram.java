@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * A histogram that counts and sums events by period, such as by quarter or by week.
+ * <p>
+ * Each event is identified by an epoch-day, or by an instant and time-zone.
+ * The event is mapped to a bucket arithmetically, without creating a key object,
+ * and the count and optional value are accumulated into primitive arrays.
+ * The results are exposed keyed by the period type, such as {@link YearWeek}.
+ * <p>
+ * Histograms of {@code YearQuarter} and {@code YearWeek} cover a fixed range of periods
+ * chosen when the histogram is created. Histograms of {@code DayOfYear} and
+ * {@code DayOfMonth} always cover every value.
+ * Events outside the range are not recorded.
+ * <p>
+ * The counters are striped by thread, reducing contention when many threads record
+ * at once. Queries sum the stripes.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is mutable and thread-safe.
+ * All operations are non-blocking.
+ * As with other concurrent counters, a query that runs concurrently with recording
+ * may or may not observe the events being recorded.
+ *
+ * @param <K> the type of the period
+ */
+public final class PeriodHistogram<K> {
+
+    /**
+     * The maximum number of stripes.
+     */
+    private static final int MAX_STRIPES = 64;
+    /**
+     * The number of stripes, a power of two.
+     */
+    private static final int STRIPES =
+            Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2);
+
+    /**
+     * The number of buckets.
+     */
+    private final int size;
+    /**
+     * Maps an epoch-day to a bucket, returning -1 if outside the range.
+     */
+    private final LongToIntFunction bucketOfEpochDay;
+    /**
+     * Maps a key to a bucket, returning -1 if outside the range.
+     */
+    private final ToIntFunction<K> bucketOfKey;
+    /**
+     * Maps a bucket to a key.
+     */
+    private final IntFunction<K> keyOfBucket;
+    /**
+     * The counts, with each stripe holding a contiguous block of buckets.
+     */
+    private final AtomicLongArray counts;
+    /**
+     * The sums, stored as the raw bits of a {@code double}, laid out as the counts.
+     */
+    private final AtomicLongArray sums;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a histogram by year-quarter, covering the specified range.
+     *
+     * @param startInclusive  the first year-quarter, inclusive, not null
+     * @param endExclusive  the last year-quarter, exclusive, not null
+     * @return the empty histogram, not null
+     * @throws DateTimeException if the end is before the start
+     * @throws ArithmeticException if the range has too many quarters
+     */
+    public static PeriodHistogram<YearQuarter> ofYearQuarters(YearQuarter startInclusive, YearQuarter endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End year-quarter must not be before start year-quarter");
+        }
+        int size = checkSize(startInclusive.until(endExclusive, QUARTER_YEARS));
+        long startQuarter = startInclusive.getYear() * 4L + startInclusive.getQuarterValue() - 1;
+        return new PeriodHistogram<>(
+                size,
+                epochDay -> {
+                    long packed = IsoDays.yearQuarter(epochDay);
+                    return bucket(Math.floorDiv(packed, 10) * 4 + Math.floorMod(packed, 10) - 1 - startQuarter, size);
+                },
+                key -> bucket(key.getYear() * 4L + key.getQuarterValue() - 1 - startQuarter, size),
+                bucket -> startInclusive.plusQuarters(bucket));
+    }
+
+    /**
+     * Obtains a histogram by year-week, covering the specified range.
+     *
+     * @param startInclusive  the first year-week, inclusive, not null
+     * @param endExclusive  the last year-week, exclusive, not null
+     * @return the empty histogram, not null
+     * @throws DateTimeException if the end is before the start
+     * @throws ArithmeticException if the range has too many weeks
+     */
+    public static PeriodHistogram<YearWeek> ofYearWeeks(YearWeek startInclusive, YearWeek endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End year-week must not be before start year-week");
+        }
+        int size = checkSize(startInclusive.until(endExclusive, WEEKS));
+        long startMonday = startInclusive.atDay(DayOfWeek.MONDAY).toEpochDay();
+        return new PeriodHistogram<>(
+                size,
+                epochDay -> bucket(Math.floorDiv(epochDay - startMonday, 7), size),
+                key -> bucket(startInclusive.until(key, WEEKS), size),
+                bucket -> startInclusive.plusWeeks(bucket));
+    }
+
+    /**
+     * Obtains a histogram by day-of-year.
+     * <p>
+     * The histogram has 366 buckets, with day 366 only used in leap years.
+     *
+     * @return the empty histogram, not null
+     */
+    public static PeriodHistogram<DayOfYear> ofDaysOfYear() {
+        return new PeriodHistogram<>(
+                366,
+                epochDay -> (int) (epochDay - IsoDays.epochDay(IsoDays.year(IsoDays.civil(epochDay)), 1, 1)),
+                key -> key.getValue() - 1,
+                bucket -> DayOfYear.of(bucket + 1));
+    }
+
+    /**
+     * Obtains a histogram by day-of-month.
+     * <p>
+     * The histogram has 31 buckets.
+     *
+     * @return the empty histogram, not null
+     */
+    public static PeriodHistogram<DayOfMonth> ofDaysOfMonth() {
+        return new PeriodHistogram<>(
+                31,
+                epochDay -> IsoDays.day(IsoDays.civil(epochDay)) - 1,
+                key -> key.getValue() - 1,
+                bucket -> DayOfMonth.of(bucket + 1));
+    }
+
+    private static int checkSize(long size) {
+        if (size > Integer.MAX_VALUE / STRIPES) {
+            throw new ArithmeticException("Too many buckets: " + size);
+        }
+        return (int) size;
+    }
+
+    private static int bucket(long index, int size) {
+        return (index < 0 || index >= size ? -1 : (int) index);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Restricted constructor.
+     *
+     * @param size  the number of buckets
+     * @param bucketOfEpochDay  the function mapping an epoch-day to a bucket
+     * @param bucketOfKey  the function mapping a key to a bucket
+     * @param keyOfBucket  the function mapping a bucket to a key
+     */
+    private PeriodHistogram(
+            int size,
+            LongToIntFunction bucketOfEpochDay,
+            ToIntFunction<K> bucketOfKey,
+            IntFunction<K> keyOfBucket) {
+        this.size = size;
+        this.bucketOfEpochDay = bucketOfEpochDay;
+        this.bucketOfKey = bucketOfKey;
+        this.keyOfBucket = keyOfBucket;
+        this.counts = new AtomicLongArray(size * STRIPES);
+        this.sums = new AtomicLongArray(size * STRIPES);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Records an event on the specified epoch-day.
+     *
+     * @param epochDay  the epoch-day of the event
+     * @return true if the event was recorded, false if outside the range of the histogram
+     * @throws DateTimeException if the epoch-day is invalid
+     */
+    public boolean record(long epochDay) {
+        int slot = slot(epochDay);
+        if (slot < 0) {
+            return false;
+        }
+        counts.incrementAndGet(slot);
+        return true;
+    }
+
+    /**
+     * Records an event with a value on the specified epoch-day.
+     * <p>
+     * The event is counted and the value is added to the sum for the period.
+     *
+     * @param epochDay  the epoch-day of the event
+     * @param value  the value of the event
+     * @return true if the event was recorded, false if outside the range of the histogram
+     * @throws DateTimeException if the epoch-day is invalid
+     */
+    public boolean record(long epochDay, double value) {
+        int slot = slot(epochDay);
+        if (slot < 0) {
+            return false;
+        }
+        counts.incrementAndGet(slot);
+        long current;
+        do {
+            current = sums.get(slot);
+        } while (sums.compareAndSet(slot, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)) == false);
+        return true;
+    }
+
+    /**
+     * Records an event at the specified instant.
+     * <p>
+     * The instant is converted to a local date using the offset of the time-zone at the instant.
+     *
+     * @param instant  the instant of the event, not null
+     * @param zone  the time-zone to use, not null
+     * @return true if the event was recorded, false if outside the range of the histogram
+     * @throws DateTimeException if the instant exceeds the supported date range
+     */
+    public boolean record(Instant instant, ZoneId zone) {
+        return record(epochDay(instant, zone));
+    }
+
+    /**
+     * Records an event with a value at the specified instant.
+     * <p>
+     * The instant is converted to a local date using the offset of the time-zone at the instant.
+     * The event is counted and the value is added to the sum for the period.
+     *
+     * @param instant  the instant of the event, not null
+     * @param zone  the time-zone to use, not null
+     * @param value  the value of the event
+     * @return true if the event was recorded, false if outside the range of the histogram
+     * @throws DateTimeException if the instant exceeds the supported date range
+     */
+    public boolean record(Instant instant, ZoneId zone, double value) {
+        return record(epochDay(instant, zone), value);
+    }
+
+    private static long epochDay(Instant instant, ZoneId zone) {
+        Objects.requireNonNull(instant, "instant");
+        Objects.requireNonNull(zone, "zone");
+        long localSecond = instant.getEpochSecond() + zone.getRules().getOffset(instant).getTotalSeconds();
+        return Math.floorDiv(localSecond, 86400);
+    }
+
+    // the stripe is chosen by thread
+    private int slot(long epochDay) {
+        EPOCH_DAY.checkValidValue(epochDay);
+        int bucket = bucketOfEpochDay.applyAsInt(epochDay);
+        if (bucket < 0) {
+            return -1;
+        }
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        return stripe * size + bucket;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of buckets.
+     *
+     * @return the number of buckets
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the count of events recorded for the specified period.
+     *
+     * @param key  the period to query, not null
+     * @return the count, zero if the period is outside the range of the histogram
+     */
+    public long getCount(K key) {
+        Objects.requireNonNull(key, "key");
+        int bucket = bucketOfKey.applyAsInt(key);
+        return (bucket < 0 ? 0 : count(bucket));
+    }
+
+    /**
+     * Gets the sum of the values recorded for the specified period.
+     *
+     * @param key  the period to query, not null
+     * @return the sum, zero if the period is outside the range of the histogram
+     */
+    public double getSum(K key) {
+        Objects.requireNonNull(key, "key");
+        int bucket = bucketOfKey.applyAsInt(key);
+        return (bucket < 0 ? 0d : sum(bucket));
+    }
+
+    /**
+     * Gets the total count of events recorded.
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the counts as an array indexed by bucket.
+     * <p>
+     * The bucket of a period is its position in the order of the periods.
+     *
+     * @return a new array of counts, not null
+     */
+    public long[] toCountArray() {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = count(i);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the sums as an array indexed by bucket.
+     * <p>
+     * The bucket of a period is its position in the order of the periods.
+     *
+     * @return a new array of sums, not null
+     */
+    public double[] toSumArray() {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = sum(i);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the counts keyed by period.
+     * <p>
+     * The map contains an entry for every period in the histogram, in order.
+     *
+     * @return an unmodifiable map of period to count, not null
+     */
+    public Map<K, Long> getCounts() {
+        Map<K, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(keyOfBucket.apply(i), count(i));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Gets the sums keyed by period.
+     * <p>
+     * The map contains an entry for every period in the histogram, in order.
+     *
+     * @return an unmodifiable map of period to sum, not null
+     */
+    public Map<K, Double> getSums() {
+        Map<K, Double> result = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(keyOfBucket.apply(i), sum(i));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private long count(int bucket) {
+        long total = 0;
+        for (int slot = bucket; slot < counts.length(); slot += size) {
+            total += counts.get(slot);
+        }
+        return total;
+    }
+
+    private double sum(int bucket) {
+        double total = 0;
+        for (int slot = bucket; slot < sums.length(); slot += size) {
+            total += Double.longBitsToDouble(sums.get(slot));
+        }
+        return total;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this histogram as a {@code String}.
+     *
+     * @return a string representation of this histogram, not null
+     */
+    @Override
+    public String toString() {
+        return "PeriodHistogram[buckets=" + size + ", count=" + getTotalCount() + "]";
+    }
+
+}
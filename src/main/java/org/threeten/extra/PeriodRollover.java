@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An event recording that a calendar period has rolled over.
+ * <p>
+ * Instances are published by {@link PeriodRolloverPublisher} when the period
+ * containing the current date changes, such as when the {@link YearWeek} or
+ * {@link YearQuarter} moves on.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe if the period type is immutable.
+ *
+ * @param <T>  the type of the period, such as {@code YearWeek}
+ */
+public final class PeriodRollover<T> {
+
+    /**
+     * The period that has ended.
+     */
+    private final T previousPeriod;
+    /**
+     * The period that has started.
+     */
+    private final T period;
+    /**
+     * The instant the rollover was observed.
+     */
+    private final Instant instant;
+
+    /**
+     * Obtains an instance of {@code PeriodRollover}.
+     *
+     * @param <T>  the type of the period
+     * @param previousPeriod  the period that has ended, not null
+     * @param period  the period that has started, not null
+     * @param instant  the instant the rollover was observed, not null
+     * @return the rollover event, not null
+     */
+    public static <T> PeriodRollover<T> of(T previousPeriod, T period, Instant instant) {
+        Objects.requireNonNull(previousPeriod, "previousPeriod");
+        Objects.requireNonNull(period, "period");
+        Objects.requireNonNull(instant, "instant");
+        return new PeriodRollover<>(previousPeriod, period, instant);
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param previousPeriod  the period that has ended
+     * @param period  the period that has started
+     * @param instant  the instant the rollover was observed
+     */
+    private PeriodRollover(T previousPeriod, T period, Instant instant) {
+        this.previousPeriod = previousPeriod;
+        this.period = period;
+        this.instant = instant;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the period that has ended.
+     *
+     * @return the previous period, not null
+     */
+    public T getPreviousPeriod() {
+        return previousPeriod;
+    }
+
+    /**
+     * Gets the period that has started.
+     *
+     * @return the new period, not null
+     */
+    public T getPeriod() {
+        return period;
+    }
+
+    /**
+     * Gets the instant that the rollover was observed.
+     * <p>
+     * This is the instant that the publisher woke up, which will be at
+     * or shortly after the start of the new period.
+     *
+     * @return the instant, not null
+     */
+    public Instant getInstant() {
+        return instant;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this event is equal to another.
+     * <p>
+     * The comparison is based on the periods and the instant.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other event
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PeriodRollover) {
+            PeriodRollover<?> other = (PeriodRollover<?>) obj;
+            return previousPeriod.equals(other.previousPeriod) &&
+                    period.equals(other.period) &&
+                    instant.equals(other.instant);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this event.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return (previousPeriod.hashCode() * 31 + period.hashCode()) * 31 + instant.hashCode();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this event as a {@code String}, such as {@code 2024-W52->2025-W01@2024-12-30T00:00:00Z}.
+     *
+     * @return a string representation of this event, not null
+     */
+    @Override
+    public String toString() {
+        return previousPeriod + "->" + period + "@" + instant;
+    }
+
+}
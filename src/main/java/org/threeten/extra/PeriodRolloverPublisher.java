@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalQuery;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Publishes an event each time a calendar period rolls over.
+ * <p>
+ * Services often need to act when the day, week, quarter or accounting period changes.
+ * Rather than each of them polling the clock, they subscribe here with a query that
+ * extracts the period from a date, such as {@code YearWeek::from} or {@code YearQuarter::from}.
+ * Any date-based period can be used, including periods from other calendar systems,
+ * such as {@code date -> accountingChronology.date(date).get(MONTH_OF_YEAR)}.
+ * <p>
+ * All the supported periods change at the start of a day, so a single timer thread
+ * sleeps until the next midnight in the time-zone of the clock.
+ * When it wakes, the period of each subscription is recalculated and compared to the
+ * previous value, with a {@link PeriodRollover} being published to the subscriber if
+ * the period has changed. Thus, thousands of subscribers share one thread that wakes
+ * once a day, instead of each polling for the current time.
+ * <p>
+ * Subscribers are called on the timer thread, so they should complete quickly.
+ * If a subscriber or its query throws an exception, its subscription is cancelled
+ * and the exception is passed to the error handler of the subscription, if any.
+ * The exception never reaches the timer thread, so other subscribers are unaffected.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is mutable and thread-safe.
+ * The timer thread is a daemon thread, which is stopped by {@link #close()}.
+ */
+public final class PeriodRolloverPublisher implements AutoCloseable {
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+    /**
+     * The active subscriptions.
+     */
+    private final CopyOnWriteArrayList<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    /**
+     * The timer.
+     */
+    private final ScheduledExecutorService timer;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a publisher using the system clock and default time-zone.
+     *
+     * @return the publisher, not null
+     */
+    public static PeriodRolloverPublisher ofSystemDefaultZone() {
+        return of(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains a publisher using the specified clock.
+     * <p>
+     * Periods roll over at midnight in the time-zone of the clock.
+     *
+     * @param clock  the clock to use, not null
+     * @return the publisher, not null
+     */
+    public static PeriodRolloverPublisher of(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        PeriodRolloverPublisher publisher = new PeriodRolloverPublisher(clock);
+        publisher.schedule();
+        return publisher;
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param clock  the clock
+     */
+    private PeriodRolloverPublisher(Clock clock) {
+        this.clock = clock;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PeriodRolloverPublisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the clock used to determine the current date.
+     *
+     * @return the clock, not null
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of active subscriptions.
+     *
+     * @return the number of subscriptions
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Subscribes to rollovers of a period.
+     * <p>
+     * The query extracts the period from a {@code LocalDate}, and the result must
+     * implement {@code equals}. The period of the current date is captured immediately,
+     * and the subscriber is called each time a later date has a different period.
+     * <p>
+     * If the subscriber or the query throws an exception when a rollover is published,
+     * the subscription is cancelled and the exception is discarded.
+     * Use {@link #subscribe(TemporalQuery, Consumer, Consumer)} to be notified of the exception.
+     *
+     * @param <T>  the type of the period
+     * @param periodQuery  the query to obtain the period from a date, not null
+     * @param subscriber  the subscriber to notify, not null
+     * @return the subscription, which can be cancelled, not null
+     * @throws IllegalStateException if this publisher has been closed
+     */
+    public <T> Subscription<T> subscribe(TemporalQuery<T> periodQuery, Consumer<? super PeriodRollover<T>> subscriber) {
+        return subscribe(periodQuery, subscriber, ex -> {});
+    }
+
+    /**
+     * Subscribes to rollovers of a period, with a handler for errors.
+     * <p>
+     * The query extracts the period from a {@code LocalDate}, and the result must
+     * implement {@code equals}. The period of the current date is captured immediately,
+     * and the subscriber is called each time a later date has a different period.
+     * <p>
+     * If the subscriber or the query throws an exception when a rollover is published,
+     * the subscription is cancelled and then the error handler is called with the exception,
+     * in the same way as {@code onError} of a reactive subscriber.
+     * No further events are published after the error handler is called.
+     * The error handler is called on the timer thread, and any exception it throws is discarded.
+     *
+     * @param <T>  the type of the period
+     * @param periodQuery  the query to obtain the period from a date, not null
+     * @param subscriber  the subscriber to notify, not null
+     * @param errorHandler  the handler to notify if publishing fails, not null
+     * @return the subscription, which can be cancelled, not null
+     * @throws IllegalStateException if this publisher has been closed
+     */
+    public <T> Subscription<T> subscribe(
+            TemporalQuery<T> periodQuery,
+            Consumer<? super PeriodRollover<T>> subscriber,
+            Consumer<? super RuntimeException> errorHandler) {
+
+        Objects.requireNonNull(periodQuery, "periodQuery");
+        Objects.requireNonNull(subscriber, "subscriber");
+        Objects.requireNonNull(errorHandler, "errorHandler");
+        if (timer.isShutdown()) {
+            throw new IllegalStateException("PeriodRolloverPublisher has been closed");
+        }
+        Subscription<T> subscription = new Subscription<>(this, periodQuery, subscriber, errorHandler, today(clock.instant()));
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Stops the timer thread and cancels all subscriptions.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Publishes any rollovers that have occurred by the specified instant.
+     * <p>
+     * This is called by the timer thread, and directly by tests.
+     *
+     * @param instant  the current instant
+     */
+    void publish(Instant instant) {
+        LocalDate date = today(instant);
+        for (Subscription<?> subscription : subscriptions) {
+            subscription.publish(date, instant);
+        }
+    }
+
+    private LocalDate today(Instant instant) {
+        return instant.atZone(clock.getZone()).toLocalDate();
+    }
+
+    // sleeps until the next midnight, then publishes and reschedules
+    private void schedule() {
+        Instant now = clock.instant();
+        ZoneId zone = clock.getZone();
+        Instant next = today(now).plusDays(1).atStartOfDay(zone).toInstant();
+        long delayNanos = Math.max(Duration.between(now, next).toNanos(), 0);
+        try {
+            timer.schedule(this::tick, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            // closed concurrently
+        }
+    }
+
+    private void tick() {
+        try {
+            publish(clock.instant());
+        } finally {
+            schedule();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A subscription to the rollovers of a single period.
+     *
+     * <h3>Implementation Requirements:</h3>
+     * This class is thread-safe.
+     *
+     * @param <T>  the type of the period
+     */
+    public static final class Subscription<T> {
+
+        /**
+         * The publisher.
+         */
+        private final PeriodRolloverPublisher publisher;
+        /**
+         * The query.
+         */
+        private final TemporalQuery<T> periodQuery;
+        /**
+         * The subscriber.
+         */
+        private final Consumer<? super PeriodRollover<T>> subscriber;
+        /**
+         * The error handler.
+         */
+        private final Consumer<? super RuntimeException> errorHandler;
+        /**
+         * The current period, only changed on the timer thread.
+         */
+        private volatile T period;
+        /**
+         * Whether the subscription is cancelled.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Restricted constructor.
+         *
+         * @param publisher  the publisher
+         * @param periodQuery  the query
+         * @param subscriber  the subscriber
+         * @param errorHandler  the error handler
+         * @param today  the current date
+         */
+        private Subscription(
+                PeriodRolloverPublisher publisher,
+                TemporalQuery<T> periodQuery,
+                Consumer<? super PeriodRollover<T>> subscriber,
+                Consumer<? super RuntimeException> errorHandler,
+                LocalDate today) {
+            this.publisher = publisher;
+            this.periodQuery = periodQuery;
+            this.subscriber = subscriber;
+            this.errorHandler = errorHandler;
+            this.period = Objects.requireNonNull(today.query(periodQuery), "periodQuery result");
+        }
+
+        /**
+         * Gets the period that was current when last checked.
+         *
+         * @return the current period, not null
+         */
+        public T getPeriod() {
+            return period;
+        }
+
+        /**
+         * Checks if this subscription has been cancelled.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Cancels this subscription.
+         * <p>
+         * No further events will be published to the subscriber, although an
+         * event that is currently being published may still be delivered.
+         */
+        public void cancel() {
+            cancelled = true;
+            publisher.subscriptions.remove(this);
+        }
+
+        private synchronized void publish(LocalDate date, Instant instant) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                T previous = period;
+                T current = date.query(periodQuery);
+                if (current == null || current.equals(previous)) {
+                    return;
+                }
+                period = current;
+                subscriber.accept(PeriodRollover.of(previous, current, instant));
+            } catch (RuntimeException ex) {
+                cancel();
+                try {
+                    errorHandler.accept(ex);
+                } catch (RuntimeException ignored) {
+                    // the timer thread must keep publishing to other subscribers
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,711 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A date-based recurrence rule, using a subset of the RFC 5545 {@code RRULE} format.
+ * <p>
+ * A rule such as {@code FREQ=MONTHLY;BYDAY=-1FR}, the last Friday of every month,
+ * is expanded from a start date into a lazy stream of occurrences.
+ * The following parts are supported:
+ * <ul>
+ * <li>{@code FREQ} - required, one of {@code DAILY}, {@code WEEKLY}, {@code MONTHLY} or {@code YEARLY}
+ * <li>{@code INTERVAL} - the number of periods between each set of occurrences, defaulting to one
+ * <li>{@code COUNT} - the maximum number of occurrences
+ * <li>{@code UNTIL} - the last date, inclusive, in the form {@code yyyyMMdd}
+ * <li>{@code BYMONTH} - the months, from 1 to 12
+ * <li>{@code BYMONTHDAY} - the days of the month, from 1 to 31, or -1 to -31 counting from the end
+ * <li>{@code BYDAY} - the days of the week, such as {@code MO} or {@code TU,TH},
+ *  optionally prefixed by an ordinal, such as {@code 2MO} or {@code -1FR}, in monthly and yearly rules
+ * </ul>
+ * The parts are combined as described in RFC 5545, with the week starting on Monday.
+ * Time-based parts, such as {@code BYHOUR}, and {@code BYSETPOS} are not supported.
+ * Only dates that match the rule are returned, thus the start date itself is only
+ * returned if it matches.
+ * <p>
+ * The rule is expanded one period at a time, where a period is a day, week, month or year
+ * depending on the frequency. The first occurrence on or after a date is found by
+ * calculating the period containing the date directly, without expanding earlier periods.
+ * The stream can be split by period for parallel expansion, unless {@code COUNT} is used.
+ * A rule that can never match, such as the 30th of February, is detected after a full
+ * 400 year cycle of empty periods.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class RecurrenceRule {
+
+    /**
+     * The pattern for a single BYDAY value.
+     */
+    private static final Pattern BYDAY = Pattern.compile("([+-]?[0-9]{1,2})?(MO|TU|WE|TH|FR|SA|SU)");
+    /**
+     * The two letter day-of-week codes, from Monday.
+     */
+    private static final List<String> DAY_CODES = Arrays.asList("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+    /**
+     * The last date that can be expanded.
+     */
+    private static final LocalDate MAX_DATE = LocalDate.of(Year.MAX_VALUE - 1, 1, 1);
+
+    /**
+     * The frequency of the rule.
+     */
+    private final Frequency frequency;
+    /**
+     * The interval between periods.
+     */
+    private final int interval;
+    /**
+     * The maximum number of occurrences, zero if not limited.
+     */
+    private final long count;
+    /**
+     * The last date, inclusive, null if not limited.
+     */
+    private final LocalDate until;
+    /**
+     * The months, bits 1 to 12, zero if not restricted.
+     */
+    private final int byMonth;
+    /**
+     * The days of the month, null if not restricted.
+     */
+    private final int[] byMonthDay;
+    /**
+     * The ordinal of each day of the week, zero for every occurrence, null if not restricted.
+     */
+    private final int[] byDayOrdinal;
+    /**
+     * The day of the week, from 1 to 7, parallel to the ordinals.
+     */
+    private final int[] byDayOfWeek;
+    /**
+     * The canonical text of the rule.
+     */
+    private final String text;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code RecurrenceRule} by parsing an RFC 5545 {@code RRULE} value.
+     * <p>
+     * The text consists of semicolon separated {@code NAME=VALUE} parts, optionally
+     * prefixed by {@code RRULE:}, such as {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed rule, not null
+     * @throws DateTimeParseException if the text cannot be parsed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        String str = text.toString();
+        String rule = str.toUpperCase(Locale.ENGLISH);
+        if (rule.startsWith("RRULE:")) {
+            rule = rule.substring(6);
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        long count = 0;
+        LocalDate until = null;
+        int byMonth = 0;
+        int[] byMonthDay = null;
+        int[] byDayOrdinal = null;
+        int[] byDayOfWeek = null;
+        for (String part : rule.split(";", -1)) {
+            int eq = part.indexOf('=');
+            if (eq < 0) {
+                throw new DateTimeParseException("Invalid recurrence rule part: " + part, str, 0);
+            }
+            String name = part.substring(0, eq);
+            String value = part.substring(eq + 1);
+            try {
+                switch (name) {
+                    case "FREQ":
+                        frequency = Frequency.valueOf(value);
+                        break;
+                    case "INTERVAL":
+                        interval = parseInt(str, value, 1, Integer.MAX_VALUE);
+                        break;
+                    case "COUNT":
+                        count = parseInt(str, value, 1, Integer.MAX_VALUE);
+                        break;
+                    case "UNTIL":
+                        until = LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE);
+                        break;
+                    case "BYMONTH":
+                        for (String month : value.split(",", -1)) {
+                            byMonth |= 1 << parseInt(str, month, 1, 12);
+                        }
+                        break;
+                    case "BYMONTHDAY":
+                        String[] days = value.split(",", -1);
+                        byMonthDay = new int[days.length];
+                        for (int i = 0; i < days.length; i++) {
+                            byMonthDay[i] = parseInt(str, days[i], -31, 31);
+                            if (byMonthDay[i] == 0) {
+                                throw new DateTimeParseException("Invalid BYMONTHDAY: " + value, str, 0);
+                            }
+                        }
+                        break;
+                    case "BYDAY":
+                        String[] dows = value.split(",", -1);
+                        byDayOrdinal = new int[dows.length];
+                        byDayOfWeek = new int[dows.length];
+                        for (int i = 0; i < dows.length; i++) {
+                            Matcher matcher = BYDAY.matcher(dows[i]);
+                            if (matcher.matches() == false) {
+                                throw new DateTimeParseException("Invalid BYDAY: " + value, str, 0);
+                            }
+                            if (matcher.group(1) != null) {
+                                byDayOrdinal[i] = parseInt(str, matcher.group(1), -53, 53);
+                                if (byDayOrdinal[i] == 0) {
+                                    throw new DateTimeParseException("Invalid BYDAY: " + value, str, 0);
+                                }
+                            }
+                            byDayOfWeek[i] = DAY_CODES.indexOf(matcher.group(2)) + 1;
+                        }
+                        break;
+                    default:
+                        throw new DateTimeParseException("Unsupported recurrence rule part: " + name, str, 0);
+                }
+            } catch (IllegalArgumentException ex) {
+                throw new DateTimeParseException("Invalid recurrence rule part: " + part, str, 0, ex);
+            }
+        }
+        if (frequency == null) {
+            throw new DateTimeParseException("Recurrence rule must specify FREQ", str, 0);
+        }
+        if (count > 0 && until != null) {
+            throw new DateTimeParseException("Recurrence rule must not specify both COUNT and UNTIL", str, 0);
+        }
+        if (byMonthDay != null && frequency == Frequency.WEEKLY) {
+            throw new DateTimeParseException("BYMONTHDAY is not valid in a weekly rule", str, 0);
+        }
+        if (byDayOrdinal != null && (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY)) {
+            for (int ordinal : byDayOrdinal) {
+                if (ordinal != 0) {
+                    throw new DateTimeParseException("BYDAY ordinals are only valid in monthly and yearly rules", str, 0);
+                }
+            }
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byMonth, byMonthDay, byDayOrdinal, byDayOfWeek);
+    }
+
+    private static int parseInt(String text, String value, int min, int max) {
+        int result = Integer.parseInt(value.startsWith("+") ? value.substring(1) : value);
+        if (result < min || result > max) {
+            throw new DateTimeParseException("Value out of range in recurrence rule: " + value, text, 0);
+        }
+        return result;
+    }
+
+    /**
+     * Restricted constructor.
+     */
+    private RecurrenceRule(
+            Frequency frequency,
+            int interval,
+            long count,
+            LocalDate until,
+            int byMonth,
+            int[] byMonthDay,
+            int[] byDayOrdinal,
+            int[] byDayOfWeek) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byMonth = byMonth;
+        this.byMonthDay = byMonthDay;
+        this.byDayOrdinal = byDayOrdinal;
+        this.byDayOfWeek = byDayOfWeek;
+        this.text = buildText();
+    }
+
+    private String buildText() {
+        StringBuilder buf = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            buf.append(";INTERVAL=").append(interval);
+        }
+        if (count > 0) {
+            buf.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            buf.append(";UNTIL=").append(until.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        if (byMonth != 0) {
+            buf.append(";BYMONTH=");
+            for (int month = 1; month <= 12; month++) {
+                if ((byMonth & (1 << month)) != 0) {
+                    buf.append(month).append(',');
+                }
+            }
+            buf.setLength(buf.length() - 1);
+        }
+        if (byMonthDay != null) {
+            buf.append(";BYMONTHDAY=");
+            for (int day : byMonthDay) {
+                buf.append(day).append(',');
+            }
+            buf.setLength(buf.length() - 1);
+        }
+        if (byDayOrdinal != null) {
+            buf.append(";BYDAY=");
+            for (int i = 0; i < byDayOrdinal.length; i++) {
+                if (byDayOrdinal[i] != 0) {
+                    buf.append(byDayOrdinal[i]);
+                }
+                buf.append(DAY_CODES.get(byDayOfWeek[i] - 1)).append(',');
+            }
+            buf.setLength(buf.length() - 1);
+        }
+        return buf.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Expands this rule into a lazy stream of dates from the specified start date.
+     * <p>
+     * The start date defines the first period, and supplies the day-of-week,
+     * day-of-month and month where the rule does not specify them.
+     * No date before the start date is returned.
+     * <p>
+     * The stream is sequential, but may be made parallel, in which case it is split by period.
+     * If the rule has neither {@code COUNT} nor {@code UNTIL} then the stream is effectively infinite.
+     *
+     * @param dtStart  the start date, not null
+     * @return the stream of occurrences, in order, not null
+     */
+    public Stream<LocalDate> stream(LocalDate dtStart) {
+        Objects.requireNonNull(dtStart, "dtStart");
+        return StreamSupport.stream(new Expander(dtStart, 0, periodLimit(dtStart)), false);
+    }
+
+    /**
+     * Expands this rule into a lazy stream of date-times from the specified start date-time.
+     * <p>
+     * The rule is expanded using the local date of the start, as per {@link #stream(LocalDate)}.
+     * Each occurrence has the same local time and time-zone as the start.
+     * If the local date-time is in a gap, such as when clocks spring forward,
+     * the result is moved later by the length of the gap.
+     *
+     * @param dtStart  the start date-time, not null
+     * @return the stream of occurrences, in order, not null
+     */
+    public Stream<ZonedDateTime> stream(ZonedDateTime dtStart) {
+        Objects.requireNonNull(dtStart, "dtStart");
+        return stream(dtStart.toLocalDate())
+                .map(date -> ZonedDateTime.of(date, dtStart.toLocalTime(), dtStart.getZone()));
+    }
+
+    /**
+     * Finds the first occurrence on or after the specified date.
+     * <p>
+     * The period containing the date is calculated directly, and expansion starts from there,
+     * thus the cost does not depend on the number of earlier occurrences.
+     * If the rule has a {@code COUNT}, earlier occurrences must be counted and are expanded.
+     *
+     * @param dtStart  the start date of the rule, not null
+     * @param date  the date to search from, inclusive, not null
+     * @return the first occurrence on or after the date, empty if there is none
+     */
+    public Optional<LocalDate> firstOnOrAfter(LocalDate dtStart, LocalDate date) {
+        Objects.requireNonNull(dtStart, "dtStart");
+        Objects.requireNonNull(date, "date");
+        return streamFrom(dtStart, date)
+                .filter(occurrence -> occurrence.isBefore(date) == false)
+                .findFirst();
+    }
+
+    /**
+     * Finds the first occurrence on or after the specified date-time.
+     * <p>
+     * Occurrences are generated as per {@link #stream(ZonedDateTime)}.
+     * The period containing the date-time is calculated directly, and expansion starts from there,
+     * thus the cost does not depend on the number of earlier occurrences.
+     * If the rule has a {@code COUNT}, earlier occurrences must be counted and are expanded.
+     *
+     * @param dtStart  the start date-time of the rule, not null
+     * @param dateTime  the date-time to search from, inclusive, not null
+     * @return the first occurrence on or after the date-time, empty if there is none
+     */
+    public Optional<ZonedDateTime> firstOnOrAfter(ZonedDateTime dtStart, ZonedDateTime dateTime) {
+        Objects.requireNonNull(dtStart, "dtStart");
+        Objects.requireNonNull(dateTime, "dateTime");
+        LocalDate date = dateTime.withZoneSameInstant(dtStart.getZone()).toLocalDate().minusDays(1);
+        return streamFrom(dtStart.toLocalDate(), date)
+                .map(occurrence -> ZonedDateTime.of(occurrence, dtStart.toLocalTime(), dtStart.getZone()))
+                .filter(occurrence -> occurrence.isBefore(dateTime) == false)
+                .findFirst();
+    }
+
+    private Stream<LocalDate> streamFrom(LocalDate dtStart, LocalDate date) {
+        if (count > 0) {
+            return stream(dtStart);
+        }
+        long index = Math.max(periodIndex(dtStart, date), 0);
+        return StreamSupport.stream(new Expander(dtStart, index, periodLimit(dtStart)), false);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the index of the period containing the date, rounded down to a multiple of the interval.
+     */
+    private long periodIndex(LocalDate dtStart, LocalDate date) {
+        long units;
+        switch (frequency) {
+            case DAILY:
+                units = date.toEpochDay() - dtStart.toEpochDay();
+                break;
+            case WEEKLY:
+                units = Math.floorDiv(mondayOf(date).toEpochDay() - mondayOf(dtStart).toEpochDay(), 7);
+                break;
+            case MONTHLY:
+                units = (date.getYear() * 12L + date.getMonthValue()) - (dtStart.getYear() * 12L + dtStart.getMonthValue());
+                break;
+            default:
+                units = date.getYear() - (long) dtStart.getYear();
+                break;
+        }
+        return Math.floorDiv(units, interval);
+    }
+
+    private long periodLimit(LocalDate dtStart) {
+        LocalDate last = (until != null && until.isBefore(MAX_DATE) ? until : MAX_DATE);
+        return (last.isBefore(dtStart) ? 0 : periodIndex(dtStart, last) + 1);
+    }
+
+    private static LocalDate mondayOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Expands a single period into the sorted list of occurrences.
+     */
+    private void expand(LocalDate dtStart, long index, List<LocalDate> out) {
+        long units = index * interval;
+        switch (frequency) {
+            case DAILY: {
+                LocalDate date = dtStart.plusDays(units);
+                if (matchesMonth(date.getMonthValue()) && matchesMonthDay(date) && matchesDay(date, date.getDayOfMonth())) {
+                    out.add(date);
+                }
+                break;
+            }
+            case WEEKLY: {
+                LocalDate monday = mondayOf(dtStart).plusWeeks(units);
+                if (byDayOfWeek == null) {
+                    addIfMonthMatches(monday.plusDays(dtStart.getDayOfWeek().getValue() - 1), out);
+                } else {
+                    for (int dow : byDayOfWeek) {
+                        addIfMonthMatches(monday.plusDays(dow - 1), out);
+                    }
+                }
+                break;
+            }
+            case MONTHLY: {
+                LocalDate first = dtStart.withDayOfMonth(1).plusMonths(units);
+                if (matchesMonth(first.getMonthValue())) {
+                    expandMonth(dtStart, first, out);
+                }
+                break;
+            }
+            default: {
+                LocalDate first = dtStart.withDayOfYear(1).plusYears(units);
+                expandYear(dtStart, first, out);
+                break;
+            }
+        }
+        if (out.size() > 1) {
+            Collections.sort(out);
+            for (int i = out.size() - 1; i > 0; i--) {
+                if (out.get(i).equals(out.get(i - 1))) {
+                    out.remove(i);
+                }
+            }
+        }
+        out.removeIf(date -> date.isBefore(dtStart) || (until != null && date.isAfter(until)));
+    }
+
+    private void addIfMonthMatches(LocalDate date, List<LocalDate> out) {
+        if (matchesMonth(date.getMonthValue())) {
+            out.add(date);
+        }
+    }
+
+    private void expandYear(LocalDate dtStart, LocalDate first, List<LocalDate> out) {
+        if (byMonth != 0 || (byMonthDay != null && byDayOfWeek == null)) {
+            for (int month = 1; month <= 12; month++) {
+                if (matchesMonth(month)) {
+                    expandMonth(dtStart, first.withMonth(month), out);
+                }
+            }
+        } else if (byDayOfWeek != null) {
+            int length = first.lengthOfYear();
+            for (int i = 0; i < byDayOfWeek.length; i++) {
+                addDays(first, length, byDayOrdinal[i], byDayOfWeek[i], out);
+            }
+            if (byMonthDay != null) {
+                out.removeIf(date -> matchesMonthDay(date) == false);
+            }
+        } else if (dtStart.getDayOfMonth() <= first.withMonth(dtStart.getMonthValue()).lengthOfMonth()) {
+            out.add(first.withMonth(dtStart.getMonthValue()).withDayOfMonth(dtStart.getDayOfMonth()));
+        }
+    }
+
+    private void expandMonth(LocalDate dtStart, LocalDate first, List<LocalDate> out) {
+        int length = first.lengthOfMonth();
+        if (byMonthDay != null) {
+            for (int day : byMonthDay) {
+                int dom = (day > 0 ? day : length + day + 1);
+                if (dom >= 1 && dom <= length) {
+                    LocalDate date = first.withDayOfMonth(dom);
+                    if (matchesDay(date, dom)) {
+                        out.add(date);
+                    }
+                }
+            }
+        } else if (byDayOfWeek != null) {
+            for (int i = 0; i < byDayOfWeek.length; i++) {
+                addDays(first, length, byDayOrdinal[i], byDayOfWeek[i], out);
+            }
+        } else if (dtStart.getDayOfMonth() <= length) {
+            out.add(first.withDayOfMonth(dtStart.getDayOfMonth()));
+        }
+    }
+
+    /**
+     * Adds the days matching the day-of-week and ordinal within a month or year.
+     */
+    private static void addDays(LocalDate first, int length, int ordinal, int dow, List<LocalDate> out) {
+        int firstMatch = Math.floorMod(dow - first.getDayOfWeek().getValue(), 7);
+        int matches = (length - 1 - firstMatch) / 7 + 1;
+        if (ordinal == 0) {
+            for (int i = 0; i < matches; i++) {
+                out.add(first.plusDays(firstMatch + i * 7L));
+            }
+        } else {
+            int nth = (ordinal > 0 ? ordinal - 1 : matches + ordinal);
+            if (nth >= 0 && nth < matches) {
+                out.add(first.plusDays(firstMatch + nth * 7L));
+            }
+        }
+    }
+
+    private boolean matchesMonth(int month) {
+        return byMonth == 0 || (byMonth & (1 << month)) != 0;
+    }
+
+    private boolean matchesMonthDay(LocalDate date) {
+        if (byMonthDay == null) {
+            return true;
+        }
+        int dom = date.getDayOfMonth();
+        int length = date.lengthOfMonth();
+        for (int day : byMonthDay) {
+            if (day == dom || length + day + 1 == dom) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the date matches BYDAY, with any ordinal relative to the month.
+     */
+    private boolean matchesDay(LocalDate date, int dom) {
+        if (byDayOfWeek == null) {
+            return true;
+        }
+        int dow = date.getDayOfWeek().getValue();
+        for (int i = 0; i < byDayOfWeek.length; i++) {
+            if (byDayOfWeek[i] == dow) {
+                int ordinal = byDayOrdinal[i];
+                if (ordinal == 0 ||
+                        ordinal == (dom - 1) / 7 + 1 ||
+                        ordinal == -((date.lengthOfMonth() - dom) / 7 + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this rule is equal to another rule.
+     * <p>
+     * The comparison is based on the canonical form of the rule.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other rule
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof RecurrenceRule) {
+            return text.equals(((RecurrenceRule) obj).text);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this rule.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    /**
+     * Outputs this rule in canonical RFC 5545 form, such as {@code FREQ=MONTHLY;BYDAY=-1FR}.
+     *
+     * @return the rule, not null
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The supported frequencies.
+     */
+    private static enum Frequency {
+        DAILY(146097),
+        WEEKLY(20871),
+        MONTHLY(4800),
+        YEARLY(400);
+
+        /**
+         * The number of periods in the 400 year cycle of the calendar.
+         */
+        private final int cycle;
+
+        private Frequency(int cycle) {
+            this.cycle = cycle;
+        }
+    }
+
+    /**
+     * Expands the rule over a range of periods.
+     */
+    private final class Expander implements Spliterator<LocalDate> {
+        private final LocalDate dtStart;
+        private final List<LocalDate> buffer = new ArrayList<>();
+        private long index;
+        private long fence;
+        private long remaining;
+        private int position;
+        private int emptyPeriods;
+
+        Expander(LocalDate dtStart, long index, long fence) {
+            this.dtStart = dtStart;
+            this.index = index;
+            this.fence = fence;
+            this.remaining = (count > 0 ? count : Long.MAX_VALUE);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            while (position >= buffer.size()) {
+                if (index >= fence || emptyPeriods > frequency.cycle) {
+                    return false;
+                }
+                buffer.clear();
+                position = 0;
+                expand(dtStart, index++, buffer);
+                emptyPeriods = (buffer.isEmpty() ? emptyPeriods + 1 : 0);
+            }
+            remaining--;
+            action.accept(buffer.get(position++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<LocalDate> trySplit() {
+            if (count > 0 || position < buffer.size() || fence - index < 2) {
+                return null;
+            }
+            long mid = index + (fence - index) / 2;
+            Expander prefix = new Expander(dtStart, index, mid);
+            index = mid;
+            emptyPeriods = 0;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (count > 0 ? remaining : fence - index);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            return null;
+        }
+    }
+
+}
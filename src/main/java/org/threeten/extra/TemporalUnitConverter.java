@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoUnit.ERAS;
+import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.WEEKS;
+
+import java.time.DateTimeException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Objects;
+
+/**
+ * A converter of amounts from one unit to another.
+ * <p>
+ * This provides the same conversion as {@link Temporals#convertAmount(long, TemporalUnit, TemporalUnit)},
+ * but validates the units and calculates the conversion factor once, when the converter is created.
+ * The converter can then be used repeatedly without allocation.
+ * Converters are cached, so obtaining the converter for the same pair of units again is cheap.
+ * <p>
+ * This works on the units in {@code ChronoUnit} and {@code IsoFields}.
+ * The {@code DAYS} and {@code WEEKS} units are handled as exact multiple of 24 hours.
+ * The {@code ERAS} and {@code FOREVER} units are not supported.
+ * <p>
+ * When converting to a smaller unit, the quotient is the amount multiplied by the
+ * conversion factor and the remainder is zero.
+ * When converting to a larger unit, the quotient is the amount divided by the
+ * conversion factor, truncated towards zero, and the remainder is the signed remainder
+ * in terms of the input unit.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class TemporalUnitConverter {
+
+    /**
+     * The index of the quarter unit in the cache, after the {@code ChronoUnit} values.
+     */
+    private static final int QUARTER_INDEX = ChronoUnit.values().length;
+    /**
+     * The cache of converters, indexed by the pair of units.
+     * Converters are immutable, so a racy write only results in a duplicate converter.
+     */
+    private static final TemporalUnitConverter[] CACHE = new TemporalUnitConverter[(QUARTER_INDEX + 1) * (QUARTER_INDEX + 1)];
+
+    /**
+     * The unit to convert from.
+     */
+    private final TemporalUnit fromUnit;
+    /**
+     * The unit to convert to.
+     */
+    private final TemporalUnit toUnit;
+    /**
+     * The factor to multiply by, one if dividing.
+     */
+    private final long multiplier;
+    /**
+     * The factor to divide by, one if multiplying.
+     */
+    private final long divisor;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a converter between two units.
+     *
+     * @param fromUnit  the unit to convert from, not null
+     * @param toUnit  the unit to convert to, not null
+     * @return the converter, not null
+     * @throws DateTimeException if the units cannot be converted
+     * @throws UnsupportedTemporalTypeException if the units are not supported
+     */
+    public static TemporalUnitConverter of(TemporalUnit fromUnit, TemporalUnit toUnit) {
+        Objects.requireNonNull(fromUnit, "fromUnit");
+        Objects.requireNonNull(toUnit, "toUnit");
+        validateUnit(fromUnit);
+        validateUnit(toUnit);
+        int index = cacheIndex(fromUnit) * (QUARTER_INDEX + 1) + cacheIndex(toUnit);
+        TemporalUnitConverter converter = CACHE[index];
+        if (converter == null) {
+            converter = create(fromUnit, toUnit);
+            CACHE[index] = converter;
+        }
+        return converter;
+    }
+
+    private static TemporalUnitConverter create(TemporalUnit fromUnit, TemporalUnit toUnit) {
+        if (fromUnit.equals(toUnit)) {
+            return new TemporalUnitConverter(fromUnit, toUnit, 1, 1);
+        }
+        // precise-based
+        if (isPrecise(fromUnit) && isPrecise(toUnit)) {
+            long fromNanos = fromUnit.getDuration().toNanos();
+            long toNanos = toUnit.getDuration().toNanos();
+            if (fromNanos > toNanos) {
+                return new TemporalUnitConverter(fromUnit, toUnit, fromNanos / toNanos, 1);
+            } else {
+                return new TemporalUnitConverter(fromUnit, toUnit, 1, toNanos / fromNanos);
+            }
+        }
+        // month-based
+        int fromMonthFactor = monthMonthFactor(fromUnit, fromUnit, toUnit);
+        int toMonthFactor = monthMonthFactor(toUnit, fromUnit, toUnit);
+        if (fromMonthFactor > toMonthFactor) {
+            return new TemporalUnitConverter(fromUnit, toUnit, fromMonthFactor / toMonthFactor, 1);
+        } else {
+            return new TemporalUnitConverter(fromUnit, toUnit, 1, toMonthFactor / fromMonthFactor);
+        }
+    }
+
+    private static void validateUnit(TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            if (unit.equals(ERAS) || unit.equals(FOREVER)) {
+                throw new UnsupportedTemporalTypeException("Unsupported TemporalUnit: " + unit);
+            }
+        } else if (unit.equals(IsoFields.QUARTER_YEARS) == false) {
+            throw new UnsupportedTemporalTypeException("Unsupported TemporalUnit: " + unit);
+        }
+    }
+
+    private static int cacheIndex(TemporalUnit unit) {
+        return (unit instanceof ChronoUnit ? ((ChronoUnit) unit).ordinal() : QUARTER_INDEX);
+    }
+
+    private static boolean isPrecise(TemporalUnit unit) {
+        return unit instanceof ChronoUnit && ((ChronoUnit) unit).compareTo(WEEKS) <= 0;
+    }
+
+    private static int monthMonthFactor(TemporalUnit unit, TemporalUnit fromUnit, TemporalUnit toUnit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case MONTHS:
+                    return 1;
+                case YEARS:
+                    return 12;
+                case DECADES:
+                    return 120;
+                case CENTURIES:
+                    return 1200;
+                case MILLENNIA:
+                    return 12000;
+                default:
+                    throw new DateTimeException(
+                            String.format("Unable to convert between units: %s to %s", fromUnit, toUnit));
+            }
+        }
+        return 3;  // quarters
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param fromUnit  the unit to convert from, not null
+     * @param toUnit  the unit to convert to, not null
+     * @param multiplier  the factor to multiply by, one if dividing
+     * @param divisor  the factor to divide by, one if multiplying
+     */
+    private TemporalUnitConverter(TemporalUnit fromUnit, TemporalUnit toUnit, long multiplier, long divisor) {
+        this.fromUnit = fromUnit;
+        this.toUnit = toUnit;
+        this.multiplier = multiplier;
+        this.divisor = divisor;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the unit to convert from.
+     *
+     * @return the unit to convert from, not null
+     */
+    public TemporalUnit getFromUnit() {
+        return fromUnit;
+    }
+
+    /**
+     * Gets the unit to convert to.
+     *
+     * @return the unit to convert to, not null
+     */
+    public TemporalUnit getToUnit() {
+        return toUnit;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an amount, returning the signed whole number in terms of the output unit.
+     *
+     * @param amount  the input amount in terms of the from unit
+     * @return the signed whole number in terms of the to unit
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public long quotient(long amount) {
+        return (divisor == 1 ? Math.multiplyExact(amount, multiplier) : amount / divisor);
+    }
+
+    /**
+     * Converts an amount, returning the signed remainder in terms of the input unit.
+     * <p>
+     * The remainder is always zero when converting to a smaller unit.
+     *
+     * @param amount  the input amount in terms of the from unit
+     * @return the signed remainder in terms of the from unit
+     */
+    public long remainder(long amount) {
+        return amount % divisor;
+    }
+
+    /**
+     * Converts an array of amounts, storing the quotient of each.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param amounts  the input amounts in terms of the from unit, not null
+     * @param quotients  the array to store the signed whole numbers in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public void quotients(long[] amounts, long[] quotients) {
+        validateArrays(amounts, quotients);
+        if (divisor == 1) {
+            for (int i = 0; i < amounts.length; i++) {
+                quotients[i] = Math.multiplyExact(amounts[i], multiplier);
+            }
+        } else {
+            for (int i = 0; i < amounts.length; i++) {
+                quotients[i] = amounts[i] / divisor;
+            }
+        }
+    }
+
+    /**
+     * Converts an array of amounts, storing the remainder of each.
+     * <p>
+     * The two arrays may be the same array, in which case the conversion is in place.
+     *
+     * @param amounts  the input amounts in terms of the from unit, not null
+     * @param remainders  the array to store the signed remainders in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public void remainders(long[] amounts, long[] remainders) {
+        validateArrays(amounts, remainders);
+        for (int i = 0; i < amounts.length; i++) {
+            remainders[i] = amounts[i] % divisor;
+        }
+    }
+
+    private static void validateArrays(long[] amounts, long[] results) {
+        Objects.requireNonNull(amounts, "amounts");
+        Objects.requireNonNull(results, "results");
+        if (amounts.length != results.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this converter is equal to another converter.
+     * <p>
+     * The comparison is based on the two units.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other converter
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof TemporalUnitConverter) {
+            TemporalUnitConverter other = (TemporalUnitConverter) obj;
+            return fromUnit.equals(other.fromUnit) && toUnit.equals(other.toUnit);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this converter.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return fromUnit.hashCode() ^ (toUnit.hashCode() * 31);
+    }
+
+    /**
+     * Outputs this converter as a {@code String}, such as {@code Hours->Days}.
+     *
+     * @return a string representation of this converter, not null
+     */
+    @Override
+    public String toString() {
+        return fromUnit + "->" + toUnit;
+    }
+
+}
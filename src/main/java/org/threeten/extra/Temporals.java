@@ -33,17 +33,14 @@ package org.threeten.extra;
 
 import static java.time.temporal.ChronoField.DAY_OF_WEEK;
 import static java.time.temporal.ChronoUnit.DAYS;
-import static java.time.temporal.ChronoUnit.ERAS;
-import static java.time.temporal.ChronoUnit.FOREVER;
-import static java.time.temporal.ChronoUnit.WEEKS;
 
 import java.time.DateTimeException;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.IsoFields;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -53,6 +50,8 @@ import java.util.concurrent.TimeUnit;
  * This includes:
  * <ul>
  * <li>adjusters that ignore Saturday/Sunday weekends
+ * <li>adjusters that use a {@link BusinessCalendar}
+ * <li>bulk working day adjustment of arrays of epoch-days
  * <li>conversion between {@code TimeUnit} and {@code ChronoUnit}
  * <li>converting an amount to another unit
  * </ul>
@@ -63,6 +62,11 @@ import java.util.concurrent.TimeUnit;
  */
 public final class Temporals {
 
+    /**
+     * The array length above which bulk operations run in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 8192;
+
     /**
      * Restricted constructor.
      */
@@ -96,6 +100,50 @@ public final class Temporals {
         return Adjuster.PREVIOUS_WORKING;
     }
 
+    /**
+     * Returns an adjuster that returns the next business day in the specified calendar.
+     * <p>
+     * The adjuster uses the weekend and holidays of the calendar.
+     * It can be applied to any temporal that supports {@code EPOCH_DAY}.
+     *
+     * @param calendar  the business calendar to use, not null
+     * @return the next business day adjuster, not null
+     */
+    public static TemporalAdjuster nextWorkingDay(BusinessCalendar calendar) {
+        Objects.requireNonNull(calendar, "calendar");
+        return calendar.adjuster(1);
+    }
+
+    /**
+     * Returns an adjuster that returns the previous business day in the specified calendar.
+     * <p>
+     * The adjuster uses the weekend and holidays of the calendar.
+     * It can be applied to any temporal that supports {@code EPOCH_DAY}.
+     *
+     * @param calendar  the business calendar to use, not null
+     * @return the previous business day adjuster, not null
+     */
+    public static TemporalAdjuster previousWorkingDay(BusinessCalendar calendar) {
+        Objects.requireNonNull(calendar, "calendar");
+        return calendar.adjuster(-1);
+    }
+
+    /**
+     * Returns an adjuster that adds a number of business days in the specified calendar.
+     * <p>
+     * The adjuster uses the weekend and holidays of the calendar.
+     * It can be applied to any temporal that supports {@code EPOCH_DAY}.
+     * See {@link BusinessCalendar#plusBusinessDays(java.time.LocalDate, int)}.
+     *
+     * @param amount  the number of business days to add, may be negative
+     * @param calendar  the business calendar to use, not null
+     * @return the adjuster, not null
+     */
+    public static TemporalAdjuster plusWorkingDays(int amount, BusinessCalendar calendar) {
+        Objects.requireNonNull(calendar, "calendar");
+        return calendar.adjuster(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Enum implementing the adjusters.
@@ -133,6 +181,152 @@ public final class Temporals {
         },
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Adjusts each epoch-day in the array to the next working day, ignoring Saturday and Sunday.
+     * <p>
+     * This is the bulk equivalent of {@link #nextWorkingDay()}, operating on
+     * epoch-days as defined by {@link java.time.LocalDate#toEpochDay()}.
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     * The values are not validated against the range of {@code LocalDate}.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static void nextWorkingDays(long[] epochDays) {
+        plusWorkingDays(epochDays, 1);
+    }
+
+    /**
+     * Adjusts each epoch-day in the array to the next working day, ignoring Saturday and Sunday.
+     * <p>
+     * This is the bulk equivalent of {@link #nextWorkingDay()}, operating on
+     * epoch-days as defined by {@link java.time.LocalDate#toEpochDay()}.
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @throws ArithmeticException if an adjusted value does not fit in an {@code int}
+     */
+    public static void nextWorkingDays(int[] epochDays) {
+        plusWorkingDays(epochDays, 1);
+    }
+
+    /**
+     * Adjusts each epoch-day in the array to the previous working day, ignoring Saturday and Sunday.
+     * <p>
+     * This is the bulk equivalent of {@link #previousWorkingDay()}, operating on
+     * epoch-days as defined by {@link java.time.LocalDate#toEpochDay()}.
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     * The values are not validated against the range of {@code LocalDate}.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static void previousWorkingDays(long[] epochDays) {
+        plusWorkingDays(epochDays, -1);
+    }
+
+    /**
+     * Adjusts each epoch-day in the array to the previous working day, ignoring Saturday and Sunday.
+     * <p>
+     * This is the bulk equivalent of {@link #previousWorkingDay()}, operating on
+     * epoch-days as defined by {@link java.time.LocalDate#toEpochDay()}.
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @throws ArithmeticException if an adjusted value does not fit in an {@code int}
+     */
+    public static void previousWorkingDays(int[] epochDays) {
+        plusWorkingDays(epochDays, -1);
+    }
+
+    /**
+     * Adds a number of working days to each epoch-day in the array, ignoring Saturday and Sunday.
+     * <p>
+     * A positive amount moves each value to the nth working day after it, and a
+     * negative amount to the nth working day before it. An amount of one is equivalent
+     * to {@link #nextWorkingDay()} and an amount of minus one to {@link #previousWorkingDay()}.
+     * An amount of zero leaves the array unchanged.
+     * <p>
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     * The values are not validated against the range of {@code LocalDate}.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @param amount  the number of working days to add, may be negative
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static void plusWorkingDays(long[] epochDays, int amount) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        if (amount == 0) {
+            return;
+        }
+        if (epochDays.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(epochDays, i -> plusWorkingDays(epochDays[i], amount));
+        } else {
+            for (int i = 0; i < epochDays.length; i++) {
+                epochDays[i] = plusWorkingDays(epochDays[i], amount);
+            }
+        }
+    }
+
+    /**
+     * Adds a number of working days to each epoch-day in the array, ignoring Saturday and Sunday.
+     * <p>
+     * A positive amount moves each value to the nth working day after it, and a
+     * negative amount to the nth working day before it. An amount of one is equivalent
+     * to {@link #nextWorkingDay()} and an amount of minus one to {@link #previousWorkingDay()}.
+     * An amount of zero leaves the array unchanged.
+     * <p>
+     * The array is updated in place, without allocating a date for each element.
+     * The day-of-week is calculated arithmetically, and large arrays are processed in parallel.
+     *
+     * @param epochDays  the epoch-days to adjust in place, not null
+     * @param amount  the number of working days to add, may be negative
+     * @throws ArithmeticException if an adjusted value does not fit in an {@code int}
+     */
+    public static void plusWorkingDays(int[] epochDays, int amount) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        if (amount == 0) {
+            return;
+        }
+        if (epochDays.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(epochDays, i -> Math.toIntExact(plusWorkingDays(epochDays[i], amount)));
+        } else {
+            for (int i = 0; i < epochDays.length; i++) {
+                epochDays[i] = Math.toIntExact(plusWorkingDays(epochDays[i], amount));
+            }
+        }
+    }
+
+    private static long plusWorkingDays(long epochDay, int amount) {
+        // epoch-day 0 is a Thursday, so Monday is 0 and Sunday is 6
+        int dow = (int) Math.floorMod(epochDay + 3, 7L);
+        if (amount > 0) {
+            if (dow >= 5) {
+                // weekend counts from the previous Friday
+                epochDay -= dow - 4;
+                dow = 4;
+            }
+            int rem = amount % 5;
+            long days = (amount / 5) * 7L + rem + (dow + rem >= 5 ? 2 : 0);
+            return Math.addExact(epochDay, days);
+        } else {
+            if (dow >= 5) {
+                // weekend counts from the next Monday
+                epochDay += 7 - dow;
+                dow = 0;
+            }
+            int rem = -(amount % 5);
+            long days = -(amount / 5) * 7L + rem + (dow - rem < 0 ? 2 : 0);
+            return Math.subtractExact(epochDay, days);
+        }
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Converts a {@code TimeUnit} to a {@code ChronoUnit}.
@@ -202,6 +396,8 @@ public final class Temporals {
      * This works on the units in {@code ChronoUnit} and {@code IsoFields}.
      * The {@code DAYS} and {@code WEEKS} units are handled as exact multiple of 24 hours.
      * The {@code ERAS} and {@code FOREVER} units are not supported.
+     * <p>
+     * When converting many amounts between the same units, use {@link TemporalUnitConverter}.
      *
      * @param amount  the input amount in terms of the {@code fromUnit}
      * @param fromUnit  the unit to convert from, not null
@@ -215,70 +411,8 @@ public final class Temporals {
      * @throws ArithmeticException if numeric overflow occurs
      */
     public static long[] convertAmount(long amount, TemporalUnit fromUnit, TemporalUnit toUnit) {
-        Objects.requireNonNull(fromUnit, "fromUnit");
-        Objects.requireNonNull(toUnit, "toUnit");
-        validateUnit(fromUnit);
-        validateUnit(toUnit);
-        if (fromUnit.equals(toUnit)) {
-            return new long[] {amount, 0};
-        }
-        // precise-based
-        if (isPrecise(fromUnit) && isPrecise(toUnit)) {
-            long fromNanos = fromUnit.getDuration().toNanos();
-            long toNanos = toUnit.getDuration().toNanos();
-            if (fromNanos > toNanos) {
-                long multiple = fromNanos / toNanos;
-                return new long[] {Math.multiplyExact(amount, multiple), 0};
-            } else {
-                long multiple = toNanos / fromNanos;
-                return new long[] {amount / multiple, amount % multiple};
-            }
-        }
-        // month-based
-        int fromMonthFactor = monthMonthFactor(fromUnit, fromUnit, toUnit);
-        int toMonthFactor = monthMonthFactor(toUnit, fromUnit, toUnit);
-        if (fromMonthFactor > toMonthFactor) {
-            long multiple = fromMonthFactor / toMonthFactor;
-            return new long[] {Math.multiplyExact(amount, multiple), 0};
-        } else {
-            long multiple = toMonthFactor / fromMonthFactor;
-            return new long[] {amount / multiple, amount % multiple};
-        }
-    }
-
-    private static void validateUnit(TemporalUnit unit) {
-        if (unit instanceof ChronoUnit) {
-            if (unit.equals(ERAS) || unit.equals(FOREVER)) {
-                throw new UnsupportedTemporalTypeException("Unsupported TemporalUnit: " + unit);
-            }
-        } else if (unit.equals(IsoFields.QUARTER_YEARS) == false) {
-            throw new UnsupportedTemporalTypeException("Unsupported TemporalUnit: " + unit);
-        }
-    }
-
-    private static boolean isPrecise(TemporalUnit unit) {
-        return unit instanceof ChronoUnit && ((ChronoUnit) unit).compareTo(WEEKS) <= 0;
-    }
-
-    private static int monthMonthFactor(TemporalUnit unit, TemporalUnit fromUnit, TemporalUnit toUnit) {
-        if (unit instanceof ChronoUnit) {
-            switch ((ChronoUnit) unit) {
-                case MONTHS:
-                    return 1;
-                case YEARS:
-                    return 12;
-                case DECADES:
-                    return 120;
-                case CENTURIES:
-                    return 1200;
-                case MILLENNIA:
-                    return 12000;
-                default:
-                    throw new DateTimeException(
-                            String.format("Unable to convert between units: %s to %s", fromUnit, toUnit));
-            }
-        }
-        return 3;  // quarters
+        TemporalUnitConverter converter = TemporalUnitConverter.of(fromUnit, toUnit);
+        return new long[] {converter.quotient(amount), converter.remainder(amount)};
     }
 
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalField;
+import java.util.Objects;
+
+/**
+ * Parser and formatter for the year-based periods, such as {@code 2024-Q3} and {@code 2024-W07}.
+ * <p>
+ * This replaces a {@code DateTimeFormatter} with a single pass over the text.
+ * The format is a year, a dash, a case insensitive letter and a fixed width number.
+ * The year follows the ISO-8601 extended year rules, having at least four digits,
+ * a minus sign if negative and a plus sign if more than four digits are needed.
+ * <p>
+ * Parsing and formatting to bytes do not allocate.
+ * Byte input and output is treated as ASCII, without encoding or decoding.
+ * If parsing fails, the exception holds the whole input and the index within it,
+ * matching {@code DateTimeFormatter.parse(CharSequence, ParsePosition)}.
+ * The string forms of recent years are cached.
+ *
+ * <h3>Implementation Requirements:</h3>
+ * This class is thread-safe.
+ */
+final class YearPeriodCodec {
+
+    /**
+     * Codec for {@code YearQuarter}, in the format {@code yyyy-'Q'q}.
+     */
+    static final YearPeriodCodec QUARTER = new YearPeriodCodec("YearQuarter", ChronoField.YEAR, 'Q', 1, 4);
+    /**
+     * Codec for {@code YearWeek}, in the format {@code yyyy-'W'ww}.
+     */
+    static final YearPeriodCodec WEEK = new YearPeriodCodec("YearWeek", IsoFields.WEEK_BASED_YEAR, 'W', 2, 53);
+    /**
+     * The maximum length of the formatted form, a sign, ten digits, dash, letter and two digits.
+     */
+    static final int MAX_LENGTH = 15;
+    /**
+     * The first year with cached strings.
+     */
+    private static final int CACHE_MIN_YEAR = 1970;
+    /**
+     * The last year with cached strings.
+     */
+    private static final int CACHE_MAX_YEAR = 2099;
+
+    /**
+     * The name of the type being parsed.
+     */
+    private final String type;
+    /**
+     * The field defining the valid years.
+     */
+    private final TemporalField yearField;
+    /**
+     * The upper case letter before the number.
+     */
+    private final int letter;
+    /**
+     * The number of digits in the number.
+     */
+    private final int width;
+    /**
+     * The maximum value of the number.
+     */
+    private final int maxValue;
+    /**
+     * The cached strings, populated lazily.
+     * Races are benign as strings are immutable and equal if computed twice.
+     */
+    private final String[] cache;
+
+    /**
+     * Restricted constructor.
+     *
+     * @param type  the name of the type
+     * @param yearField  the field defining the valid years
+     * @param letter  the upper case letter
+     * @param width  the number of digits in the number
+     * @param maxValue  the maximum value of the number
+     */
+    private YearPeriodCodec(String type, TemporalField yearField, int letter, int width, int maxValue) {
+        this.type = type;
+        this.yearField = yearField;
+        this.letter = letter;
+        this.width = width;
+        this.maxValue = maxValue;
+        this.cache = new String[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * maxValue];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a region of the text, returning the year multiplied by 100 plus the number.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the year multiplied by 100 plus the number, the number is from 1 to the maximum
+     * @throws IndexOutOfBoundsException if the region is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    long parse(CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "text");
+        checkRegion(start, end, text.length());
+        return parseInput(text, start, end);
+    }
+
+    /**
+     * Parses a region of ASCII bytes, returning the year multiplied by 100 plus the number.
+     *
+     * @param ascii  the bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the year multiplied by 100 plus the number, the number is from 1 to the maximum
+     * @throws IndexOutOfBoundsException if the region is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed
+     */
+    long parse(byte[] ascii, int start, int end) {
+        Objects.requireNonNull(ascii, "ascii");
+        checkRegion(start, end, ascii.length);
+        return parseInput(ascii, start, end);
+    }
+
+    private static void checkRegion(int start, int end, int length) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid region " + start + " to " + end + " for length " + length);
+        }
+    }
+
+    // single pass, the input is either a CharSequence or a byte array
+    private long parseInput(Object input, int start, int end) {
+        int pos = start;
+        int first = charAt(input, pos, end);
+        boolean negative = first == '-';
+        boolean positive = first == '+';
+        if (negative || positive) {
+            pos++;
+        }
+        int digitsStart = pos;
+        long year = 0;
+        while (pos < end && pos - digitsStart < 10) {
+            int digit = charAt(input, pos, end) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            year = year * 10 + digit;
+            pos++;
+        }
+        int digits = pos - digitsStart;
+        if (digits < 4) {
+            throw error(input, "expected four digit year", pos);
+        }
+        if (positive && digits == 4) {
+            throw error(input, "plus sign only permitted on years with more than four digits", start);
+        }
+        if (negative == false && positive == false && digits > 4) {
+            throw error(input, "plus sign required on years with more than four digits", start);
+        }
+        if (negative && year == 0) {
+            throw error(input, "negative zero year", start);
+        }
+        year = negative ? -year : year;
+        if (yearField.range().isValidValue(year) == false) {
+            throw error(input, "invalid year", start);
+        }
+        pos = expect(input, end, pos, '-');
+        pos = expect(input, end, pos, letter);
+        int valueStart = pos;
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            int digit = charAt(input, pos, end) - '0';
+            if (digit < 0 || digit > 9) {
+                throw error(input, "expected digit", pos);
+            }
+            value = value * 10 + digit;
+            pos++;
+        }
+        if (pos < end) {
+            throw error(input, "unexpected text", pos);
+        }
+        if (value < 1 || value > maxValue) {
+            throw error(input, "invalid value " + value, valueStart);
+        }
+        return year * 100 + value;
+    }
+
+    // returns -1 at the end of the region
+    private static int charAt(Object input, int index, int end) {
+        if (index >= end) {
+            return -1;
+        }
+        if (input instanceof byte[]) {
+            return ((byte[]) input)[index] & 0xFF;
+        }
+        return ((CharSequence) input).charAt(index);
+    }
+
+    private int expect(Object input, int end, int pos, int expected) {
+        int ch = charAt(input, pos, end);
+        if (ch != expected && (ch < 'a' || ch > 'z' || ch - 32 != expected)) {
+            throw new DateTimeParseException(
+                    "Text cannot be parsed to a " + type + ", expected '" + (char) expected + "'", text(input), pos);
+        }
+        return pos + 1;
+    }
+
+    private DateTimeParseException error(Object input, String reason, int index) {
+        return new DateTimeParseException("Text cannot be parsed to a " + type + ", " + reason, text(input), index);
+    }
+
+    // the whole input, as the error index is relative to the whole input
+    private static CharSequence text(Object input) {
+        if (input instanceof byte[]) {
+            return new String((byte[]) input, StandardCharsets.ISO_8859_1);
+        }
+        return (CharSequence) input;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Formats the year and number, using a cached string where possible.
+     *
+     * @param year  the year, valid
+     * @param value  the number, from 1 to the maximum
+     * @return the formatted string, not null
+     */
+    String format(int year, int value) {
+        if (year < CACHE_MIN_YEAR || year > CACHE_MAX_YEAR) {
+            return build(year, value);
+        }
+        int index = (year - CACHE_MIN_YEAR) * maxValue + value - 1;
+        String str = cache[index];
+        if (str == null) {
+            str = build(year, value);
+            cache[index] = str;
+        }
+        return str;
+    }
+
+    private String build(int year, int value) {
+        byte[] buf = new byte[MAX_LENGTH];
+        int length = format(year, value, buf, 0);
+        return new String(buf, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Formats the year and number to an {@code Appendable}.
+     *
+     * @param year  the year, valid
+     * @param value  the number, from 1 to the maximum
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    void formatTo(int year, int value, Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        try {
+            appendable.append(format(year, value));
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Formats the year and number as ASCII bytes.
+     *
+     * @param year  the year, valid
+     * @param value  the number, from 1 to the maximum
+     * @param ascii  the array to write to, not null
+     * @param offset  the index to start writing at
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    int format(int year, int value, byte[] ascii, int offset) {
+        Objects.requireNonNull(ascii, "ascii");
+        int yearDigits = 4;
+        long absYear = Math.abs((long) year);
+        for (long limit = 10000; absYear >= limit; limit *= 10) {
+            yearDigits++;
+        }
+        int length = (year < 0 || yearDigits > 4 ? 1 : 0) + yearDigits + 2 + width;
+        if (offset < 0 || offset > ascii.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Unable to write " + length + " bytes at index " + offset + " for length " + ascii.length);
+        }
+        int pos = offset;
+        if (year < 0) {
+            ascii[pos++] = '-';
+        } else if (yearDigits > 4) {
+            ascii[pos++] = '+';
+        }
+        pos += yearDigits;
+        for (int i = 1; i <= yearDigits; i++) {
+            ascii[pos - i] = (byte) ('0' + absYear % 10);
+            absYear /= 10;
+        }
+        ascii[pos++] = '-';
+        ascii[pos++] = (byte) letter;
+        if (width == 2) {
+            ascii[pos++] = (byte) ('0' + value / 10);
+        }
+        ascii[pos++] = (byte) ('0' + value % 10);
+        return length;
+    }
+
+}
@@ -31,6 +31,7 @@
  */
 package org.threeten.extra;
 
+import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoField.ERA;
 import static java.time.temporal.ChronoField.YEAR;
 import static java.time.temporal.ChronoField.YEAR_OF_ERA;
@@ -54,9 +55,7 @@ import java.time.ZoneId;
 import java.time.chrono.Chronology;
 import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.format.SignStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
@@ -71,6 +70,8 @@ import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * A year-quarter in the ISO-8601 calendar system, such as {@code 2007-Q2}.
@@ -105,15 +106,17 @@ public final class YearQuarter
      */
     private static final long serialVersionUID = 4183400860270640070L;
     /**
-     * Parser.
+     * The maximum magnitude of the year in the packed form.
      */
-    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
-            .parseCaseInsensitive()
-            .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
-            .appendLiteral('-')
-            .appendLiteral('Q')
-            .appendValue(QUARTER_OF_YEAR, 1)
-            .toFormatter();
+    private static final int MAX_PACKED_YEAR = 214_748_364;
+    /**
+     * The minimum packed value.
+     */
+    private static final long MIN_PACKED = -MAX_PACKED_YEAR * 10L + 1;
+    /**
+     * The maximum packed value.
+     */
+    private static final long MAX_PACKED = MAX_PACKED_YEAR * 10L + 4;
 
     /**
      * The year.
@@ -200,6 +203,105 @@ public final class YearQuarter
         return new YearQuarter(year, Quarter.of(quarter));
     }
 
+    /**
+     * Obtains an instance of {@code YearQuarter} from a packed {@code int}.
+     * <p>
+     * The packed form is {@code year * 10 + quarter}, as produced by {@link #toPackedInt()}.
+     * For example, 20243 is the third quarter of 2024.
+     *
+     * @param packedYearQuarter  the packed year-quarter
+     * @return the year-quarter, not null
+     * @throws DateTimeException if the packed value does not represent a valid year-quarter
+     */
+    public static YearQuarter ofPackedInt(int packedYearQuarter) {
+        return of(Math.floorDiv(packedYearQuarter, 10), Math.floorMod(packedYearQuarter, 10));
+    }
+
+    /**
+     * Converts an array of epoch-days to the packed year-quarters containing them.
+     * <p>
+     * Each result is equal to {@code YearQuarter.from(LocalDate.ofEpochDay(epochDay)).toPackedInt()},
+     * but is calculated without creating any objects.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param packedYearQuarters  the array to store the packed year-quarters in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid or outside the range of the packed form
+     */
+    public static void packEpochDays(long[] epochDays, int[] packedYearQuarters) {
+        validateLengths(epochDays.length, packedYearQuarters.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedYearQuarters[i] = packEpochDay(epochDays[i]);
+        }
+    }
+
+    /**
+     * Converts an array of dates to the packed year-quarters containing them.
+     *
+     * @param dates  the dates, not null, containing no nulls
+     * @param packedYearQuarters  the array to store the packed year-quarters in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is outside the range of the packed form
+     */
+    public static void packDates(LocalDate[] dates, int[] packedYearQuarters) {
+        validateLengths(dates.length, packedYearQuarters.length);
+        for (int i = 0; i < dates.length; i++) {
+            packedYearQuarters[i] = packEpochDay(dates[i].toEpochDay());
+        }
+    }
+
+    /**
+     * Converts an array of packed year-quarters to the epoch-day of the first day of the quarter.
+     *
+     * @param packedYearQuarters  the packed year-quarters, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed value is invalid
+     */
+    public static void unpackToEpochDays(int[] packedYearQuarters, long[] epochDays) {
+        validateLengths(packedYearQuarters.length, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = unpackToEpochDay(packedYearQuarters[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed year-quarters to the date of the first day of the quarter.
+     *
+     * @param packedYearQuarters  the packed year-quarters, not null
+     * @param dates  the array to store the dates in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed value is invalid
+     */
+    public static void unpackToDates(int[] packedYearQuarters, LocalDate[] dates) {
+        validateLengths(packedYearQuarters.length, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(unpackToEpochDay(packedYearQuarters[i]));
+        }
+    }
+
+    private static int packEpochDay(long epochDay) {
+        long packed = IsoDays.yearQuarter(EPOCH_DAY.checkValidValue(epochDay));
+        if (packed < MIN_PACKED || packed > MAX_PACKED) {
+            throw new DateTimeException("Unable to convert epoch-day to a packed YearQuarter: " + epochDay);
+        }
+        return (int) packed;
+    }
+
+    private static long unpackToEpochDay(int packed) {
+        int quarter = Math.floorMod(packed, 10);
+        if (quarter < 1 || quarter > 4) {
+            throw new DateTimeException("Invalid packed YearQuarter: " + packed);
+        }
+        return IsoDays.epochDay(Math.floorDiv(packed, 10), quarter * 3 - 2, 1);
+    }
+
+    private static void validateLengths(int inputLength, int outputLength) {
+        if (inputLength != outputLength) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code YearQuarter} from a temporal object.
@@ -249,7 +351,51 @@ public final class YearQuarter
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static YearQuarter parse(CharSequence text) {
-        return parse(text, PARSER);
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed year-quarter, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed,
+     *  with the error index being the index of the problem within the text
+     */
+    public static YearQuarter parse(CharSequence text, int start, int end) {
+        return ofPacked(YearPeriodCodec.QUARTER.parse(text, start, end));
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing a year-quarter to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed year-quarter, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed,
+     *  with the error index being the index of the problem within the array
+     */
+    public static YearQuarter parse(byte[] ascii, int start, int end) {
+        return ofPacked(YearPeriodCodec.QUARTER.parse(ascii, start, end));
+    }
+
+    // unpacks the result of the codec
+    private static YearQuarter ofPacked(long packed) {
+        return of((int) Math.floorDiv(packed, 100), (int) Math.floorMod(packed, 100));
     }
 
     /**
@@ -1061,6 +1207,32 @@ public final class YearQuarter
         return unit.between(this, end);
     }
 
+    /**
+     * Streams the year-quarters from this year-quarter to the end.
+     * <p>
+     * This returns a sequential stream of every year-quarter from this one, inclusive,
+     * to the specified end, exclusive, in order.
+     * The stream is sized and splits evenly when parallel, as it is based on a range
+     * of proleptic quarters, and each year-quarter is only created as it is consumed.
+     *
+     * @param endExclusive  the end year-quarter, exclusive, not null
+     * @return the stream of year-quarters, not null
+     * @throws DateTimeException if the end is before this year-quarter
+     */
+    public Stream<YearQuarter> quartersUntil(YearQuarter endExclusive) {
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isBefore(this)) {
+            throw new DateTimeException("End year-quarter must not be before this year-quarter");
+        }
+        return LongStream.range(getProlepticQuarter(), endExclusive.getProlepticQuarter())
+                .mapToObj(YearQuarter::ofProlepticQuarter);
+    }
+
+    // the proleptic quarter is always valid
+    private static YearQuarter ofProlepticQuarter(long prolepticQuarter) {
+        return of((int) Math.floorDiv(prolepticQuarter, 4), (int) Math.floorMod(prolepticQuarter, 4) + 1);
+    }
+
     /**
      * Formats this year-quarter using the specified formatter.
      * <p>
@@ -1075,6 +1247,34 @@ public final class YearQuarter
         return formatter.format(this);
     }
 
+    /**
+     * Formats this year-quarter to an {@code Appendable} in the format of {@link #toString()}.
+     * <p>
+     * The string forms of recent years are cached, thus formatting to a
+     * {@code StringBuilder} will not typically allocate.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    public void formatTo(Appendable appendable) {
+        YearPeriodCodec.QUARTER.formatTo(year, quarter.getValue(), appendable);
+    }
+
+    /**
+     * Formats this year-quarter as ASCII bytes in the format of {@link #toString()}.
+     * <p>
+     * The bytes are written starting at the specified offset without allocation.
+     * At most 15 bytes are written.
+     *
+     * @param ascii  the array to write to, not null
+     * @param offset  the index to start writing at
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public int formatTo(byte[] ascii, int offset) {
+        return YearPeriodCodec.QUARTER.format(year, quarter.getValue(), ascii, offset);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this year-quarter with a day-of-quarter to create a {@code LocalDate}.
@@ -1123,6 +1323,38 @@ public final class YearQuarter
         return LocalDate.of(year, month, month.maxLength());
     }
 
+    /**
+     * Streams the dates in this year-quarter.
+     * <p>
+     * This returns a sequential stream of every date in the quarter, in order.
+     * The stream is sized, and each date is only created as it is consumed.
+     *
+     * @return the stream of dates from the first to the last day of the quarter, not null
+     */
+    public Stream<LocalDate> days() {
+        long start = IsoDays.epochDay(year, quarter.firstMonth().getValue(), 1);
+        return LongStream.range(start, start + lengthOfQuarter()).mapToObj(LocalDate::ofEpochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-quarter to a packed {@code int}.
+     * <p>
+     * The packed form is {@code year * 10 + quarter}, for example 20243 for the third quarter of 2024.
+     * The packed values sort in the same order as the year-quarters, thus they can be used
+     * as compact keys for grouping and sorting, and converted back using {@link #ofPackedInt(int)}.
+     * For years from 1000 to 9999 this is the same value as {@link PackedFields#PACKED_YEAR_QUARTER}.
+     *
+     * @return the packed year-quarter
+     * @throws DateTimeException if the year is outside the range -214,748,364 to 214,748,364
+     */
+    public int toPackedInt() {
+        if (year < -MAX_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            throw new DateTimeException("Unable to convert YearQuarter to a packed int: " + this);
+        }
+        return year * 10 + quarter.getValue();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this year-quarter to another
@@ -1203,21 +1435,7 @@ public final class YearQuarter
      */
     @Override
     public String toString() {
-        int absYear = Math.abs(year);
-        StringBuilder buf = new StringBuilder(10);
-        if (absYear < 1000) {
-            if (year < 0) {
-                buf.append(year - 10000).deleteCharAt(1);
-            } else {
-                buf.append(year + 10000).deleteCharAt(0);
-            }
-        } else {
-            if (year > 9999) {
-                buf.append('+');
-            }
-            buf.append(year);
-        }
-        return buf.append('-').append(quarter).toString();
+        return YearPeriodCodec.QUARTER.format(year, quarter.getValue());
     }
 
 }
@@ -31,12 +31,15 @@
  */
 package org.threeten.extra;
 
-import static java.time.DayOfWeek.THURSDAY;
-import static java.time.DayOfWeek.WEDNESDAY;
+import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
+import static java.time.temporal.IsoFields.WEEK_BASED_YEARS;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
@@ -46,20 +49,23 @@ import java.time.ZoneId;
 import java.time.chrono.Chronology;
 import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.format.SignStyle;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQueries;
 import java.time.temporal.TemporalQuery;
+import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
 import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * A year-week in the ISO week date system such as {@code 2015-W13}
@@ -89,22 +95,32 @@ import java.util.Objects;
  * identity hash code or use the distinction between equals() and ==.
  */
 public final class YearWeek
-        implements TemporalAccessor, TemporalAdjuster, Comparable<YearWeek>, Serializable {
+        implements Temporal, TemporalAdjuster, Comparable<YearWeek>, Serializable {
 
     /**
      * Serialization version.
      */
     private static final long serialVersionUID = 3381384054271883921L;
-
     /**
-     * Parser.
+     * The maximum magnitude of the year in the packed form.
+     */
+    private static final int MAX_PACKED_YEAR = 21_474_835;
+    /**
+     * The minimum packed value.
+     */
+    private static final long MIN_PACKED = -MAX_PACKED_YEAR * 100L + 1;
+    /**
+     * The maximum packed value.
+     */
+    private static final long MAX_PACKED = MAX_PACKED_YEAR * 100L + 53;
+    /**
+     * The minimum proleptic week.
+     */
+    private static final long MIN_PROLEPTIC_WEEK = Math.floorDiv(IsoDays.weekOneMonday(Year.MIN_VALUE), 7);
+    /**
+     * The maximum proleptic week.
      */
-    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
-            .parseCaseInsensitive()
-            .appendValue(WEEK_BASED_YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
-            .appendLiteral("-W")
-            .appendValue(WEEK_OF_WEEK_BASED_YEAR, 2)
-            .toFormatter();
+    private static final long MAX_PROLEPTIC_WEEK = Math.floorDiv(IsoDays.weekOneMonday(Year.MAX_VALUE + 1L), 7) - 1;
 
     /**
      * The week-based-year.
@@ -186,14 +202,114 @@ public final class YearWeek
         return new YearWeek(weekBasedYear, week);
     }
 
-    // from IsoFields in ThreeTen-Backport
+    // uses a lookup table of the 400 year cycle
     private static int weekRange(int weekBasedYear) {
-        LocalDate date = LocalDate.of(weekBasedYear, 1, 1);
-        // 53 weeks if standard year starts on Thursday, or Wed in a leap year
-        if (date.getDayOfWeek() == THURSDAY || (date.getDayOfWeek() == WEDNESDAY && date.isLeapYear())) {
-            return 53;
+        return IsoDays.is53WeekYear(weekBasedYear) ? 53 : 52;
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a packed {@code int}.
+     * <p>
+     * The packed form is {@code weekBasedYear * 100 + week}, as produced by {@link #toPackedInt()}.
+     * For example, 202452 is week 52 of 2024.
+     * Unlike {@link #of(int, int)}, week 53 is rejected if the year does not have 53 weeks.
+     *
+     * @param packedYearWeek  the packed year-week
+     * @return the year-week, not null
+     * @throws DateTimeException if the packed value does not represent a valid year-week
+     */
+    public static YearWeek ofPackedInt(int packedYearWeek) {
+        checkPackedInt(packedYearWeek);
+        return of(Math.floorDiv(packedYearWeek, 100), Math.floorMod(packedYearWeek, 100));
+    }
+
+    /**
+     * Converts an array of epoch-days to the packed year-weeks containing them.
+     * <p>
+     * Each result is equal to {@code YearWeek.from(LocalDate.ofEpochDay(epochDay)).toPackedInt()},
+     * but is calculated without creating any objects.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param packedYearWeeks  the array to store the packed year-weeks in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if an epoch-day is invalid or outside the range of the packed form
+     */
+    public static void packEpochDays(long[] epochDays, int[] packedYearWeeks) {
+        validateLengths(epochDays.length, packedYearWeeks.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            packedYearWeeks[i] = packEpochDay(epochDays[i]);
+        }
+    }
+
+    /**
+     * Converts an array of dates to the packed year-weeks containing them.
+     *
+     * @param dates  the dates, not null, containing no nulls
+     * @param packedYearWeeks  the array to store the packed year-weeks in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is outside the range of the packed form
+     */
+    public static void packDates(LocalDate[] dates, int[] packedYearWeeks) {
+        validateLengths(dates.length, packedYearWeeks.length);
+        for (int i = 0; i < dates.length; i++) {
+            packedYearWeeks[i] = packEpochDay(dates[i].toEpochDay());
+        }
+    }
+
+    /**
+     * Converts an array of packed year-weeks to the epoch-day of the Monday of the week.
+     *
+     * @param packedYearWeeks  the packed year-weeks, not null
+     * @param epochDays  the array to store the epoch-days in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed value is invalid
+     */
+    public static void unpackToEpochDays(int[] packedYearWeeks, long[] epochDays) {
+        validateLengths(packedYearWeeks.length, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = unpackToEpochDay(packedYearWeeks[i]);
+        }
+    }
+
+    /**
+     * Converts an array of packed year-weeks to the date of the Monday of the week.
+     *
+     * @param packedYearWeeks  the packed year-weeks, not null
+     * @param dates  the array to store the dates in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a packed value is invalid
+     */
+    public static void unpackToDates(int[] packedYearWeeks, LocalDate[] dates) {
+        validateLengths(packedYearWeeks.length, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(unpackToEpochDay(packedYearWeeks[i]));
+        }
+    }
+
+    private static int packEpochDay(long epochDay) {
+        long packed = IsoDays.yearWeek(EPOCH_DAY.checkValidValue(epochDay));
+        if (packed < MIN_PACKED || packed > MAX_PACKED) {
+            throw new DateTimeException("Unable to convert epoch-day to a packed YearWeek: " + epochDay);
+        }
+        return (int) packed;
+    }
+
+    private static long unpackToEpochDay(int packed) {
+        checkPackedInt(packed);
+        return IsoDays.weekOneMonday(Math.floorDiv(packed, 100)) + (Math.floorMod(packed, 100) - 1) * 7L;
+    }
+
+    private static void checkPackedInt(int packed) {
+        int week = Math.floorMod(packed, 100);
+        if (week < 1 || week > 53 || (week == 53 && IsoDays.is53WeekYear(Math.floorDiv(packed, 100)) == false)) {
+            throw new DateTimeException("Invalid packed YearWeek: " + packed);
+        }
+    }
+
+    private static void validateLengths(int inputLength, int outputLength) {
+        if (inputLength != outputLength) {
+            throw new IllegalArgumentException("Arrays must have the same length");
         }
-        return 52;
     }
 
     //-----------------------------------------------------------------------
@@ -222,6 +338,10 @@ public final class YearWeek
         }
         Objects.requireNonNull(temporal, "temporal");
         try {
+            if (temporal instanceof LocalDate) {
+                long packed = IsoDays.yearWeek(((LocalDate) temporal).toEpochDay());
+                return of((int) Math.floorDiv(packed, 100), (int) Math.floorMod(packed, 100));
+            }
             if (IsoChronology.INSTANCE.equals(Chronology.from(temporal)) == false) {
                 temporal = LocalDate.from(temporal);
             }
@@ -246,7 +366,62 @@ public final class YearWeek
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static YearWeek parse(CharSequence text) {
-        return parse(text, PARSER);
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed year-week, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed,
+     *  with the error index being the index of the problem within the text
+     */
+    public static YearWeek parse(CharSequence text, int start, int end) {
+        long packed = YearPeriodCodec.WEEK.parse(text, start, end);
+        try {
+            return ofPacked(packed);
+        } catch (DateTimeException ex) {
+            throw new DateTimeParseException("Text cannot be parsed to a YearWeek, " + ex.getMessage(), text, start, ex);
+        }
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing a year-week to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed year-week, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed,
+     *  with the error index being the index of the problem within the array
+     */
+    public static YearWeek parse(byte[] ascii, int start, int end) {
+        long packed = YearPeriodCodec.WEEK.parse(ascii, start, end);
+        try {
+            return ofPacked(packed);
+        } catch (DateTimeException ex) {
+            String text = new String(ascii, StandardCharsets.ISO_8859_1);
+            throw new DateTimeParseException("Text cannot be parsed to a YearWeek, " + ex.getMessage(), text, start, ex);
+        }
+    }
+
+    // unpacks the result of the codec
+    private static YearWeek ofPacked(long packed) {
+        return of((int) Math.floorDiv(packed, 100), (int) Math.floorMod(packed, 100));
     }
 
     /**
@@ -334,6 +509,40 @@ public final class YearWeek
         return field != null && field.isSupportedBy(this);
     }
 
+    /**
+     * Checks if the specified unit is supported.
+     * <p>
+     * This checks if the specified unit can be added to, or subtracted from, this year-week.
+     * If false, then calling the {@link #plus(long, TemporalUnit)} and
+     * {@link #minus(long, TemporalUnit) minus} methods will throw an exception.
+     * <p>
+     * If the unit is a {@link ChronoUnit} then the query is implemented here.
+     * The supported units are:
+     * <ul>
+     * <li>{@code WEEKS}
+     * <li>{@code YEARS}
+     * </ul>
+     * All other {@code ChronoUnit} instances will return false.
+     * The unit {@link IsoFields#WEEK_BASED_YEARS} is also supported.
+     * <p>
+     * If the unit is not a {@code ChronoUnit}, then the result of this method
+     * is obtained by invoking {@code TemporalUnit.isSupportedBy(Temporal)}
+     * passing {@code this} as the argument.
+     * Whether the unit is supported is determined by the unit.
+     *
+     * @param unit  the unit to check, null returns false
+     * @return true if the unit can be added/subtracted, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalUnit unit) {
+        if (unit == WEEK_BASED_YEARS) {
+            return true;
+        } else if (unit instanceof ChronoUnit) {
+            return unit == WEEKS || unit == YEARS;
+        }
+        return unit != null && unit.isSupportedBy(this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the range of valid values for the specified field.
@@ -360,7 +569,7 @@ public final class YearWeek
         if (field == WEEK_OF_WEEK_BASED_YEAR) {
             return ValueRange.of(1, weekRange(year));
         }
-        return TemporalAccessor.super.range(field);
+        return Temporal.super.range(field);
     }
 
     /**
@@ -391,7 +600,7 @@ public final class YearWeek
         if (field == WEEK_OF_WEEK_BASED_YEAR) {
             return week;
         }
-        return TemporalAccessor.super.get(field);
+        return Temporal.super.get(field);
     }
 
     /**
@@ -474,6 +683,79 @@ public final class YearWeek
         return (is53WeekYear() ? 371 : 364);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an adjusted copy of this year-week.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the year-week adjusted.
+     * The adjustment takes place using the specified adjuster strategy object.
+     * Read the documentation of the adjuster to understand what adjustment will be made.
+     * <p>
+     * The result of this method is obtained by invoking the
+     * {@link TemporalAdjuster#adjustInto(Temporal)} method on the
+     * specified adjuster passing {@code this} as the argument.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param adjuster the adjuster to use, not null
+     * @return a {@code YearWeek} based on {@code this} with the adjustment made, not null
+     * @throws DateTimeException if the adjustment cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek with(TemporalAdjuster adjuster) {
+        return (YearWeek) adjuster.adjustInto(this);
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified field set to a new value.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the value
+     * for the specified field changed.
+     * If it is not possible to set the value, because the field is not supported or for
+     * some other reason, an exception is thrown.
+     * <p>
+     * The supported fields behave as follows:
+     * <ul>
+     * <li>{@code WEEK_OF_WEEK_BASED_YEAR} -
+     *  Returns a {@code YearWeek} with the specified week-of-week-based-year,
+     *  as per {@link #withWeek(int)}.
+     * <li>{@code WEEK_BASED_YEAR} -
+     *  Returns a {@code YearWeek} with the specified week-based-year,
+     *  as per {@link #withYear(int)}.
+     * </ul>
+     * <p>
+     * In all cases, if the new value is outside the valid range of values for the field
+     * then a {@code DateTimeException} will be thrown.
+     * <p>
+     * All {@code ChronoField} instances will throw an {@code UnsupportedTemporalTypeException}.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.adjustInto(Temporal, long)}
+     * passing {@code this} as the argument. In this case, the field determines
+     * whether and how to adjust the instant.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param field  the field to set in the result, not null
+     * @param newValue  the new value of the field in the result
+     * @return a {@code YearWeek} based on {@code this} with the specified field set, not null
+     * @throws DateTimeException if the field cannot be set
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek with(TemporalField field, long newValue) {
+        if (field == WEEK_OF_WEEK_BASED_YEAR) {
+            return withWeek(WEEK_OF_WEEK_BASED_YEAR.range().checkValidIntValue(newValue, WEEK_OF_WEEK_BASED_YEAR));
+        } else if (field == WEEK_BASED_YEAR) {
+            return withYear(WEEK_BASED_YEAR.range().checkValidIntValue(newValue, WEEK_BASED_YEAR));
+        } else if (field instanceof ChronoField) {
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return field.adjustInto(this, newValue);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a copy of this {@code YearWeek} with the week-based-year altered.
@@ -512,6 +794,207 @@ public final class YearWeek
         return with(year, week);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this year-week with the specified amount added.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the specified amount added.
+     * The amount is typically {@link Weeks} but may be any other type implementing
+     * the {@link TemporalAmount} interface.
+     * <p>
+     * The calculation is delegated to the amount object by calling
+     * {@link TemporalAmount#addTo(Temporal)}. The amount implementation is free
+     * to implement the addition in any way it wishes, however it typically
+     * calls back to {@link #plus(long, TemporalUnit)}. Consult the documentation
+     * of the amount implementation to determine if it can be successfully added.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amountToAdd  the amount to add, not null
+     * @return a {@code YearWeek} based on this year-week with the addition made, not null
+     * @throws DateTimeException if the addition cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek plus(TemporalAmount amountToAdd) {
+        return (YearWeek) amountToAdd.addTo(this);
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified amount added.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the amount
+     * in terms of the unit added. If it is not possible to add the amount, because the
+     * unit is not supported or for some other reason, an exception is thrown.
+     * <p>
+     * The supported units behave as follows:
+     * <ul>
+     * <li>{@code WEEKS} -
+     *  Returns a {@code YearWeek} with the specified number of weeks added.
+     *  This is equivalent to {@link #plusWeeks(long)}.
+     * <li>{@code YEARS} -
+     *  Returns a {@code YearWeek} with the specified number of week-based-years added.
+     *  This is equivalent to {@link #plusYears(long)}.
+     * <li>{@code WEEK_BASED_YEARS} -
+     *  Returns a {@code YearWeek} with the specified number of week-based-years added.
+     *  This is equivalent to {@link #plusYears(long)}.
+     * </ul>
+     * <p>
+     * All other {@code ChronoUnit} instances will throw an {@code UnsupportedTemporalTypeException}.
+     * <p>
+     * If the unit is not a {@code ChronoUnit}, then the result of this method
+     * is obtained by invoking {@code TemporalUnit.addTo(Temporal, long)}
+     * passing {@code this} as the argument. In this case, the unit determines
+     * whether and how to perform the addition.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amountToAdd  the amount of the unit to add to the result, may be negative
+     * @param unit  the unit of the amount to add, not null
+     * @return a {@code YearWeek} based on this year-week with the specified amount added, not null
+     * @throws DateTimeException if the addition cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek plus(long amountToAdd, TemporalUnit unit) {
+        if (unit == WEEK_BASED_YEARS) {
+            return plusYears(amountToAdd);
+        } else if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case WEEKS:
+                    return plusWeeks(amountToAdd);
+                case YEARS:
+                    return plusYears(amountToAdd);
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified period in week-based-years added.
+     * <p>
+     * If the week of this instance is 53 and the new year does not have 53 weeks,
+     * the week will be adjusted to be 52.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param yearsToAdd  the years to add, may be negative
+     * @return a {@code YearWeek} based on this year-week with the years added, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearWeek plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        int newYear = WEEK_BASED_YEAR.range().checkValidIntValue(year + yearsToAdd, WEEK_BASED_YEAR);  // safe overflow
+        return withYear(newYear);
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified period in weeks added.
+     * <p>
+     * The calculation is performed in constant time on the proleptic week count,
+     * correctly handling years with 52 and 53 weeks.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param weeksToAdd  the weeks to add, may be negative
+     * @return a {@code YearWeek} based on this year-week with the weeks added, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearWeek plusWeeks(long weeksToAdd) {
+        if (weeksToAdd == 0) {
+            return this;
+        }
+        long calcWeeks = getProlepticWeek() + weeksToAdd;  // safe overflow
+        if (calcWeeks < MIN_PROLEPTIC_WEEK || calcWeeks > MAX_PROLEPTIC_WEEK) {
+            throw new DateTimeException("Unable to add " + weeksToAdd + " weeks to " + this + " as the result exceeds the supported range");
+        }
+        return ofProlepticWeek(calcWeeks);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this year-week with the specified amount subtracted.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the specified amount subtracted.
+     * The amount is typically {@link Weeks} but may be any other type implementing
+     * the {@link TemporalAmount} interface.
+     * <p>
+     * The calculation is delegated to the amount object by calling
+     * {@link TemporalAmount#subtractFrom(Temporal)}. The amount implementation is free
+     * to implement the subtraction in any way it wishes, however it typically
+     * calls back to {@link #minus(long, TemporalUnit)}. Consult the documentation
+     * of the amount implementation to determine if it can be successfully subtracted.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amountToSubtract  the amount to subtract, not null
+     * @return a {@code YearWeek} based on this year-week with the subtraction made, not null
+     * @throws DateTimeException if the subtraction cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek minus(TemporalAmount amountToSubtract) {
+        return (YearWeek) amountToSubtract.subtractFrom(this);
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified amount subtracted.
+     * <p>
+     * This returns a {@code YearWeek}, based on this one, with the amount
+     * in terms of the unit subtracted. If it is not possible to subtract the amount,
+     * because the unit is not supported or for some other reason, an exception is thrown.
+     * <p>
+     * This method is equivalent to {@link #plus(long, TemporalUnit)} with the amount negated.
+     * See that method for a full description of how addition, and thus subtraction, works.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amountToSubtract  the amount of the unit to subtract from the result, may be negative
+     * @param unit  the unit of the amount to subtract, not null
+     * @return a {@code YearWeek} based on this year-week with the specified amount subtracted, not null
+     * @throws DateTimeException if the subtraction cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public YearWeek minus(long amountToSubtract, TemporalUnit unit) {
+        return (amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit));
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified period in week-based-years subtracted.
+     * <p>
+     * If the week of this instance is 53 and the new year does not have 53 weeks,
+     * the week will be adjusted to be 52.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param yearsToSubtract  the years to subtract, may be negative
+     * @return a {@code YearWeek} based on this year-week with the years subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearWeek minusYears(long yearsToSubtract) {
+        return (yearsToSubtract == Long.MIN_VALUE ? plusYears(Long.MAX_VALUE).plusYears(1) : plusYears(-yearsToSubtract));
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified period in weeks subtracted.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param weeksToSubtract  the weeks to subtract, may be negative
+     * @return a {@code YearWeek} based on this year-week with the weeks subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearWeek minusWeeks(long weeksToSubtract) {
+        return (weeksToSubtract == Long.MIN_VALUE ? plusWeeks(Long.MAX_VALUE).plusWeeks(1) : plusWeeks(-weeksToSubtract));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Queries this year-week using the specified query.
@@ -537,7 +1020,7 @@ public final class YearWeek
         if (query == TemporalQueries.chronology()) {
             return (R) IsoChronology.INSTANCE;
         }
-        return TemporalAccessor.super.query(query);
+        return Temporal.super.query(query);
     }
 
     /**
@@ -575,6 +1058,119 @@ public final class YearWeek
         return temporal.with(WEEK_BASED_YEAR, year).with(WEEK_OF_WEEK_BASED_YEAR, week);
     }
 
+    /**
+     * Calculates the amount of time until another year-week in terms of the specified unit.
+     * <p>
+     * This calculates the amount of time between two {@code YearWeek}
+     * objects in terms of a single {@code TemporalUnit}.
+     * The start and end points are {@code this} and the specified year-week.
+     * The result will be negative if the end is before the start.
+     * The {@code Temporal} passed to this method is converted to a
+     * {@code YearWeek} using {@link #from(TemporalAccessor)}.
+     * For example, the period in weeks between two year-weeks can be calculated
+     * using {@code startYearWeek.until(endYearWeek, WEEKS)}.
+     * <p>
+     * The calculation returns a whole number, representing the number of
+     * complete units between the two year-weeks.
+     * For example, the period in years between 2015-W53 and 2016-W52
+     * will be zero as it is one week short of a year.
+     * <p>
+     * There are two equivalent ways of using this method.
+     * The first is to invoke this method.
+     * The second is to use {@link TemporalUnit#between(Temporal, Temporal)}:
+     * <pre>
+     *   // these two lines are equivalent
+     *   amount = start.until(end, WEEKS);
+     *   amount = WEEKS.between(start, end);
+     * </pre>
+     * The choice should be made based on which makes the code more readable.
+     * <p>
+     * The calculation is implemented in this method for {@link ChronoUnit}.
+     * The units {@code WEEKS} and {@code YEARS} are supported, as is
+     * {@link IsoFields#WEEK_BASED_YEARS}, which is treated the same as {@code YEARS}.
+     * Other {@code ChronoUnit} values will throw an exception.
+     * <p>
+     * If the unit is not a {@code ChronoUnit}, then the result of this method
+     * is obtained by invoking {@code TemporalUnit.between(Temporal, Temporal)}
+     * passing {@code this} as the first argument and the converted input temporal
+     * as the second argument.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end date, exclusive, which is converted to a {@code YearWeek}, not null
+     * @param unit  the unit to measure the amount in, not null
+     * @return the amount of time between this year-week and the end year-week
+     * @throws DateTimeException if the amount cannot be calculated, or the end
+     *  temporal cannot be converted to a {@code YearWeek}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        YearWeek end = YearWeek.from(endExclusive);
+        if (unit == WEEK_BASED_YEARS) {
+            return yearsUntil(end);
+        } else if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case WEEKS:
+                    return end.getProlepticWeek() - getProlepticWeek();  // no overflow
+                case YEARS:
+                    return yearsUntil(end);
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.between(this, end);
+    }
+
+    /**
+     * Streams the year-weeks from this year-week to the end.
+     * <p>
+     * This returns a sequential stream of every year-week from this one, inclusive,
+     * to the specified end, exclusive, in order.
+     * The stream is sized and splits evenly when parallel, as it is based on a range
+     * of proleptic weeks, and each year-week is only created as it is consumed.
+     *
+     * @param endExclusive  the end year-week, exclusive, not null
+     * @return the stream of year-weeks, not null
+     * @throws DateTimeException if the end is before this year-week
+     */
+    public Stream<YearWeek> weeksUntil(YearWeek endExclusive) {
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isBefore(this)) {
+            throw new DateTimeException("End year-week must not be before this year-week");
+        }
+        return LongStream.range(getProlepticWeek(), endExclusive.getProlepticWeek())
+                .mapToObj(YearWeek::ofProlepticWeek);
+    }
+
+    /**
+     * Calculates the number of complete week-based-years until the end year-week.
+     *
+     * @param end  the end year-week, not null
+     * @return the number of complete years
+     */
+    private long yearsUntil(YearWeek end) {
+        long packed1 = year * 64L + week;  // no overflow
+        long packed2 = end.year * 64L + end.week;  // no overflow
+        return (packed2 - packed1) / 64;
+    }
+
+    /**
+     * Gets the proleptic week, counting weeks sequentially from the week starting 1970-01-05.
+     *
+     * @return the proleptic week
+     */
+    private long getProlepticWeek() {
+        return Math.floorDiv(IsoDays.weekOneMonday(year), 7) + week - 1;
+    }
+
+    // the proleptic week must be valid
+    private static YearWeek ofProlepticWeek(long prolepticWeek) {
+        long packed = IsoDays.yearWeek(prolepticWeek * 7 + 4);
+        return of((int) Math.floorDiv(packed, 100), (int) Math.floorMod(packed, 100));
+    }
+
     /**
      * Formats this year-week using the specified formatter.
      * <p>
@@ -589,6 +1185,34 @@ public final class YearWeek
         return formatter.format(this);
     }
 
+    /**
+     * Formats this year-week to an {@code Appendable} in the format of {@link #toString()}.
+     * <p>
+     * The string forms of recent years are cached, thus formatting to a
+     * {@code StringBuilder} will not typically allocate.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    public void formatTo(Appendable appendable) {
+        YearPeriodCodec.WEEK.formatTo(year, week, appendable);
+    }
+
+    /**
+     * Formats this year-week as ASCII bytes in the format of {@link #toString()}.
+     * <p>
+     * The bytes are written starting at the specified offset without allocation.
+     * At most 15 bytes are written.
+     *
+     * @param ascii  the array to write to, not null
+     * @param offset  the index to start writing at
+     * @return the number of bytes written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public int formatTo(byte[] ascii, int offset) {
+        return YearPeriodCodec.WEEK.format(year, week, ascii, offset);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this year-week with a day-of-week to create a {@code LocalDate}.
@@ -605,14 +1229,40 @@ public final class YearWeek
      */
     public LocalDate atDay(DayOfWeek dayOfWeek) {
         Objects.requireNonNull(dayOfWeek, "dayOfWeek");
-        int correction = LocalDate.of(year, 1, 4).getDayOfWeek().getValue() + 3;
-        int dayOfYear = week * 7 + dayOfWeek.getValue() - correction;
-        if (dayOfYear > 0) {
-            return LocalDate.ofYearDay(year, dayOfYear);
-        } else {
-            int daysOfPreviousYear = Year.isLeap(year - 1) ? 366 : 365;
-            return LocalDate.ofYearDay(year - 1, daysOfPreviousYear + dayOfYear);
+        return LocalDate.ofEpochDay(IsoDays.weekOneMonday(year) + (week - 1) * 7L + dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * Streams the dates in this year-week.
+     * <p>
+     * This returns a sequential stream of the seven dates in the week,
+     * from Monday to Sunday. The stream is sized, and each date is only
+     * created as it is consumed.
+     *
+     * @return the stream of dates from Monday to Sunday, not null
+     */
+    public Stream<LocalDate> days() {
+        long monday = IsoDays.weekOneMonday(year) + (week - 1) * 7L;
+        return LongStream.range(monday, monday + 7).mapToObj(LocalDate::ofEpochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this year-week to a packed {@code int}.
+     * <p>
+     * The packed form is {@code weekBasedYear * 100 + week}, for example 202452 for week 52 of 2024.
+     * The packed values sort in the same order as the year-weeks, thus they can be used
+     * as compact keys for grouping and sorting, and converted back using {@link #ofPackedInt(int)}.
+     * For years from 1000 to 9999 this is the same value as {@link PackedFields#PACKED_YEAR_WEEK}.
+     *
+     * @return the packed year-week
+     * @throws DateTimeException if the week-based-year is outside the range -21,474,835 to 21,474,835
+     */
+    public int toPackedInt() {
+        if (year < -MAX_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            throw new DateTimeException("Unable to convert YearWeek to a packed int: " + this);
         }
+        return year * 100 + week;
     }
 
     //-----------------------------------------------------------------------
@@ -693,21 +1343,7 @@ public final class YearWeek
      */
     @Override
     public String toString() {
-        int absYear = Math.abs(year);
-        StringBuilder buf = new StringBuilder(10);
-        if (absYear < 1000) {
-            if (year < 0) {
-                buf.append(year - 10000).deleteCharAt(1);
-            } else {
-                buf.append(year + 10000).deleteCharAt(0);
-            }
-        } else {
-            if (year > 9999) {
-                buf.append('+');
-            }
-            buf.append(year);
-        }
-        return buf.append(week < 10 ? "-W0" : "-W").append(week).toString();
+        return YearPeriodCodec.WEEK.format(year, week);
     }
 
 }
@@ -31,6 +31,7 @@
  */
 package org.threeten.extra;
 
+import static java.time.temporal.ChronoField.EPOCH_DAY;
 import static java.time.temporal.ChronoUnit.YEARS;
 
 import java.io.Serializable;
@@ -43,10 +44,12 @@ import java.time.temporal.TemporalAmount;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collections;
+import java.util.IntSummaryStatistics;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * A year-based amount of time, such as '12 years'.
@@ -79,10 +82,20 @@ public final class Years
      */
     private static final long serialVersionUID = -8903767091325669093L;
     /**
-     * The pattern for parsing.
+     * The magnitude of the largest cached amount.
      */
-    private static final Pattern PATTERN =
-            Pattern.compile("([-+]?)P([-+]?[0-9]+)Y", Pattern.CASE_INSENSITIVE);
+    private static final int CACHE_LIMIT = 1024;
+    /**
+     * The cache of small amounts, from -1024 to 1024, sharing the constants.
+     */
+    private static final Years[] CACHE = new Years[CACHE_LIMIT * 2 + 1];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Years(i - CACHE_LIMIT);
+        }
+        CACHE[CACHE_LIMIT] = ZERO;
+        CACHE[CACHE_LIMIT + 1] = ONE;
+    }
 
     /**
      * The number of years.
@@ -93,15 +106,15 @@ public final class Years
      * Obtains a {@code Years} representing a number of years.
      * <p>
      * The resulting amount will have the specified years.
+     * <p>
+     * Small amounts are cached, thus this method does not allocate for them.
      *
      * @param years  the number of years, positive or negative
      * @return the number of years, not null
      */
     public static Years of(int years) {
-        if (years == 0) {
-            return ZERO;
-        } else if (years == 1) {
-            return ONE;
+        if (years >= -CACHE_LIMIT && years <= CACHE_LIMIT) {
+            return CACHE[years + CACHE_LIMIT];
         }
         return new Years(years);
     }
@@ -175,18 +188,45 @@ public final class Years
      */
     public static Years parse(CharSequence text) {
         Objects.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            int negate = ("-".equals(matcher.group(1)) ? -1 : 1);
-            String str = matcher.group(2);
-            try {
-                int val = Integer.parseInt(str);
-                return of(Math.multiplyExact(val, negate));
-            } catch (NumberFormatException ex) {
-                throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0, ex);
-            }
-        }
-        throw new DateTimeParseException("Text cannot be parsed to a Years", text, 0);
+        return of(AmountParser.YEARS.parse(text, 0, text.length()));
+    }
+
+    /**
+     * Obtains a {@code Years} from a region of a text string.
+     * <p>
+     * This parses the text between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The text outside the region is ignored.
+     * No intermediate strings are created.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the text cannot be parsed to a period,
+     *  with the error index being the index of the problem within the text
+     */
+    public static Years parse(CharSequence text, int start, int end) {
+        return of(AmountParser.YEARS.parse(text, start, end));
+    }
+
+    /**
+     * Obtains a {@code Years} from a region of ASCII bytes.
+     * <p>
+     * This parses the bytes between the start and end indices using the format
+     * described in {@link #parse(CharSequence)}. The bytes are treated as ASCII
+     * without decoding, allowing amounts to be parsed directly from a payload.
+     *
+     * @param ascii  the ASCII bytes to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed period, not null
+     * @throws IndexOutOfBoundsException if the start or end index is invalid
+     * @throws DateTimeParseException if the bytes cannot be parsed to a period,
+     *  with the error index being the index of the problem within the array
+     */
+    public static Years parse(byte[] ascii, int start, int end) {
+        return of(AmountParser.YEARS.parse(ascii, start, end));
     }
 
     //-----------------------------------------------------------------------
@@ -204,6 +244,100 @@ public final class Years
         return of(Math.toIntExact(YEARS.between(startDateInclusive, endDateExclusive)));
     }
 
+    /**
+     * Calculates the number of whole years between two dates expressed as epoch-days.
+     * <p>
+     * This is a primitive equivalent of {@link #between(Temporal, Temporal)} for ISO dates,
+     * returning the same amount without creating any objects.
+     * The start date is included, but the end date is not.
+     * The result of this method can be negative if the end is before the start.
+     *
+     * @param startEpochDay  the start date as an epoch-day, inclusive
+     * @param endEpochDay  the end date as an epoch-day, exclusive
+     * @return the number of years between the dates, positive or negative
+     * @throws DateTimeException if either epoch-day is outside the range of {@code LocalDate}
+     * @throws ArithmeticException if the amount exceeds the capacity of {@code int}
+     */
+    public static int betweenEpochDays(long startEpochDay, long endEpochDay) {
+        EPOCH_DAY.checkValidValue(startEpochDay);
+        EPOCH_DAY.checkValidValue(endEpochDay);
+        return Math.toIntExact(IsoDays.monthsBetween(startEpochDay, endEpochDay) / 12);
+    }
+
+    /**
+     * Calculates the number of whole years between pairs of dates expressed as epoch-days.
+     * <p>
+     * Each element of the result is {@link #betweenEpochDays(long, long)} applied to the
+     * elements at the same index of the input arrays.
+     *
+     * @param startEpochDays  the start dates as epoch-days, inclusive, not null
+     * @param endEpochDays  the end dates as epoch-days, exclusive, not null
+     * @param results  the array to store the number of years in, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if any epoch-day is outside the range of {@code LocalDate}
+     * @throws ArithmeticException if any amount exceeds the capacity of {@code int}
+     */
+    public static void betweenEpochDays(long[] startEpochDays, long[] endEpochDays, int[] results) {
+        if (startEpochDays.length != endEpochDays.length || startEpochDays.length != results.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < results.length; i++) {
+            results[i] = betweenEpochDays(startEpochDays[i], endEpochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a collector that sums a stream of {@code Years}.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static Collector<Years, ?, Years> summing() {
+        return summing(Function.identity());
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Years} and sums the results.
+     * <p>
+     * The total is accumulated as a {@code long}, so no intermediate objects are
+     * created and the collector is efficient in parallel streams.
+     * The total is checked for {@code int} overflow once, when the collection completes.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, which throws {@code ArithmeticException} if the total overflows an {@code int}, not null
+     */
+    public static <T> Collector<T, ?, Years> summing(Function<? super T, Years> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collector.of(
+                () -> new long[1],
+                (total, element) -> total[0] += mapper.apply(element).getAmount(),
+                (total, other) -> {
+                    total[0] += other[0];
+                    return total;
+                },
+                total -> of(Math.toIntExact(total[0])));
+    }
+
+    /**
+     * Returns a collector that maps each element to {@code Years} and summarizes the results.
+     * <p>
+     * The statistics are the count, sum, minimum, maximum and average of the number of years.
+     * The sum is held as a {@code long}, thus it does not overflow.
+     *
+     * @param <T>  the type of the input elements
+     * @param mapper  the function to extract the amount from an element, not null
+     * @return the collector, not null
+     */
+    public static <T> Collector<T, ?, IntSummaryStatistics> summarizing(Function<? super T, Years> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return Collectors.summarizingInt(element -> mapper.apply(element).getAmount());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of years.
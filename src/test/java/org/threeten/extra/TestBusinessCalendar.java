@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestBusinessCalendar {
+
+    private static final LocalDate XMAS = LocalDate.of(2014, 12, 25);
+    private static final LocalDate BOXING_DAY = LocalDate.of(2014, 12, 26);
+    private static final LocalDate NEW_YEAR = LocalDate.of(2015, 1, 1);
+    private static final LocalDateRange WINDOW = LocalDateRange.of(LocalDate.of(2014, 12, 1), LocalDate.of(2015, 2, 1));
+    private static final Set<DayOfWeek> SAT_SUN = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private static final BusinessCalendar TEST = BusinessCalendar.of(WINDOW, SAT_SUN, Arrays.asList(XMAS, BOXING_DAY, NEW_YEAR));
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        assertEquals(TEST.getWindow(), WINDOW);
+        assertEquals(TEST.getWeekend(), SAT_SUN);
+        assertEquals(TEST.toString(), "BusinessCalendar[2014-12-01/2015-02-01, weekend=[SATURDAY, SUNDAY], businessDays=42]");
+    }
+
+    public void test_of_noWeekend() {
+        BusinessCalendar test = BusinessCalendar.of(WINDOW, Collections.emptySet(), Collections.emptySet());
+        assertEquals(test.businessDaysBetween(WINDOW.getStart(), WINDOW.getEnd()), 62);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullWindow() {
+        BusinessCalendar.of(null, SAT_SUN, Collections.emptySet());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_isBusinessDay() {
+        assertTrue(TEST.isBusinessDay(LocalDate.of(2014, 12, 24)));
+        assertFalse(TEST.isBusinessDay(XMAS));
+        assertFalse(TEST.isBusinessDay(BOXING_DAY));
+        assertFalse(TEST.isBusinessDay(LocalDate.of(2014, 12, 27)));
+        assertFalse(TEST.isBusinessDay(LocalDate.of(2014, 12, 28)));
+        assertTrue(TEST.isBusinessDay(LocalDate.of(2014, 12, 29)));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isBusinessDay_beforeWindow() {
+        TEST.isBusinessDay(LocalDate.of(2014, 11, 30));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isBusinessDay_atEndOfWindow() {
+        TEST.isBusinessDay(WINDOW.getEnd());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_businessDaysBetween() {
+        assertEquals(TEST.businessDaysBetween(LocalDate.of(2014, 12, 24), LocalDate.of(2014, 12, 30)), 2);
+        assertEquals(TEST.businessDaysBetween(LocalDate.of(2014, 12, 30), LocalDate.of(2014, 12, 24)), -2);
+        assertEquals(TEST.businessDaysBetween(XMAS, XMAS), 0);
+        assertEquals(TEST.businessDaysBetween(WINDOW.getStart(), WINDOW.getEnd()), 42);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_businessDaysBetween_afterWindow() {
+        TEST.businessDaysBetween(XMAS, LocalDate.of(2015, 2, 2));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_plusBusinessDays() {
+        LocalDate xmasEve = LocalDate.of(2014, 12, 24);
+        assertEquals(TEST.plusBusinessDays(xmasEve, 0), xmasEve);
+        assertEquals(TEST.plusBusinessDays(xmasEve, 1), LocalDate.of(2014, 12, 29));
+        assertEquals(TEST.plusBusinessDays(xmasEve, 3), LocalDate.of(2014, 12, 31));
+        assertEquals(TEST.plusBusinessDays(xmasEve, 4), LocalDate.of(2015, 1, 2));
+        assertEquals(TEST.plusBusinessDays(xmasEve, -1), LocalDate.of(2014, 12, 23));
+        assertEquals(TEST.plusBusinessDays(XMAS, 0), XMAS);
+        assertEquals(TEST.plusBusinessDays(XMAS, 1), LocalDate.of(2014, 12, 29));
+        assertEquals(TEST.plusBusinessDays(XMAS, -1), xmasEve);
+    }
+
+    public void test_plusBusinessDays_matchesIteration() {
+        Random random = new Random(3);
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            holidays.add(WINDOW.getStart().plusDays(random.nextInt(62)));
+        }
+        Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+        BusinessCalendar test = BusinessCalendar.of(WINDOW, weekend, holidays);
+        Set<LocalDate> holidaySet = new HashSet<>(holidays);
+        for (int i = 0; i < 500; i++) {
+            LocalDate date = WINDOW.getStart().plusDays(random.nextInt(62));
+            int amount = random.nextInt(11) - 5;
+            LocalDate expected = date;
+            for (int j = 0; j < Math.abs(amount); j++) {
+                do {
+                    expected = expected.plusDays(Integer.signum(amount));
+                } while (weekend.contains(expected.getDayOfWeek()) || holidaySet.contains(expected));
+            }
+            if (WINDOW.contains(expected)) {
+                assertEquals(test.plusBusinessDays(date, amount), expected);
+            } else {
+                try {
+                    test.plusBusinessDays(date, amount);
+                    throw new AssertionError("Expected DateTimeException: " + date + " " + amount);
+                } catch (DateTimeException ex) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusBusinessDays_resultBeforeWindow() {
+        TEST.plusBusinessDays(WINDOW.getStart(), -1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusBusinessDays_resultAfterWindow() {
+        TEST.plusBusinessDays(LocalDate.of(2015, 1, 30), 1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_adjusters() {
+        LocalDateTime xmasEve = LocalDateTime.of(2014, 12, 24, 12, 30);
+        assertEquals(xmasEve.with(Temporals.nextWorkingDay(TEST)), LocalDateTime.of(2014, 12, 29, 12, 30));
+        assertEquals(xmasEve.with(Temporals.previousWorkingDay(TEST)), LocalDateTime.of(2014, 12, 23, 12, 30));
+        assertEquals(xmasEve.with(Temporals.plusWorkingDays(4, TEST)), LocalDateTime.of(2015, 1, 2, 12, 30));
+        assertEquals(NEW_YEAR.with(Temporals.plusWorkingDays(-3, TEST)), LocalDate.of(2014, 12, 29));
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestCronSchedule {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    //-----------------------------------------------------------------------
+    public void test_next_daily() {
+        CronSchedule test = CronSchedule.parse("30 6 * * *");
+        assertEquals(test.next(LocalDateTime.of(2015, 1, 1, 6, 0)), LocalDateTime.of(2015, 1, 1, 6, 30));
+        assertEquals(test.next(LocalDateTime.of(2015, 1, 1, 6, 30)), LocalDateTime.of(2015, 1, 2, 6, 30));
+        assertEquals(test.next(LocalDateTime.of(2015, 12, 31, 6, 30, 0, 1)), LocalDateTime.of(2016, 1, 1, 6, 30));
+    }
+
+    public void test_next_firstMondayOfMonth() {
+        CronSchedule test = CronSchedule.parse("0 9 1-7 * MON");
+        LocalDateTime dateTime = LocalDateTime.of(2015, 1, 1, 0, 0);
+        for (int i = 0; i < 24; i++) {
+            dateTime = test.next(dateTime);
+            assertEquals(dateTime.toLocalDate(),
+                    dateTime.toLocalDate().with(TemporalAdjusters.firstInMonth(DayOfWeek.MONDAY)));
+            assertEquals(dateTime.toLocalTime().toString(), "09:00");
+        }
+        assertEquals(dateTime, LocalDateTime.of(2016, 12, 5, 9, 0));
+    }
+
+    public void test_next_leapDay() {
+        CronSchedule test = CronSchedule.parse("0 0 29 2 *");
+        assertEquals(test.next(LocalDateTime.of(2015, 3, 1, 0, 0)), LocalDateTime.of(2016, 2, 29, 0, 0));
+        assertEquals(test.next(LocalDateTime.of(2096, 3, 1, 0, 0)), LocalDateTime.of(2104, 2, 29, 0, 0));
+    }
+
+    public void test_next_leapDayOnSunday() {
+        CronSchedule test = CronSchedule.parse("0 0 29 FEB SUN");
+        assertEquals(test.next(LocalDateTime.of(2015, 1, 1, 0, 0)), LocalDateTime.of(2032, 2, 29, 0, 0));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_next_neverMatches() {
+        CronSchedule.parse("0 0 30 2 *").next(LocalDateTime.of(2015, 1, 1, 0, 0));
+    }
+
+    public void test_withQuarters() {
+        CronSchedule test = CronSchedule.parse("0 12 1 * *").withQuarters(Quarter.Q2, Quarter.Q4);
+        assertEquals(test.next(LocalDateTime.of(2015, 1, 1, 0, 0)), LocalDateTime.of(2015, 4, 1, 12, 0));
+        assertEquals(test.next(LocalDateTime.of(2015, 6, 1, 12, 0)), LocalDateTime.of(2015, 10, 1, 12, 0));
+        assertEquals(test.next(LocalDateTime.of(2015, 12, 1, 12, 0)), LocalDateTime.of(2016, 4, 1, 12, 0));
+        assertEquals(test.toString(), "0 12 1 * * in Q2,Q4");
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "expressions")
+    Object[][] data_expressions() {
+        return new Object[][] {
+            {"*/7 * * * *"},
+            {"0/20 9-17 * * MON-FRI"},
+            {"15,45 */5 * * *"},
+            {"0 0 * * 0"},
+            {"0 0 * * 7"},
+            {"5 4 */10 * SAT,SUN"},
+            {"59 23 31 * *"},
+            {"0 12 1-7 JAN,APR,JUL,OCT TUE"},
+        };
+    }
+
+    @Test(dataProvider = "expressions")
+    public void test_next_matchesStepping(String expression) {
+        CronSchedule test = CronSchedule.parse(expression);
+        String[] fields = expression.split(" ");
+        LocalDateTime expected = LocalDateTime.of(2015, 12, 20, 22, 13);
+        LocalDateTime actual = expected;
+        LocalDateTime end = expected.plusDays(120);
+        while (true) {
+            do {
+                expected = expected.plusMinutes(1);
+            } while (expected.isBefore(end) && matches(fields, expected) == false);
+            if (expected.isBefore(end) == false) {
+                break;
+            }
+            actual = test.next(actual);
+            assertEquals(actual, expected);
+        }
+    }
+
+    private static boolean matches(String[] fields, LocalDateTime dateTime) {
+        int dow = dateTime.getDayOfWeek().getValue();
+        return matchesField(fields[0], dateTime.getMinute(), 0, 59) &&
+                matchesField(fields[1], dateTime.getHour(), 0, 23) &&
+                matchesField(fields[2], dateTime.getDayOfMonth(), 1, 31) &&
+                matchesField(fields[3].replace("JAN", "1").replace("APR", "4").replace("JUL", "7").replace("OCT", "10"),
+                        dateTime.getMonthValue(), 1, 12) &&
+                (matchesField(normalizeDays(fields[4]), dow, 0, 7) || (dow == 7 && matchesField(normalizeDays(fields[4]), 0, 0, 7)));
+    }
+
+    private static String normalizeDays(String field) {
+        return field.replace("MON", "1").replace("TUE", "2").replace("FRI", "5").replace("SAT", "6").replace("SUN", "0");
+    }
+
+    private static boolean matchesField(String field, int value, int min, int max) {
+        for (String item : field.split(",")) {
+            String[] parts = item.split("/");
+            int step = (parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+            int from = min;
+            int to = max;
+            if (parts[0].equals("*") == false) {
+                String[] range = parts[0].split("-");
+                from = Integer.parseInt(range[0]);
+                to = (range.length > 1 ? Integer.parseInt(range[1]) : (parts.length > 1 ? max : from));
+            }
+            if (value >= from && value <= to && (value - from) % step == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_next_zonedGap() {
+        CronSchedule test = CronSchedule.parse("30 1 * * *");
+        ZonedDateTime dateTime = ZonedDateTime.of(LocalDateTime.of(2015, 3, 29, 0, 0), LONDON);
+        ZonedDateTime result = test.next(dateTime);
+        assertEquals(result.toLocalDateTime(), LocalDateTime.of(2015, 3, 29, 2, 30));
+        assertEquals(test.next(result).toLocalDateTime(), LocalDateTime.of(2015, 3, 30, 1, 30));
+    }
+
+    public void test_next_zonedOverlap() {
+        CronSchedule test = CronSchedule.parse("30 * * * *");
+        ZonedDateTime dateTime = ZonedDateTime.of(LocalDateTime.of(2015, 10, 25, 0, 45), LONDON);
+        ZonedDateTime first = test.next(dateTime);
+        assertEquals(first.toLocalDateTime(), LocalDateTime.of(2015, 10, 25, 1, 30));
+        assertEquals(first.getOffset(), ZoneOffset.ofHours(1));
+        ZonedDateTime second = test.next(first);
+        assertEquals(second.toLocalDateTime(), LocalDateTime.of(2015, 10, 25, 2, 30));
+        assertEquals(second.getOffset(), ZoneOffset.UTC);
+        ZonedDateTime later = test.next(first.withLaterOffsetAtOverlap().minusMinutes(1));
+        assertEquals(later, first.withLaterOffsetAtOverlap());
+    }
+
+    public void test_adjustInto() {
+        CronSchedule test = CronSchedule.parse("0 6 * * *");
+        assertEquals(LocalDateTime.of(2015, 1, 1, 7, 0).with(test), LocalDateTime.of(2015, 1, 2, 6, 0));
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2015, 1, 1, 5, 0, 0, 0, ZoneOffset.ofHours(2));
+        assertEquals(offsetDateTime.with(test), OffsetDateTime.of(2015, 1, 1, 6, 0, 0, 0, ZoneOffset.ofHours(2)));
+        ZonedDateTime zonedDateTime = ZonedDateTime.of(LocalDateTime.of(2015, 1, 1, 7, 0), LONDON);
+        assertEquals(zonedDateTime.with(test), zonedDateTime.plusDays(1).truncatedTo(ChronoUnit.DAYS).withHour(6));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "badExpressions")
+    Object[][] data_badExpressions() {
+        return new Object[][] {
+            {"* * * *"},
+            {"* * * * * *"},
+            {"60 * * * *"},
+            {"* 24 * * *"},
+            {"* * 0 * *"},
+            {"* * * 13 *"},
+            {"* * * * 8"},
+            {"* * * * FOO"},
+            {"5-1 * * * *"},
+            {"*/0 * * * *"},
+            {", * * * *"},
+        };
+    }
+
+    @Test(dataProvider = "badExpressions", expectedExceptions = DateTimeParseException.class)
+    public void test_parse_invalid(String expression) {
+        CronSchedule.parse(expression);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equalsHashCode() {
+        CronSchedule a = CronSchedule.parse("0 0 * * 0");
+        CronSchedule b = CronSchedule.parse("0 0 * * 7");
+        CronSchedule c = CronSchedule.parse("0 0 * * SUN").withQuarters(Quarter.Q1);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(CronSchedule.parse("0 0 * * 0").toString(), "0 0 * * 0");
+    }
+
+}
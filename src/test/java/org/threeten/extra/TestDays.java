@@ -34,17 +34,24 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -97,6 +104,26 @@ public class TestDays {
         assertEquals(Days.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
 
+    public void test_of_cached() {
+        assertSame(Days.of(7), Days.of(7));
+        assertSame(Days.of(-1024), Days.of(-1024));
+        assertSame(Days.of(1024), Days.of(1024));
+        assertSame(Days.of(3).plus(4), Days.of(7));
+        assertSame(Days.of(7).negated(), Days.of(-7));
+        assertEquals(Days.of(1025) == Days.of(1025), false);
+        assertEquals(Days.of(1025), Days.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Days.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Days.of(15));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_ofWeeks() {
         assertEquals(Days.ofWeeks(0).getAmount(), 0);
@@ -226,6 +253,43 @@ public class TestDays {
         Days.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequence_region() {
+        assertEquals(Days.parse("x=P2W3D;", 2, 7), Days.of(17));
+        assertEquals(Days.parse("-P3D", 0, 4), Days.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=p2w3d;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Days.parse(bytes, 2, 7), Days.of(17));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Days.parse("x=P1W1W", 2, 7);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 6);
+            assertEquals(ex.getParsedString(), "x=P1W1W");
+        }
+        try {
+            Days.parse("P2147483648D".getBytes(StandardCharsets.US_ASCII), 0, 12);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 1);
+            assertEquals(ex.getParsedString(), "P2147483648D");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Days.parse("P2W3D", 1, 6);
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_CharSequence_overflow() {
+        Days.parse("P306783379W");
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Days() {
         Days test5 = Days.of(5);
@@ -485,4 +549,68 @@ public class TestDays {
         assertEquals("P-1D", testM1.toString());
     }
 
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Days.of(2), Days.of(-5), Days.of(10)).collect(Days.summing()), Days.of(7));
+        assertSame(Stream.<Days>empty().collect(Days.summing()), Days.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Days.summing(Days::of)), Days.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Days> stream = Stream.of(Days.of(Integer.MAX_VALUE), Days.of(1), Days.of(-2));
+        assertEquals(stream.collect(Days.summing()), Days.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Days.of(Integer.MAX_VALUE), Days.of(1)).collect(Days.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Days.summarizing(Days::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_betweenEpochDays_matchesBetween() {
+        Random random = new Random(124);
+        for (int i = 0; i < 20000; i++) {
+            long start = random.nextInt(200_000) - 100_000;
+            long end = start + random.nextInt(4000) - 2000;
+            int expected = Days.between(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end)).getAmount();
+            assertEquals(Days.betweenEpochDays(start, end), expected);
+        }
+    }
+
+    public void test_betweenEpochDays_monthEnds() {
+        for (LocalDate start = LocalDate.of(2019, 12, 25); start.getYear() < 2021; start = start.plusDays(1)) {
+            for (LocalDate end = start.minusDays(800); end.isBefore(start.plusDays(800)); end = end.plusDays(13)) {
+                int expected = Days.between(start, end).getAmount();
+                assertEquals(Days.betweenEpochDays(start.toEpochDay(), end.toEpochDay()), expected);
+            }
+        }
+    }
+
+    public void test_betweenEpochDays_bulk() {
+        long[] starts = {LocalDate.of(2020, 1, 31).toEpochDay(), LocalDate.of(2024, 2, 29).toEpochDay()};
+        long[] ends = {LocalDate.of(2022, 3, 1).toEpochDay(), LocalDate.of(2021, 2, 28).toEpochDay()};
+        int[] results = new int[2];
+        Days.betweenEpochDays(starts, ends, results);
+        assertEquals(results[0], Days.between(LocalDate.of(2020, 1, 31), LocalDate.of(2022, 3, 1)).getAmount());
+        assertEquals(results[1], Days.between(LocalDate.of(2024, 2, 29), LocalDate.of(2021, 2, 28)).getAmount());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_betweenEpochDays_bulk_lengthMismatch() {
+        Days.betweenEpochDays(new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_betweenEpochDays_invalidEpochDay() {
+        Days.betweenEpochDays(0, Long.MAX_VALUE);
+    }
+
 }
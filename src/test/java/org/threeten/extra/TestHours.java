@@ -34,15 +34,20 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.IntSummaryStatistics;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -88,6 +93,26 @@ public class TestHours {
         assertEquals(Hours.of(-2).getAmount(), -2);
         assertEquals(Hours.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
+
+    public void test_of_cached() {
+        assertSame(Hours.of(7), Hours.of(7));
+        assertSame(Hours.of(-1024), Hours.of(-1024));
+        assertSame(Hours.of(1024), Hours.of(1024));
+        assertSame(Hours.of(3).plus(4), Hours.of(7));
+        assertSame(Hours.of(7).negated(), Hours.of(-7));
+        assertEquals(Hours.of(1025) == Hours.of(1025), false);
+        assertEquals(Hours.of(1025), Hours.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Hours.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Hours.of(15));
+        }
+    }
     
     //-----------------------------------------------------------------------
     @DataProvider(name = "parseValid")
@@ -148,6 +173,38 @@ public class TestHours {
     public void test_parse_CharSequence_null() {
         Hours.parse((CharSequence) null);
     }
+
+    public void test_parse_CharSequence_region() {
+        assertEquals(Hours.parse("x=PT2H;", 2, 6), Hours.of(2));
+        assertEquals(Hours.parse("-PT3H", 0, 5), Hours.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=pt2h;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Hours.parse(bytes, 2, 6), Hours.of(2));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Hours.parse("x=PT1M", 2, 6);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 5);
+            assertEquals(ex.getParsedString(), "x=PT1M");
+        }
+        try {
+            Hours.parse("PT2147483648H".getBytes(StandardCharsets.US_ASCII), 0, 13);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 2);
+            assertEquals(ex.getParsedString(), "PT2147483648H");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Hours.parse("PT2H", 1, 5);
+    }
     
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Hours() {
@@ -401,5 +458,30 @@ public class TestHours {
         Hours testM1 = Hours.of(-1);
         assertEquals("PT-1H", testM1.toString());
     }
-    
+
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Hours.of(2), Hours.of(-5), Hours.of(10)).collect(Hours.summing()), Hours.of(7));
+        assertSame(Stream.<Hours>empty().collect(Hours.summing()), Hours.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Hours.summing(Hours::of)), Hours.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Hours> stream = Stream.of(Hours.of(Integer.MAX_VALUE), Hours.of(1), Hours.of(-2));
+        assertEquals(stream.collect(Hours.summing()), Hours.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Hours.of(Integer.MAX_VALUE), Hours.of(1)).collect(Hours.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Hours.summarizing(Hours::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
 }
@@ -360,6 +360,40 @@ public class TestInterval {
         base.abuts((Interval) null);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_intersection_Interval() {
+        Interval test = Interval.of(NOW1, NOW3);
+        assertEquals(test.intersection(Interval.of(NOW1.minusSeconds(1), NOW2)), Interval.of(NOW1, NOW2));
+        assertEquals(test.intersection(Interval.of(NOW2, NOW3.plusSeconds(1))), Interval.of(NOW2, NOW3));
+        assertEquals(test.intersection(Interval.of(NOW1.plusSeconds(1), NOW2)), Interval.of(NOW1.plusSeconds(1), NOW2));
+        assertEquals(test.intersection(Interval.of(NOW1.minusSeconds(1), NOW3.plusSeconds(1))), test);
+        assertEquals(test.intersection(test), test);
+    }
+
+    public void test_intersection_Interval_empty() {
+        Interval test = Interval.of(NOW1, NOW3);
+        assertEquals(test.intersection(Interval.of(NOW2, NOW2)), Interval.of(NOW2, NOW2));
+        assertEquals(Interval.of(NOW1, NOW1).intersection(Interval.of(NOW1, NOW1)), Interval.of(NOW1, NOW1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_intersection_Interval_abuts() {
+        Interval test = Interval.of(NOW1, NOW2);
+        test.intersection(Interval.of(NOW2, NOW3));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_intersection_Interval_emptyAtStart() {
+        Interval test = Interval.of(NOW1, NOW2);
+        test.intersection(Interval.of(NOW1, NOW1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_intersection_Interval_null() {
+        Interval base = Interval.of(NOW1, NOW2);
+        base.intersection((Interval) null);
+    }
+
     //-----------------------------------------------------------------------
     public void test_isAfter_Instant() {
         Interval test = Interval.of(NOW1, NOW2);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIntervalOccupancy {
+
+    private static final Instant NOW = Instant.parse("2014-12-01T01:00:00Z");
+
+    private static Interval interval(int startSecs, int endSecs) {
+        return Interval.of(NOW.plusSeconds(startSecs), NOW.plusSeconds(endSecs));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_empty() {
+        IntervalOccupancy test = IntervalOccupancy.of(Collections.emptyList());
+        assertEquals(test.getPeakConcurrency(), 0);
+        assertEquals(test.getCoveredDuration(), Duration.ZERO);
+        assertEquals(test.getDurationAtLevel(0), Duration.ZERO);
+        assertEquals(test.getConcurrencyAt(NOW), 0);
+        assertEquals(test.getIntervalsAbove(0), Collections.emptyList());
+    }
+
+    public void test_of_emptyIntervals() {
+        IntervalOccupancy test = IntervalOccupancy.of(Arrays.asList(interval(5, 5), interval(5, 5)));
+        assertEquals(test.getPeakConcurrency(), 0);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(5)), 0);
+    }
+
+    public void test_of() {
+        List<Interval> intervals = Arrays.asList(
+                interval(0, 10), interval(5, 15), interval(5, 8), interval(15, 20), interval(30, 40));
+        IntervalOccupancy test = IntervalOccupancy.of(intervals);
+        assertEquals(test.getPeakConcurrency(), 3);
+        assertEquals(test.getCoveredDuration(), Duration.ofSeconds(30));
+        assertEquals(test.getDurationAtLevel(0), Duration.ofSeconds(10));
+        assertEquals(test.getDurationAtLevel(1), Duration.ofSeconds(25));
+        assertEquals(test.getDurationAtLevel(2), Duration.ofSeconds(2));
+        assertEquals(test.getDurationAtLevel(3), Duration.ofSeconds(3));
+        assertEquals(test.getDurationAtLevel(4), Duration.ZERO);
+        assertEquals(test.getConcurrencyAt(NOW.minusSeconds(1)), 0);
+        assertEquals(test.getConcurrencyAt(NOW), 1);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(5)), 3);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(8)), 2);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(10)), 1);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(15)), 1);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(20)), 0);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(39)), 1);
+        assertEquals(test.getConcurrencyAt(NOW.plusSeconds(40)), 0);
+        assertEquals(test.getIntervalsAbove(0), Arrays.asList(interval(0, 20), interval(30, 40)));
+        assertEquals(test.getIntervalsAbove(1), Arrays.asList(interval(5, 10)));
+        assertEquals(test.getIntervalsAbove(2), Arrays.asList(interval(5, 8)));
+        assertEquals(test.getIntervalsAbove(3), Collections.emptyList());
+    }
+
+    public void test_of_nanos() {
+        Interval a = Interval.of(NOW.plusNanos(999_999_999), NOW.plusSeconds(2).plusNanos(1));
+        Interval b = Interval.of(NOW.plusSeconds(1).plusNanos(500), NOW.plusSeconds(3));
+        IntervalOccupancy test = IntervalOccupancy.of(Arrays.asList(a, b));
+        assertEquals(test.getCoveredDuration(), Duration.between(a.getStart(), b.getEnd()));
+        assertEquals(test.getDurationAtLevel(2), Duration.between(b.getStart(), a.getEnd()));
+        assertEquals(test.getIntervalsAbove(1), Arrays.asList(a.intersection(b)));
+    }
+
+    public void test_of_random() {
+        Random random = new Random(11);
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(1000);
+            intervals.add(interval(start, start + random.nextInt(50)));
+        }
+        IntervalOccupancy test = IntervalOccupancy.of(intervals);
+        int peak = 0;
+        long covered = 0;
+        for (int sec = -1; sec < 1100; sec++) {
+            Instant instant = NOW.plusSeconds(sec);
+            int count = 0;
+            for (Interval interval : intervals) {
+                if (interval.contains(instant)) {
+                    count++;
+                }
+            }
+            assertEquals(test.getConcurrencyAt(instant), count);
+            peak = Math.max(peak, count);
+            covered += (count > 0 ? 1 : 0);
+        }
+        assertEquals(test.getPeakConcurrency(), peak);
+        assertEquals(test.getCoveredDuration(), Duration.ofSeconds(covered));
+        Duration total = Duration.ZERO;
+        for (int level = 1; level <= peak; level++) {
+            total = total.plus(test.getDurationAtLevel(level));
+        }
+        assertEquals(total, test.getCoveredDuration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_null() {
+        IntervalOccupancy.of(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_getDurationAtLevel_negative() {
+        IntervalOccupancy.of(Collections.emptyList()).getDurationAtLevel(-1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_getIntervalsAbove_negative() {
+        IntervalOccupancy.of(Collections.emptyList()).getIntervalsAbove(-1);
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIntervalTracker {
+
+    private static final Instant NOW = Instant.parse("2014-12-01T01:00:00Z");
+
+    private static Interval interval(int startSecs, int endSecs) {
+        return Interval.of(NOW.plusSeconds(startSecs), NOW.plusSeconds(endSecs));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_new() {
+        IntervalTracker test = new IntervalTracker();
+        assertEquals(test.getTime(), Instant.MIN);
+        assertEquals(test.isEmpty(), true);
+        assertEquals(test.size(), 0);
+        assertEquals(test.contains(NOW), false);
+    }
+
+    public void test_add_remove() {
+        IntervalTracker test = new IntervalTracker();
+        assertEquals(test.add(interval(0, 10)), true);
+        assertEquals(test.add(interval(0, 10)), false);
+        assertEquals(test.add(interval(5, 20)), true);
+        assertEquals(test.size(), 2);
+        assertEquals(test.remove(interval(0, 10)), true);
+        assertEquals(test.remove(interval(0, 10)), false);
+        assertEquals(test.size(), 1);
+    }
+
+    public void test_contains() {
+        IntervalTracker test = new IntervalTracker();
+        test.add(interval(10, 20));
+        test.add(interval(15, 30));
+        test.add(interval(40, 40));
+        assertEquals(test.contains(NOW.plusSeconds(5)), false);
+        assertEquals(test.contains(NOW.plusSeconds(10)), true);
+        assertEquals(test.contains(NOW.plusSeconds(20)), true);
+        assertEquals(test.contains(NOW.plusSeconds(30)), false);
+        assertEquals(test.contains(NOW.plusSeconds(40)), false);
+    }
+
+    public void test_getActive() {
+        IntervalTracker test = new IntervalTracker();
+        test.add(interval(10, 20));
+        test.add(interval(15, 30));
+        test.add(interval(25, 50));
+        assertEquals(test.getActive(NOW), Collections.emptyList());
+        assertEquals(test.getActive(NOW.plusSeconds(17)), Arrays.asList(interval(10, 20), interval(15, 30)));
+        assertEquals(test.getActive(NOW.plusSeconds(25)), Arrays.asList(interval(15, 30), interval(25, 50)));
+        assertEquals(test.size(), 3);
+    }
+
+    public void test_query_doesNotEvict() {
+        IntervalTracker test = new IntervalTracker();
+        test.add(interval(10, 20));
+        test.add(interval(15, 30));
+        assertEquals(test.getActive(NOW.plusSeconds(100)), Collections.emptyList());
+        assertEquals(test.contains(NOW.plusSeconds(100)), false);
+        assertEquals(test.getTime(), Instant.MIN);
+        assertEquals(test.size(), 2);
+        assertEquals(test.contains(NOW.plusSeconds(12)), true);
+        assertEquals(test.getActive(NOW.plusSeconds(17)), Arrays.asList(interval(10, 20), interval(15, 30)));
+    }
+
+    public void test_advanceTo() {
+        IntervalTracker test = new IntervalTracker();
+        test.add(interval(0, 10));
+        test.add(interval(5, 20));
+        test.add(interval(30, 40));
+        test.advanceTo(NOW.plusSeconds(10));
+        assertEquals(test.getTime(), NOW.plusSeconds(10));
+        assertEquals(test.size(), 2);
+        test.advanceTo(NOW.plusSeconds(5));
+        assertEquals(test.getTime(), NOW.plusSeconds(10));
+        test.advanceTo(NOW.plusSeconds(35));
+        assertEquals(test.size(), 1);
+        assertEquals(test.contains(NOW.plusSeconds(35)), true);
+        test.advanceTo(NOW.plusSeconds(40));
+        assertEquals(test.isEmpty(), true);
+    }
+
+    public void test_add_expired() {
+        IntervalTracker test = new IntervalTracker();
+        test.advanceTo(NOW.plusSeconds(10));
+        assertEquals(test.add(interval(0, 10)), false);
+        assertEquals(test.add(interval(0, 11)), true);
+        assertEquals(test.isEmpty(), false);
+    }
+
+    public void test_concurrent() throws Exception {
+        IntervalTracker test = new IntervalTracker();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    test.add(interval(i, i + 100));
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                for (int i = 0; i < 20000; i++) {
+                    Instant instant = NOW.plusSeconds(i);
+                    for (Interval interval : test.getActive(instant)) {
+                        assertTrue(interval.contains(instant));
+                    }
+                }
+            });
+            writer.get(30, TimeUnit.SECONDS);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        test.advanceTo(NOW.plusSeconds(20050));
+        assertEquals(test.getActive(NOW.plusSeconds(20050)).size(), test.size());
+        for (Interval interval : test.getActive(NOW.plusSeconds(20050))) {
+            assertTrue(interval.getEnd().isAfter(NOW.plusSeconds(20050)));
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_add_null() {
+        new IntervalTracker().add(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_contains_null() {
+        new IntervalTracker().contains(null);
+    }
+
+}
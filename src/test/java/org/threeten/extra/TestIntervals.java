@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIntervals {
+
+    private static final Instant NOW = Instant.parse("2014-12-01T01:00:00Z");
+
+    private static Interval interval(int startSecs, int endSecs) {
+        return Interval.of(NOW.plusSeconds(startSecs), NOW.plusSeconds(endSecs));
+    }
+
+    private static List<Interval> random(Random random, int size, int range, int maxLength) {
+        List<Interval> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int start = random.nextInt(range);
+            int length = (random.nextInt(8) == 0 ? 0 : random.nextInt(maxLength));
+            list.add(interval(start, start + length));
+        }
+        return list;
+    }
+
+    private static List<String> bruteForce(List<Interval> left, List<Interval> right) {
+        List<String> result = new ArrayList<>();
+        for (Interval a : left) {
+            for (Interval b : right) {
+                if (a.overlaps(b)) {
+                    result.add(a + "|" + b);
+                }
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private static List<String> join(List<Interval> left, List<Interval> right) {
+        List<String> result = new ArrayList<>();
+        Intervals.overlapJoin(left, right, (a, b) -> result.add(a + "|" + b));
+        Collections.sort(result);
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_overlapJoin() {
+        List<Interval> left = Arrays.asList(interval(0, 10), interval(5, 6), interval(20, 30));
+        List<Interval> right = Arrays.asList(interval(10, 20), interval(9, 21), interval(5, 5), interval(40, 50));
+        List<String> expected = Arrays.asList(
+                interval(0, 10) + "|" + interval(5, 5),
+                interval(0, 10) + "|" + interval(9, 21),
+                interval(20, 30) + "|" + interval(9, 21));
+        assertEquals(join(left, right), expected);
+    }
+
+    public void test_overlapJoin_emptyIntervals() {
+        List<Interval> left = Arrays.asList(interval(5, 5), interval(10, 10), interval(10, 20));
+        List<Interval> right = Arrays.asList(interval(5, 5), interval(10, 10), interval(0, 5));
+        assertEquals(join(left, right), bruteForce(left, right));
+        assertEquals(join(left, right).size(), 2);
+    }
+
+    public void test_overlapJoin_duplicates() {
+        List<Interval> left = Arrays.asList(interval(0, 10), interval(0, 10));
+        List<Interval> right = Arrays.asList(interval(5, 15));
+        assertEquals(join(left, right).size(), 2);
+    }
+
+    public void test_overlapJoin_emptyInputs() {
+        List<Interval> list = Arrays.asList(interval(0, 10));
+        assertEquals(join(list, Collections.emptyList()), Collections.emptyList());
+        assertEquals(join(Collections.emptyList(), list), Collections.emptyList());
+    }
+
+    public void test_overlapJoin_random() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            List<Interval> left = random(random, random.nextInt(100), 200, 30);
+            List<Interval> right = random(random, random.nextInt(100), 200, 30);
+            assertEquals(join(left, right), bruteForce(left, right));
+        }
+    }
+
+    public void test_overlapJoin_leftFirst() {
+        List<Interval> left = Arrays.asList(interval(0, 10));
+        List<Interval> right = Arrays.asList(interval(5, 15));
+        Intervals.overlapJoin(left, right, (a, b) -> {
+            assertEquals(a, interval(0, 10));
+            assertEquals(b, interval(5, 15));
+        });
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_overlapJoin_nullLeft() {
+        Intervals.overlapJoin(null, Collections.emptyList(), (a, b) -> {});
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_overlapJoin_nullAction() {
+        Intervals.overlapJoin(Collections.emptyList(), Collections.emptyList(), null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_overlapJoinSorted_random() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            List<Interval> left = random(random, random.nextInt(100), 200, 30);
+            List<Interval> right = random(random, random.nextInt(100), 200, 30);
+            left.sort(Comparator.comparing(Interval::getStart));
+            right.sort(Comparator.comparing(Interval::getStart));
+            List<String> result = new ArrayList<>();
+            Intervals.overlapJoinSorted(left.iterator(), right.iterator(), (a, b) -> result.add(a + "|" + b));
+            Collections.sort(result);
+            assertEquals(result, bruteForce(left, right));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_overlapJoinSorted_notSorted() {
+        List<Interval> left = Arrays.asList(interval(10, 20), interval(0, 5));
+        List<Interval> right = Arrays.asList(interval(0, 30));
+        Intervals.overlapJoinSorted(left.iterator(), right.iterator(), (a, b) -> {});
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_overlapJoinParallel_small() {
+        Random random = new Random(3);
+        List<Interval> left = random(random, 100, 200, 30);
+        List<Interval> right = random(random, 100, 200, 30);
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        Intervals.overlapJoinParallel(left, right, (a, b) -> result.add(a + "|" + b));
+        Collections.sort(result);
+        assertEquals(result, bruteForce(left, right));
+    }
+
+    public void test_overlapJoinParallel_large() {
+        Random random = new Random(5);
+        List<Interval> left = random(random, 6000, 100000, 500);
+        List<Interval> right = random(random, 4000, 100000, 500);
+        // some long intervals that span many partitions
+        left.add(interval(0, 100000));
+        right.add(interval(500, 90000));
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        Intervals.overlapJoinParallel(left, right, (a, b) -> result.add(a + "|" + b));
+        Collections.sort(result);
+        assertEquals(result, bruteForce(left, right));
+    }
+
+    public void test_overlapJoinParallel_manyLongIntervals() {
+        Random random = new Random(7);
+        List<Interval> left = random(random, 8000, 100000, 200);
+        List<Interval> right = random(random, 8000, 100000, 200);
+        // many long intervals, each spanning many partitions
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(50000);
+            left.add(interval(start, start + 20000 + random.nextInt(30000)));
+            start = random.nextInt(50000);
+            right.add(interval(start, start + 20000 + random.nextInt(30000)));
+        }
+        List<String> expected = new ArrayList<>();
+        Intervals.overlapJoin(left, right, (a, b) -> expected.add(a + "|" + b));
+        List<String> result = Collections.synchronizedList(new ArrayList<>());
+        Intervals.overlapJoinParallel(left, right, (a, b) -> result.add(a + "|" + b));
+        Collections.sort(expected);
+        Collections.sort(result);
+        assertEquals(result, expected);
+    }
+
+    public void test_overlapJoinParallel_carryOverWork() {
+        // one huge interval followed by many small ones
+        Interval[] sorted = new Interval[100001];
+        sorted[0] = interval(0, 1000000);
+        for (int i = 1; i < sorted.length; i++) {
+            sorted[i] = interval(i * 10, i * 10 + 5);
+        }
+        int partitions = 64;
+        Instant[] bounds = new Instant[partitions + 1];
+        for (int i = 1; i < partitions; i++) {
+            bounds[i] = sorted[sorted.length * i / partitions].getStart();
+        }
+        Intervals.CarryOverSweep test = new Intervals.CarryOverSweep();
+        List<List<Interval>> carried = test.carryOvers(sorted, bounds);
+        assertEquals(carried.size(), partitions);
+        assertEquals(carried.get(0), Collections.emptyList());
+        for (int i = 1; i < partitions; i++) {
+            assertEquals(carried.get(i), Arrays.asList(sorted[0]));
+        }
+        // each interval is visited when it starts, plus once per boundary while active
+        assertTrue(test.getVisited() <= sorted.length + partitions);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_intersections() {
+        List<Interval> left = Arrays.asList(interval(0, 10), interval(20, 30));
+        List<Interval> right = Arrays.asList(interval(5, 25));
+        assertEquals(Intervals.intersections(left, right), Arrays.asList(interval(5, 10), interval(20, 25)));
+    }
+
+    //-----------------------------------------------------------------------
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    private static <K> Map.Entry<K, Duration> entry(K key, Duration duration) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, duration);
+    }
+
+    public void test_splitByDay_springForward() {
+        Interval test = Interval.of(Instant.parse("2014-03-29T12:00:00Z"), Instant.parse("2014-03-31T12:00:00Z"));
+        assertEquals(Intervals.splitByDay(test, LONDON).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDate.of(2014, 3, 29), Duration.ofHours(12)),
+                entry(LocalDate.of(2014, 3, 30), Duration.ofHours(23)),
+                entry(LocalDate.of(2014, 3, 31), Duration.ofHours(13))));
+    }
+
+    public void test_splitByDay_fallBack() {
+        Interval test = Interval.of(Instant.parse("2014-10-25T23:00:00Z"), Instant.parse("2014-10-27T00:00:00Z"));
+        assertEquals(Intervals.splitByDay(test, LONDON).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDate.of(2014, 10, 26), Duration.ofHours(25))));
+    }
+
+    public void test_splitByDay_sumsToDuration() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        Interval test = Interval.of(Instant.parse("2013-06-01T03:17:00Z"), Instant.parse("2016-02-01T21:05:00Z"));
+        List<Map.Entry<LocalDate, Duration>> result = Intervals.splitByDay(test, zone).collect(Collectors.toList());
+        assertEquals(result.stream().map(Map.Entry::getValue).reduce(Duration.ZERO, Duration::plus), test.toDuration());
+        assertEquals(result.get(0).getKey(), LocalDate.of(2013, 5, 31));
+        assertEquals(result.get(result.size() - 1).getKey(), LocalDate.of(2016, 2, 1));
+        assertEquals(result.size(), LocalDate.of(2013, 5, 31).until(LocalDate.of(2016, 2, 1), ChronoUnit.DAYS) + 1);
+    }
+
+    public void test_splitByDay_empty() {
+        Interval test = Interval.of(NOW, NOW);
+        assertEquals(Intervals.splitByDay(test, LONDON).count(), 0);
+    }
+
+    public void test_splitByDay_lazy() {
+        Interval test = Interval.of(Instant.EPOCH, Instant.MAX);
+        assertEquals(Intervals.splitByDay(test, ZoneOffset.UTC).skip(2).findFirst().get(),
+                entry(LocalDate.of(1970, 1, 3), Duration.ofDays(1)));
+    }
+
+    public void test_splitByYearWeek() {
+        Interval test = Interval.of(Instant.parse("2014-12-28T12:00:00Z"), Instant.parse("2014-12-29T12:00:00Z"));
+        assertEquals(Intervals.splitByYearWeek(test, ZoneOffset.UTC).collect(Collectors.toList()), Arrays.asList(
+                entry(YearWeek.of(2014, 52), Duration.ofHours(12)),
+                entry(YearWeek.of(2015, 1), Duration.ofHours(12))));
+    }
+
+    public void test_splitByYearQuarter() {
+        Interval test = Interval.of(Instant.parse("2014-03-31T00:00:00Z"), Instant.parse("2014-04-02T00:00:00Z"));
+        assertEquals(Intervals.splitByYearQuarter(test, ZoneOffset.UTC).collect(Collectors.toList()), Arrays.asList(
+                entry(YearQuarter.of(2014, 1), Duration.ofDays(1)),
+                entry(YearQuarter.of(2014, 2), Duration.ofDays(1))));
+    }
+
+    public void test_splitBy_hoursInGap() {
+        Interval test = Interval.of(Instant.parse("2014-03-30T00:30:00Z"), Instant.parse("2014-03-30T02:30:00Z"));
+        assertEquals(Intervals.splitBy(test, LONDON, ChronoUnit.HOURS).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 3, 30, 0, 0), Duration.ofMinutes(30)),
+                entry(LocalDateTime.of(2014, 3, 30, 2, 0), Duration.ofHours(1)),
+                entry(LocalDateTime.of(2014, 3, 30, 3, 0), Duration.ofMinutes(30))));
+    }
+
+    public void test_splitBy_months() {
+        Interval test = Interval.of(Instant.parse("2014-01-15T00:00:00Z"), Instant.parse("2014-03-02T00:00:00Z"));
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, ChronoUnit.MONTHS).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 1, 1, 0, 0), Duration.ofDays(17)),
+                entry(LocalDateTime.of(2014, 2, 1, 0, 0), Duration.ofDays(28)),
+                entry(LocalDateTime.of(2014, 3, 1, 0, 0), Duration.ofDays(1))));
+    }
+
+    public void test_splitBy_years() {
+        Interval test = Interval.of(Instant.parse("2014-12-31T00:00:00Z"), Instant.parse("2015-01-01T06:00:00Z"));
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, ChronoUnit.YEARS).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 1, 1, 0, 0), Duration.ofDays(1)),
+                entry(LocalDateTime.of(2015, 1, 1, 0, 0), Duration.ofHours(6))));
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_splitBy_unsupportedUnit() {
+        Intervals.splitBy(Interval.of(NOW, NOW), ZoneOffset.UTC, ChronoUnit.DECADES);
+    }
+
+    public void test_splitBy_origin_customUnit() {
+        Interval test = Interval.of(Instant.parse("2015-12-31T00:00:00Z"), Instant.parse("2016-01-05T00:00:00Z"));
+        LocalDateTime origin = LocalDateTime.of(2014, 12, 29, 0, 0);
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, IsoFields.WEEK_BASED_YEARS, origin).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 12, 29, 0, 0), Duration.ofDays(4)),
+                entry(LocalDateTime.of(2016, 1, 4, 0, 0), Duration.ofDays(1))));
+    }
+
+    public void test_splitBy_origin_decades() {
+        Interval test = Interval.of(Instant.parse("2014-06-01T00:00:00Z"), Instant.parse("2015-06-01T00:00:00Z"));
+        LocalDateTime origin = LocalDateTime.of(1905, 1, 1, 0, 0);
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, ChronoUnit.DECADES, origin).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2005, 1, 1, 0, 0), Duration.ofDays(214)),
+                entry(LocalDateTime.of(2015, 1, 1, 0, 0), Duration.ofDays(151))));
+    }
+
+    public void test_splitBy_origin_afterInterval() {
+        Interval test = Interval.of(Instant.parse("2014-01-01T10:30:00Z"), Instant.parse("2014-01-01T11:30:00Z"));
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 15);
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, ChronoUnit.HOURS, origin).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 1, 1, 10, 15), Duration.ofMinutes(45)),
+                entry(LocalDateTime.of(2014, 1, 1, 11, 15), Duration.ofMinutes(15))));
+    }
+
+    public void test_splitBy_origin_monthEnd() {
+        Interval test = Interval.of(Instant.parse("2014-02-01T00:00:00Z"), Instant.parse("2014-04-01T00:00:00Z"));
+        LocalDateTime origin = LocalDateTime.of(2014, 1, 31, 0, 0);
+        assertEquals(Intervals.splitBy(test, ZoneOffset.UTC, ChronoUnit.MONTHS, origin).collect(Collectors.toList()), Arrays.asList(
+                entry(LocalDateTime.of(2014, 1, 31, 0, 0), Duration.ofDays(27)),
+                entry(LocalDateTime.of(2014, 2, 28, 0, 0), Duration.ofDays(31)),
+                entry(LocalDateTime.of(2014, 3, 31, 0, 0), Duration.ofDays(1))));
+    }
+
+}
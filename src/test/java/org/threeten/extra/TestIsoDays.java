@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.IsoFields;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestIsoDays {
+
+    public void test_epochDay_civil_fourCycles() {
+        LocalDate date = LocalDate.of(-401, 1, 1);
+        LocalDate end = LocalDate.of(1201, 1, 1);
+        while (date.isBefore(end)) {
+            long civil = IsoDays.civil(date.toEpochDay());
+            assertEquals(IsoDays.year(civil), date.getYear());
+            assertEquals(IsoDays.month(civil), date.getMonthValue());
+            assertEquals(IsoDays.day(civil), date.getDayOfMonth());
+            assertEquals(IsoDays.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), date.toEpochDay());
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_epochDay_civil_extremes() {
+        for (LocalDate date : new LocalDate[] {LocalDate.MIN, LocalDate.MAX, LocalDate.of(1970, 1, 1)}) {
+            long civil = IsoDays.civil(date.toEpochDay());
+            assertEquals(IsoDays.year(civil), date.getYear());
+            assertEquals(IsoDays.month(civil), date.getMonthValue());
+            assertEquals(IsoDays.day(civil), date.getDayOfMonth());
+            assertEquals(IsoDays.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()), date.toEpochDay());
+        }
+    }
+
+    public void test_isValid() {
+        for (int year = -401; year <= 401; year++) {
+            assertEquals(IsoDays.isLeapYear(year), Year.isLeap(year));
+            assertEquals(IsoDays.isValid(year, 2, 29), Year.isLeap(year));
+        }
+        assertEquals(IsoDays.isValid(2015, 4, 31), false);
+        assertEquals(IsoDays.isValid(2015, 0, 1), false);
+        assertEquals(IsoDays.isValid(2015, 13, 1), false);
+        assertEquals(IsoDays.isValid(2015, 1, 0), false);
+        assertEquals(IsoDays.isValid(2015, 12, 31), true);
+    }
+
+    public void test_yearWeek_fourCycles() {
+        LocalDate date = LocalDate.of(-401, 1, 1);
+        LocalDate end = LocalDate.of(1201, 1, 8);
+        while (date.isBefore(end)) {
+            long packed = IsoDays.yearWeek(date.toEpochDay());
+            int weekBasedYear = date.get(IsoFields.WEEK_BASED_YEAR);
+            assertEquals(Math.floorDiv(packed, 100), weekBasedYear);
+            assertEquals(Math.floorMod(packed, 100), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            if (date.getDayOfWeek() == DayOfWeek.MONDAY && date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) == 1) {
+                assertEquals(IsoDays.weekOneMonday(weekBasedYear), date.toEpochDay());
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_is53WeekYear() {
+        for (int year = -801; year <= 801; year++) {
+            LocalDate dec28 = LocalDate.of(year, 12, 28);
+            assertEquals(IsoDays.is53WeekYear(year), dec28.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) == 53);
+        }
+    }
+
+    public void test_yearWeek_extremes() {
+        for (LocalDate date : new LocalDate[] {LocalDate.MIN.plusDays(7), LocalDate.MAX.minusDays(7)}) {
+            long packed = IsoDays.yearWeek(date.toEpochDay());
+            assertEquals(Math.floorDiv(packed, 100), date.get(IsoFields.WEEK_BASED_YEAR));
+            assertEquals(Math.floorMod(packed, 100), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        }
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestLocalDateRange {
+
+    private static final LocalDate DATE_2012_07_28 = LocalDate.of(2012, 7, 28);
+    private static final LocalDate DATE_2012_07_29 = LocalDate.of(2012, 7, 29);
+    private static final LocalDate DATE_2012_07_30 = LocalDate.of(2012, 7, 30);
+    private static final LocalDate DATE_2012_07_31 = LocalDate.of(2012, 7, 31);
+    private static final LocalDate DATE_2012_08_01 = LocalDate.of(2012, 8, 1);
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() {
+        assertTrue(Serializable.class.isAssignableFrom(LocalDateRange.class));
+    }
+
+    public void test_serialization() throws Exception {
+        LocalDateRange original = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(original);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        LocalDateRange ser = (LocalDateRange) in.readObject();
+        assertEquals(ser, original);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_LocalDate_LocalDate() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        assertEquals(test.getStart(), DATE_2012_07_28);
+        assertEquals(test.getEnd(), DATE_2012_07_31);
+        assertEquals(test.getStartEpochDay(), DATE_2012_07_28.toEpochDay());
+        assertEquals(test.getEndEpochDay(), DATE_2012_07_31.toEpochDay());
+        assertEquals(test.lengthInDays(), 3);
+    }
+
+    public void test_of_LocalDate_LocalDate_empty() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_28);
+        assertEquals(test.getStart(), DATE_2012_07_28);
+        assertEquals(test.getEnd(), DATE_2012_07_28);
+        assertEquals(test.lengthInDays(), 0);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_LocalDate_LocalDate_badOrder() {
+        LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_28);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_LocalDate_LocalDate_nullStart() {
+        LocalDateRange.of(null, DATE_2012_07_28);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_LocalDate_LocalDate_nullEnd() {
+        LocalDateRange.of(DATE_2012_07_28, (LocalDate) null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_LocalDate_Period() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, Period.ofDays(3));
+        assertEquals(test.getStart(), DATE_2012_07_28);
+        assertEquals(test.getEnd(), DATE_2012_07_31);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_LocalDate_Period_negative() {
+        LocalDateRange.of(DATE_2012_07_28, Period.ofDays(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_ofEpochDays() {
+        LocalDateRange test = LocalDateRange.ofEpochDays(0, 31);
+        assertEquals(test.getStart(), LocalDate.of(1970, 1, 1));
+        assertEquals(test.getEnd(), LocalDate.of(1970, 2, 1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofEpochDays_badOrder() {
+        LocalDateRange.ofEpochDays(1, 0);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofEpochDays_invalid() {
+        LocalDateRange.ofEpochDays(0, Long.MAX_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_CharSequence() {
+        LocalDateRange test = LocalDateRange.parse(DATE_2012_07_28 + "/" + DATE_2012_07_31);
+        assertEquals(test, LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31));
+    }
+
+    public void test_parse_CharSequence_PeriodLocalDate() {
+        LocalDateRange test = LocalDateRange.parse("P3D/" + DATE_2012_07_31);
+        assertEquals(test, LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31));
+    }
+
+    public void test_parse_CharSequence_LocalDatePeriod() {
+        LocalDateRange test = LocalDateRange.parse(DATE_2012_07_28 + "/P3D");
+        assertEquals(test, LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_parse_CharSequence_badOrder() {
+        LocalDateRange.parse(DATE_2012_07_31 + "/" + DATE_2012_07_28);
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_CharSequence_badFormat() {
+        LocalDateRange.parse(DATE_2012_07_28 + "-" + DATE_2012_07_31);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_CharSequence_null() {
+        LocalDateRange.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_withStart() {
+        LocalDateRange base = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        assertEquals(base.withStart(DATE_2012_07_29), LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_withStart_badOrder() {
+        LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_29).withStart(DATE_2012_07_30);
+    }
+
+    public void test_withEnd() {
+        LocalDateRange base = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        assertEquals(base.withEnd(DATE_2012_07_29), LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_29));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_withEnd_badOrder() {
+        LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_30).withEnd(DATE_2012_07_28);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_contains() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31);
+        assertEquals(test.contains(DATE_2012_07_28), false);
+        assertEquals(test.contains(DATE_2012_07_29), true);
+        assertEquals(test.contains(DATE_2012_07_30), true);
+        assertEquals(test.contains(DATE_2012_07_31), false);
+        assertEquals(LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_29).contains(DATE_2012_07_29), false);
+    }
+
+    public void test_encloses() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31);
+        assertEquals(test.encloses(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30)), false);
+        assertEquals(test.encloses(LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_30)), true);
+        assertEquals(test.encloses(LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31)), true);
+        assertEquals(test.encloses(LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01)), false);
+    }
+
+    public void test_overlaps() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31);
+        assertEquals(test.overlaps(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_29)), false);
+        assertEquals(test.overlaps(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30)), true);
+        assertEquals(test.overlaps(LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01)), true);
+        assertEquals(test.overlaps(LocalDateRange.of(DATE_2012_07_31, DATE_2012_08_01)), false);
+        LocalDateRange empty = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_29);
+        assertEquals(empty.overlaps(empty), true);
+        assertEquals(empty.overlaps(test), false);
+    }
+
+    public void test_overlaps_matchesInterval() {
+        for (int s1 = 0; s1 < 4; s1++) {
+            for (int e1 = s1; e1 < 4; e1++) {
+                for (int s2 = 0; s2 < 4; s2++) {
+                    for (int e2 = s2; e2 < 4; e2++) {
+                        LocalDateRange a = LocalDateRange.ofEpochDays(s1, e1);
+                        LocalDateRange b = LocalDateRange.ofEpochDays(s2, e2);
+                        Interval ia = Interval.of(Instant.ofEpochSecond(s1), Instant.ofEpochSecond(e1));
+                        Interval ib = Interval.of(Instant.ofEpochSecond(s2), Instant.ofEpochSecond(e2));
+                        assertEquals(a.overlaps(b), ia.overlaps(ib));
+                        assertEquals(a.abuts(b), ia.abuts(ib));
+                        assertEquals(a.encloses(b), ia.encloses(ib));
+                        assertEquals(a.isAfter(b), ia.isAfter(ib));
+                        assertEquals(a.isBefore(b), ia.isBefore(ib));
+                    }
+                }
+            }
+        }
+    }
+
+    public void test_abuts() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31);
+        assertEquals(test.abuts(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_29)), true);
+        assertEquals(test.abuts(LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30)), false);
+        assertEquals(test.abuts(LocalDateRange.of(DATE_2012_07_31, DATE_2012_08_01)), true);
+    }
+
+    public void test_intersection() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        assertEquals(test.intersection(LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01)),
+                LocalDateRange.of(DATE_2012_07_30, DATE_2012_07_31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_intersection_noOverlap() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_29);
+        test.intersection(LocalDateRange.of(DATE_2012_07_30, DATE_2012_08_01));
+    }
+
+    public void test_isAfter_isBefore_LocalDate() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_31);
+        assertEquals(test.isAfter(DATE_2012_07_28), true);
+        assertEquals(test.isAfter(DATE_2012_07_29), false);
+        assertEquals(test.isBefore(DATE_2012_07_30), false);
+        assertEquals(test.isBefore(DATE_2012_07_31), true);
+        assertEquals(test.isBefore(DATE_2012_08_01), true);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toPeriod() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, LocalDate.of(2012, 9, 1));
+        assertEquals(test.toPeriod(), Period.of(0, 1, 4));
+    }
+
+    public void test_stream() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_29, DATE_2012_08_01);
+        assertEquals(test.stream().collect(Collectors.toList()),
+                Arrays.asList(DATE_2012_07_29, DATE_2012_07_30, DATE_2012_07_31));
+        assertEquals(test.stream().spliterator().hasCharacteristics(Spliterator.SIZED), true);
+        assertEquals(LocalDateRange.of(DATE_2012_07_29, DATE_2012_07_29).stream().count(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        LocalDateRange a = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30);
+        LocalDateRange a2 = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30);
+        LocalDateRange b = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_31);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(a2), true);
+        assertEquals(a.equals(b), false);
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals(""), false);
+        assertEquals(a.hashCode() == a2.hashCode(), true);
+    }
+
+    public void test_toString() {
+        LocalDateRange test = LocalDateRange.of(DATE_2012_07_28, DATE_2012_07_30);
+        assertEquals(test.toString(), "2012-07-28/2012-07-30");
+    }
+
+}
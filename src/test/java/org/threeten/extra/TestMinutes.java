@@ -34,15 +34,20 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.IntSummaryStatistics;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -88,6 +93,26 @@ public class TestMinutes {
         assertEquals(Minutes.of(-2).getAmount(), -2);
         assertEquals(Minutes.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
+
+    public void test_of_cached() {
+        assertSame(Minutes.of(7), Minutes.of(7));
+        assertSame(Minutes.of(-1024), Minutes.of(-1024));
+        assertSame(Minutes.of(1024), Minutes.of(1024));
+        assertSame(Minutes.of(3).plus(4), Minutes.of(7));
+        assertSame(Minutes.of(7).negated(), Minutes.of(-7));
+        assertEquals(Minutes.of(1025) == Minutes.of(1025), false);
+        assertEquals(Minutes.of(1025), Minutes.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Minutes.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Minutes.of(15));
+        }
+    }
     
     //-----------------------------------------------------------------------
     public void test_ofHours() {
@@ -183,6 +208,43 @@ public class TestMinutes {
     public void test_parse_CharSequence_null() {
         Minutes.parse((CharSequence) null);
     }
+
+    public void test_parse_CharSequence_region() {
+        assertEquals(Minutes.parse("x=PT1H2M;", 2, 8), Minutes.of(62));
+        assertEquals(Minutes.parse("-PT3M", 0, 5), Minutes.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=pt1h2m;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Minutes.parse(bytes, 2, 8), Minutes.of(62));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Minutes.parse("x=PT1M1H", 2, 8);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 6);
+            assertEquals(ex.getParsedString(), "x=PT1M1H");
+        }
+        try {
+            Minutes.parse("PT2147483648M".getBytes(StandardCharsets.US_ASCII), 0, 13);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 2);
+            assertEquals(ex.getParsedString(), "PT2147483648M");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Minutes.parse("PT1H2M", 1, 7);
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_CharSequence_overflow() {
+        Minutes.parse("PT35791395H");
+    }
     
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Minutes() {
@@ -418,5 +480,30 @@ public class TestMinutes {
         Minutes testM1 = Minutes.of(-1);
         assertEquals("PT-1M", testM1.toString());
     }
-    
+
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Minutes.of(2), Minutes.of(-5), Minutes.of(10)).collect(Minutes.summing()), Minutes.of(7));
+        assertSame(Stream.<Minutes>empty().collect(Minutes.summing()), Minutes.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Minutes.summing(Minutes::of)), Minutes.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Minutes> stream = Stream.of(Minutes.of(Integer.MAX_VALUE), Minutes.of(1), Minutes.of(-2));
+        assertEquals(stream.collect(Minutes.summing()), Minutes.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Minutes.of(Integer.MAX_VALUE), Minutes.of(1)).collect(Minutes.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Minutes.summarizing(Minutes::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
 }
@@ -34,17 +34,24 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -97,6 +104,26 @@ public class TestMonths {
         assertEquals(Months.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
 
+    public void test_of_cached() {
+        assertSame(Months.of(7), Months.of(7));
+        assertSame(Months.of(-1024), Months.of(-1024));
+        assertSame(Months.of(1024), Months.of(1024));
+        assertSame(Months.of(3).plus(4), Months.of(7));
+        assertSame(Months.of(7).negated(), Months.of(-7));
+        assertEquals(Months.of(1025) == Months.of(1025), false);
+        assertEquals(Months.of(1025), Months.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Months.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Months.of(15));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_ofYears() {
         assertEquals(Months.ofYears(0).getAmount(), 0);
@@ -219,6 +246,43 @@ public class TestMonths {
         Months.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequence_region() {
+        assertEquals(Months.parse("x=P1Y2M;", 2, 7), Months.of(14));
+        assertEquals(Months.parse("-P3M", 0, 4), Months.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=p1y2m;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Months.parse(bytes, 2, 7), Months.of(14));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Months.parse("x=P1M1Y", 2, 7);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 5);
+            assertEquals(ex.getParsedString(), "x=P1M1Y");
+        }
+        try {
+            Months.parse("P2147483648M".getBytes(StandardCharsets.US_ASCII), 0, 12);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 1);
+            assertEquals(ex.getParsedString(), "P2147483648M");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Months.parse("P1Y2M", 1, 6);
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_parse_CharSequence_overflow() {
+        Months.parse("P178956971Y");
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Months() {
         Months test5 = Months.of(5);
@@ -478,4 +542,68 @@ public class TestMonths {
         assertEquals("P-1M", testM1.toString());
     }
 
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Months.of(2), Months.of(-5), Months.of(10)).collect(Months.summing()), Months.of(7));
+        assertSame(Stream.<Months>empty().collect(Months.summing()), Months.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Months.summing(Months::of)), Months.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Months> stream = Stream.of(Months.of(Integer.MAX_VALUE), Months.of(1), Months.of(-2));
+        assertEquals(stream.collect(Months.summing()), Months.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Months.of(Integer.MAX_VALUE), Months.of(1)).collect(Months.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Months.summarizing(Months::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_betweenEpochDays_matchesBetween() {
+        Random random = new Random(186);
+        for (int i = 0; i < 20000; i++) {
+            long start = random.nextInt(200_000) - 100_000;
+            long end = start + random.nextInt(4000) - 2000;
+            int expected = Months.between(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end)).getAmount();
+            assertEquals(Months.betweenEpochDays(start, end), expected);
+        }
+    }
+
+    public void test_betweenEpochDays_monthEnds() {
+        for (LocalDate start = LocalDate.of(2019, 12, 25); start.getYear() < 2021; start = start.plusDays(1)) {
+            for (LocalDate end = start.minusDays(800); end.isBefore(start.plusDays(800)); end = end.plusDays(13)) {
+                int expected = Months.between(start, end).getAmount();
+                assertEquals(Months.betweenEpochDays(start.toEpochDay(), end.toEpochDay()), expected);
+            }
+        }
+    }
+
+    public void test_betweenEpochDays_bulk() {
+        long[] starts = {LocalDate.of(2020, 1, 31).toEpochDay(), LocalDate.of(2024, 2, 29).toEpochDay()};
+        long[] ends = {LocalDate.of(2022, 3, 1).toEpochDay(), LocalDate.of(2021, 2, 28).toEpochDay()};
+        int[] results = new int[2];
+        Months.betweenEpochDays(starts, ends, results);
+        assertEquals(results[0], Months.between(LocalDate.of(2020, 1, 31), LocalDate.of(2022, 3, 1)).getAmount());
+        assertEquals(results[1], Months.between(LocalDate.of(2024, 2, 29), LocalDate.of(2021, 2, 28)).getAmount());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_betweenEpochDays_bulk_lengthMismatch() {
+        Months.betweenEpochDays(new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_betweenEpochDays_invalidEpochDay() {
+        Months.betweenEpochDays(0, Long.MAX_VALUE);
+    }
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestPackedFieldScanner {
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_scanDates() {
+        byte[] bytes = ascii("a,20240131\nb,20240230\nc,2024013X\nd,10000101\ne,99991231\nf,2024");
+        int[] offsets = {2, 13, 24, 35, 46, 57};
+        long[] epochDays = new long[6];
+        Arrays.fill(epochDays, -999);
+        List<Integer> errors = new ArrayList<>();
+        int count = PackedFieldScanner.scanDates(bytes, offsets, epochDays, errors::add);
+        assertEquals(count, 3);
+        assertEquals(errors, Arrays.asList(13, 24, 57));
+        assertEquals(epochDays[0], LocalDate.of(2024, 1, 31).toEpochDay());
+        assertEquals(epochDays[1], -999);
+        assertEquals(epochDays[2], -999);
+        assertEquals(epochDays[3], LocalDate.of(1000, 1, 1).toEpochDay());
+        assertEquals(epochDays[4], LocalDate.of(9999, 12, 31).toEpochDay());
+        assertEquals(epochDays[5], -999);
+    }
+
+    public void test_scanDates_outOfRange() {
+        byte[] bytes = ascii("09991231");
+        long[] epochDays = new long[2];
+        List<Integer> errors = new ArrayList<>();
+        assertEquals(PackedFieldScanner.scanDates(bytes, new int[] {0, -1}, epochDays, errors::add), 2);
+        assertEquals(errors, Arrays.asList(0, -1));
+    }
+
+    public void test_scanDates_fixedWidthBuffer() {
+        LocalDate date = LocalDate.of(1999, 12, 25);
+        StringBuilder buf = new StringBuilder();
+        int[] offsets = new int[100];
+        for (int i = 0; i < 100; i++) {
+            offsets[i] = buf.length() + 1;
+            buf.append('|').append(date.plusDays(i * 17).get(PackedFields.PACKED_DATE));
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(buf.length());
+        buffer.put(ascii(buf.toString()));
+        buffer.flip();
+        buffer.position(7);
+        long[] epochDays = new long[100];
+        assertEquals(PackedFieldScanner.scanDates(buffer, offsets, epochDays, offset -> {
+            throw new AssertionError();
+        }), 0);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(epochDays[i], date.plusDays(i * 17).toEpochDay());
+        }
+        assertEquals(buffer.position(), 7);
+    }
+
+    public void test_scanDates_beyondLimit() {
+        ByteBuffer buffer = ByteBuffer.wrap(ascii("2024013120240131"));
+        buffer.limit(12);
+        long[] epochDays = new long[2];
+        List<Integer> errors = new ArrayList<>();
+        assertEquals(PackedFieldScanner.scanDates(buffer, new int[] {0, 8}, epochDays, errors::add), 1);
+        assertEquals(errors, Arrays.asList(8));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_scanDates_lengthMismatch() {
+        PackedFieldScanner.scanDates(new byte[8], new int[1], new long[2], offset -> { });
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_scanTimes() {
+        byte[] bytes = ascii("000000 235959 240000 126000 1200");
+        int[] secondsOfDay = new int[5];
+        List<Integer> errors = new ArrayList<>();
+        assertEquals(PackedFieldScanner.scanTimes(bytes, new int[] {0, 7, 14, 21, 28}, secondsOfDay, errors::add), 3);
+        assertEquals(errors, Arrays.asList(14, 21, 28));
+        assertEquals(secondsOfDay[0], 0);
+        assertEquals(secondsOfDay[1], LocalTime.of(23, 59, 59).toSecondOfDay());
+    }
+
+    public void test_scanTimes_buffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(ascii("xx113052"));
+        int[] secondsOfDay = new int[1];
+        assertEquals(PackedFieldScanner.scanTimes(buffer, new int[] {2}, secondsOfDay, offset -> { }), 0);
+        assertEquals(secondsOfDay[0], LocalTime.of(11, 30, 52).toSecondOfDay());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_scanDateTimes() {
+        byte[] bytes = ascii("20240131235959;20240131236000;19700101000000");
+        long[] epochSeconds = new long[3];
+        List<Integer> errors = new ArrayList<>();
+        assertEquals(PackedFieldScanner.scanDateTimes(bytes, new int[] {0, 15, 30}, epochSeconds, errors::add), 1);
+        assertEquals(errors, Arrays.asList(15));
+        assertEquals(epochSeconds[0], LocalDateTime.of(2024, 1, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC));
+        assertEquals(epochSeconds[2], 0);
+    }
+
+    public void test_scanDateTimes_buffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(ascii("20240131235959"));
+        long[] epochSeconds = new long[1];
+        assertEquals(PackedFieldScanner.scanDateTimes(buffer, new int[] {0}, epochSeconds, offset -> { }), 0);
+        assertEquals(epochSeconds[0], LocalDateTime.of(2024, 1, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC));
+    }
+
+}
@@ -33,17 +33,25 @@ package org.threeten.extra;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.FOREVER;
+import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static org.testng.AssertJUnit.assertEquals;
 
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
 
 import org.testng.annotations.Test;
 
@@ -215,4 +223,430 @@ public class TestPackedFields {
         assertEquals(LocalTime.of(12, 14, 1), LocalTime.parse("117361", f.withResolverStyle(ResolverStyle.LENIENT)));
     }
 
+    //-----------------------------------------------------------------------
+    // primitive conversions
+    //-----------------------------------------------------------------------
+    public void test_packedDateToEpochDay_allDates() {
+        LocalDate date = LocalDate.of(1000, 1, 1);
+        LocalDate end = LocalDate.of(10000, 1, 1);
+        while (date.isBefore(end)) {
+            int packed = date.get(PackedFields.PACKED_DATE);
+            assertEquals(date.toEpochDay(), PackedFields.packedDateToEpochDay(packed));
+            assertEquals(packed, PackedFields.epochDayToPackedDate(date.toEpochDay()));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedDateToEpochDay_invalidDay() {
+        PackedFields.packedDateToEpochDay(20150229);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedDateToEpochDay_invalidMonth() {
+        PackedFields.packedDateToEpochDay(20151301);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedDateToEpochDay_range() {
+        PackedFields.packedDateToEpochDay(9991231);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDayToPackedDate_range() {
+        PackedFields.epochDayToPackedDate(LocalDate.of(10000, 1, 1).toEpochDay());
+    }
+
+    public void test_packedHourMin_allMinutes() {
+        for (int mod = 0; mod < 1440; mod++) {
+            int packed = LocalTime.ofSecondOfDay(mod * 60).get(PackedFields.PACKED_HOUR_MIN);
+            assertEquals(mod, PackedFields.packedHourMinToMinuteOfDay(packed));
+            assertEquals(packed, PackedFields.minuteOfDayToPackedHourMin(mod));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedHourMinToMinuteOfDay_invalid() {
+        PackedFields.packedHourMinToMinuteOfDay(1073);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_minuteOfDayToPackedHourMin_invalid() {
+        PackedFields.minuteOfDayToPackedHourMin(1440);
+    }
+
+    public void test_packedTime_allSeconds() {
+        for (int sod = 0; sod < 86400; sod++) {
+            int packed = LocalTime.ofSecondOfDay(sod).get(PackedFields.PACKED_TIME);
+            assertEquals(sod, PackedFields.packedTimeToSecondOfDay(packed));
+            assertEquals(packed, PackedFields.secondOfDayToPackedTime(sod));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedTimeToSecondOfDay_invalid() {
+        PackedFields.packedTimeToSecondOfDay(107310);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_secondOfDayToPackedTime_invalid() {
+        PackedFields.secondOfDayToPackedTime(-1);
+    }
+
+    public void test_bulk() {
+        int[] packedDates = {20151203, 10000101, 99991231};
+        long[] epochDays = new long[3];
+        PackedFields.packedDatesToEpochDays(packedDates, epochDays);
+        assertEquals(LocalDate.of(2015, 12, 3).toEpochDay(), epochDays[0]);
+        assertEquals(LocalDate.of(1000, 1, 1).toEpochDay(), epochDays[1]);
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), epochDays[2]);
+        int[] result = new int[3];
+        PackedFields.epochDaysToPackedDates(epochDays, result);
+        assertEquals(20151203, result[0]);
+        assertEquals(99991231, result[2]);
+
+        int[] times = {0, 1130, 2359};
+        PackedFields.packedHourMinsToMinutesOfDay(times, times);
+        assertEquals(690, times[1]);
+        PackedFields.minutesOfDayToPackedHourMins(times, times);
+        assertEquals(2359, times[2]);
+
+        int[] packedTimes = {0, 113052, 235959};
+        PackedFields.packedTimesToSecondsOfDay(packedTimes, packedTimes);
+        assertEquals(86399, packedTimes[2]);
+        PackedFields.secondsOfDayToPackedTimes(packedTimes, packedTimes);
+        assertEquals(113052, packedTimes[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_bulk_lengthMismatch() {
+        PackedFields.packedDatesToEpochDays(new int[2], new long[3]);
+    }
+
+    //-----------------------------------------------------------------------
+    // packedDateTime()
+    //-----------------------------------------------------------------------
+    public void test_dateTime_basics() {
+        assertEquals("PackedDateTime", PackedFields.PACKED_DATE_TIME.toString());
+        assertEquals(SECONDS, PackedFields.PACKED_DATE_TIME.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_DATE_TIME.getRangeUnit());
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isDateBased());
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isTimeBased());
+        assertEquals(true, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalDateTime.of(2015, 3, 12, 11, 30)));
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalDate.of(2015, 3, 12)));
+        assertEquals(false, PackedFields.PACKED_DATE_TIME.isSupportedBy(LocalTime.of(11, 30)));
+        assertEquals(10000101000000L, PackedFields.PACKED_DATE_TIME.range().getMinimum());
+        assertEquals(99991231235959L, PackedFields.PACKED_DATE_TIME.range().getMaximum());
+    }
+
+    public void test_dateTime_getFrom() {
+        assertEquals(20151203113052L, LocalDateTime.of(2015, 12, 3, 11, 30, 52, 999).getLong(PackedFields.PACKED_DATE_TIME));
+        assertEquals(10000101000000L, LocalDateTime.of(1000, 1, 1, 0, 0).getLong(PackedFields.PACKED_DATE_TIME));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_dateTime_getFrom_range() {
+        LocalDateTime.of(10000, 1, 1, 0, 0).getLong(PackedFields.PACKED_DATE_TIME);
+    }
+
+    public void test_dateTime_adjustInto() {
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 7),
+                LocalDateTime.of(2000, 1, 1, 0, 0, 0, 7).with(PackedFields.PACKED_DATE_TIME, 20151203113052L));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_dateTime_adjustInto_invalid() {
+        LocalDateTime.of(2000, 1, 1, 0, 0).with(PackedFields.PACKED_DATE_TIME, 20151203113072L);
+    }
+
+    public void test_dateTime_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52), LocalDateTime.parse("20151203113052", f));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_dateTime_resolve_invalid_smart() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        LocalDateTime.parse("20151231240000", f.withResolverStyle(ResolverStyle.SMART));
+    }
+
+    public void test_dateTime_resolve_invalid_lenient() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME).toFormatter();
+        assertEquals(LocalDateTime.of(2016, 1, 1, 0, 0),
+                LocalDateTime.parse("20151231240000", f.withResolverStyle(ResolverStyle.LENIENT)));
+    }
+
+    //-----------------------------------------------------------------------
+    // packedDateTimeMillis()
+    //-----------------------------------------------------------------------
+    public void test_dateTimeMillis_basics() {
+        assertEquals("PackedDateTimeMillis", PackedFields.PACKED_DATE_TIME_MILLIS.toString());
+        assertEquals(MILLIS, PackedFields.PACKED_DATE_TIME_MILLIS.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_DATE_TIME_MILLIS.getRangeUnit());
+        assertEquals(10000101000000000L, PackedFields.PACKED_DATE_TIME_MILLIS.range().getMinimum());
+        assertEquals(99991231235959999L, PackedFields.PACKED_DATE_TIME_MILLIS.range().getMaximum());
+    }
+
+    public void test_dateTimeMillis_getFrom() {
+        assertEquals(20151203113052125L,
+                LocalDateTime.of(2015, 12, 3, 11, 30, 52, 125_999_999).getLong(PackedFields.PACKED_DATE_TIME_MILLIS));
+    }
+
+    public void test_dateTimeMillis_adjustInto() {
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 125_000_000),
+                LocalDateTime.of(2000, 1, 1, 0, 0, 0, 7).with(PackedFields.PACKED_DATE_TIME_MILLIS, 20151203113052125L));
+    }
+
+    public void test_dateTimeMillis_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME_MILLIS).toFormatter();
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52, 125_000_000), LocalDateTime.parse("20151203113052125", f));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_dateTimeMillis_resolve_invalid_smart() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendValue(PackedFields.PACKED_DATE_TIME_MILLIS).toFormatter();
+        LocalDateTime.parse("20150229000000000", f.withResolverStyle(ResolverStyle.SMART));
+    }
+
+    //-----------------------------------------------------------------------
+    // epoch conversions
+    //-----------------------------------------------------------------------
+    public void test_epochSecond() {
+        LocalDateTime[] dateTimes = {
+            LocalDateTime.of(1000, 1, 1, 0, 0),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59),
+            LocalDateTime.of(1970, 1, 1, 0, 0),
+            LocalDateTime.of(2015, 12, 3, 11, 30, 52),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+        };
+        for (LocalDateTime dateTime : dateTimes) {
+            long packed = dateTime.getLong(PackedFields.PACKED_DATE_TIME);
+            long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            assertEquals(epochSecond, PackedFields.packedDateTimeToEpochSecond(packed));
+            assertEquals(packed, PackedFields.epochSecondToPackedDateTime(epochSecond));
+        }
+    }
+
+    public void test_epochMilli() {
+        LocalDateTime[] dateTimes = {
+            LocalDateTime.of(1000, 1, 1, 0, 0),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000),
+            LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1_000_000),
+            LocalDateTime.of(2015, 12, 3, 11, 30, 52, 125_000_000),
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_000_000),
+        };
+        for (LocalDateTime dateTime : dateTimes) {
+            long packed = dateTime.getLong(PackedFields.PACKED_DATE_TIME_MILLIS);
+            long epochMilli = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+            assertEquals(epochMilli, PackedFields.packedDateTimeMillisToEpochMilli(packed));
+            assertEquals(packed, PackedFields.epochMilliToPackedDateTimeMillis(epochMilli));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedDateTimeToEpochSecond_invalid() {
+        PackedFields.packedDateTimeToEpochSecond(20151203246000L);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochMilliToPackedDateTimeMillis_range() {
+        PackedFields.epochMilliToPackedDateTimeMillis(Long.MIN_VALUE);
+    }
+
+    public void test_epoch_bulk() {
+        long[] values = {20151203113052L, 19700101000000L};
+        PackedFields.packedDateTimesToEpochSeconds(values, values);
+        assertEquals(LocalDateTime.of(2015, 12, 3, 11, 30, 52).toEpochSecond(ZoneOffset.UTC), values[0]);
+        assertEquals(0, values[1]);
+        PackedFields.epochSecondsToPackedDateTimes(values, values);
+        assertEquals(20151203113052L, values[0]);
+
+        long[] millis = {20151203113052125L, 19700101000000001L};
+        PackedFields.packedDateTimeMillisToEpochMillis(millis, millis);
+        assertEquals(1, millis[1]);
+        PackedFields.epochMillisToPackedDateTimeMillis(millis, millis);
+        assertEquals(20151203113052125L, millis[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    // PACKED_YEAR_QUARTER
+    //-----------------------------------------------------------------------
+    public void test_yearQuarter_basics() {
+        assertEquals("PackedYearQuarter", PackedFields.PACKED_YEAR_QUARTER.toString());
+        assertEquals(QUARTER_YEARS, PackedFields.PACKED_YEAR_QUARTER.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_YEAR_QUARTER.getRangeUnit());
+        assertEquals(true, PackedFields.PACKED_YEAR_QUARTER.isDateBased());
+        assertEquals(false, PackedFields.PACKED_YEAR_QUARTER.isTimeBased());
+        assertEquals(true, YearQuarter.of(2024, 3).isSupported(PackedFields.PACKED_YEAR_QUARTER));
+        assertEquals(true, LocalDate.of(2024, 8, 1).isSupported(PackedFields.PACKED_YEAR_QUARTER));
+        assertEquals(false, LocalTime.NOON.isSupported(PackedFields.PACKED_YEAR_QUARTER));
+    }
+
+    public void test_yearQuarter_getFrom() {
+        assertEquals(20243, YearQuarter.of(2024, 3).getLong(PackedFields.PACKED_YEAR_QUARTER));
+        assertEquals(20243, LocalDate.of(2024, 8, 1).getLong(PackedFields.PACKED_YEAR_QUARTER));
+        assertEquals(10001, LocalDate.of(1000, 1, 1).getLong(PackedFields.PACKED_YEAR_QUARTER));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_yearQuarter_getFrom_range() {
+        LocalDate.of(999, 12, 31).getLong(PackedFields.PACKED_YEAR_QUARTER);
+    }
+
+    public void test_yearQuarter_adjustInto() {
+        assertEquals(LocalDate.of(2025, 5, 31), LocalDate.of(2024, 8, 31).with(PackedFields.PACKED_YEAR_QUARTER, 20252));
+        assertEquals(YearQuarter.of(2025, 1), YearQuarter.of(2024, 3).with(PackedFields.PACKED_YEAR_QUARTER, 20251));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_yearQuarter_adjustInto_invalid() {
+        LocalDate.of(2024, 8, 31).with(PackedFields.PACKED_YEAR_QUARTER, 20245);
+    }
+
+    public void test_yearQuarter_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_QUARTER)
+                .toFormatter();
+        assertEquals(YearQuarter.of(2024, 3), YearQuarter.parse("20243", f));
+        assertEquals("20243", f.format(YearQuarter.of(2024, 3)));
+    }
+
+    public void test_yearQuarter_resolve_lenient() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_QUARTER)
+                .toFormatter()
+                .withResolverStyle(ResolverStyle.LENIENT);
+        assertEquals(YearQuarter.of(2025, 1), YearQuarter.parse("20245", f));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_yearQuarter_resolve_invalid_smart() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_QUARTER)
+                .toFormatter();
+        YearQuarter.parse("20245", f);
+    }
+
+    public void test_yearQuarter_epochDay() {
+        for (LocalDate date = LocalDate.of(1000, 1, 1); date.getYear() < 1003; date = date.plusDays(1)) {
+            assertEquals(date.getLong(PackedFields.PACKED_YEAR_QUARTER), PackedFields.epochDayToPackedYearQuarter(date.toEpochDay()));
+        }
+        for (LocalDate date = LocalDate.of(2020, 1, 1); date.getYear() < 2030; date = date.plusDays(1)) {
+            int packed = PackedFields.epochDayToPackedYearQuarter(date.toEpochDay());
+            assertEquals(date.getLong(PackedFields.PACKED_YEAR_QUARTER), packed);
+            assertEquals(YearQuarter.from(date).atDay(1).toEpochDay(), PackedFields.packedYearQuarterToEpochDay(packed));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedYearQuarterToEpochDay_invalid() {
+        PackedFields.packedYearQuarterToEpochDay(20240);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDayToPackedYearQuarter_range() {
+        PackedFields.epochDayToPackedYearQuarter(LocalDate.of(10000, 1, 1).toEpochDay());
+    }
+
+    //-----------------------------------------------------------------------
+    // PACKED_YEAR_WEEK
+    //-----------------------------------------------------------------------
+    public void test_yearWeek_basics() {
+        assertEquals("PackedYearWeek", PackedFields.PACKED_YEAR_WEEK.toString());
+        assertEquals(WEEKS, PackedFields.PACKED_YEAR_WEEK.getBaseUnit());
+        assertEquals(FOREVER, PackedFields.PACKED_YEAR_WEEK.getRangeUnit());
+        assertEquals(true, PackedFields.PACKED_YEAR_WEEK.isDateBased());
+        assertEquals(false, PackedFields.PACKED_YEAR_WEEK.isTimeBased());
+        assertEquals(true, YearWeek.of(2024, 52).isSupported(PackedFields.PACKED_YEAR_WEEK));
+        assertEquals(true, LocalDate.of(2024, 8, 1).isSupported(PackedFields.PACKED_YEAR_WEEK));
+        assertEquals(false, LocalTime.NOON.isSupported(PackedFields.PACKED_YEAR_WEEK));
+    }
+
+    public void test_yearWeek_getFrom() {
+        assertEquals(202452, YearWeek.of(2024, 52).getLong(PackedFields.PACKED_YEAR_WEEK));
+        assertEquals(202001, LocalDate.of(2019, 12, 30).getLong(PackedFields.PACKED_YEAR_WEEK));
+        assertEquals(202053, LocalDate.of(2021, 1, 3).getLong(PackedFields.PACKED_YEAR_WEEK));
+    }
+
+    public void test_yearWeek_adjustInto() {
+        assertEquals(LocalDate.of(2020, 12, 30), LocalDate.of(2024, 8, 7).with(PackedFields.PACKED_YEAR_WEEK, 202053));
+        assertEquals(DayOfWeek.WEDNESDAY, LocalDate.of(2024, 8, 7).with(PackedFields.PACKED_YEAR_WEEK, 201501).getDayOfWeek());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_yearWeek_adjustInto_invalidWeek53() {
+        LocalDate.of(2024, 8, 7).with(PackedFields.PACKED_YEAR_WEEK, 202453);
+    }
+
+    public void test_yearWeek_resolve() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_WEEK)
+                .toFormatter();
+        assertEquals(YearWeek.of(2024, 52), f.parse("202452", YearWeek::from));
+        assertEquals(YearWeek.of(2020, 53), f.parse("202053", YearWeek::from));
+        assertEquals("202452", f.format(YearWeek.of(2024, 52)));
+    }
+
+    public void test_yearWeek_resolve_withDayOfWeek() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_WEEK, 6)
+                .appendValue(ChronoField.DAY_OF_WEEK)
+                .toFormatter();
+        assertEquals(LocalDate.of(2019, 12, 30), LocalDate.parse("2020011", f));
+    }
+
+    public void test_yearWeek_resolve_lenient() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_WEEK)
+                .toFormatter()
+                .withResolverStyle(ResolverStyle.LENIENT);
+        assertEquals(YearWeek.of(2025, 2), f.parse("202454", YearWeek::from));
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_yearWeek_resolve_invalid_smart() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder()
+                .appendValue(PackedFields.PACKED_YEAR_WEEK)
+                .toFormatter();
+        f.parse("202453", YearWeek::from);
+    }
+
+    public void test_yearWeek_epochDay() {
+        for (LocalDate date = LocalDate.of(1000, 1, 1); date.getYear() < 1003; date = date.plusDays(1)) {
+            assertEquals(date.getLong(PackedFields.PACKED_YEAR_WEEK), PackedFields.epochDayToPackedYearWeek(date.toEpochDay()));
+        }
+        for (LocalDate date = LocalDate.of(2000, 1, 3); date.getYear() < 2030; date = date.plusDays(1)) {
+            int packed = PackedFields.epochDayToPackedYearWeek(date.toEpochDay());
+            assertEquals(date.getLong(PackedFields.PACKED_YEAR_WEEK), packed);
+            LocalDate monday = date.with(DayOfWeek.MONDAY);
+            assertEquals(monday.toEpochDay(), PackedFields.packedYearWeekToEpochDay(packed));
+        }
+    }
+
+    public void test_isValidPackedYearWeek() {
+        for (int year = 1000; year <= 9999; year++) {
+            boolean longYear = LocalDate.of(year, 12, 28).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) == 53;
+            assertEquals(longYear, PackedFields.isValidPackedYearWeek(year * 100 + 53));
+            assertEquals(true, PackedFields.isValidPackedYearWeek(year * 100 + 52));
+            assertEquals(false, PackedFields.isValidPackedYearWeek(year * 100));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packedYearWeekToEpochDay_invalid() {
+        PackedFields.packedYearWeekToEpochDay(202453);
+    }
+
+    public void test_yearQuarterWeek_bulk() {
+        long[] epochDays = {LocalDate.of(2024, 8, 1).toEpochDay(), LocalDate.of(2021, 1, 3).toEpochDay()};
+        int[] quarters = new int[2];
+        int[] weeks = new int[2];
+        PackedFields.epochDaysToPackedYearQuarters(epochDays, quarters);
+        PackedFields.epochDaysToPackedYearWeeks(epochDays, weeks);
+        assertEquals(20243, quarters[0]);
+        assertEquals(20211, quarters[1]);
+        assertEquals(202431, weeks[0]);
+        assertEquals(202053, weeks[1]);
+    }
+
 }
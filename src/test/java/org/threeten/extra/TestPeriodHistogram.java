@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestPeriodHistogram {
+
+    //-----------------------------------------------------------------------
+    public void test_ofYearQuarters() {
+        PeriodHistogram<YearQuarter> test = PeriodHistogram.ofYearQuarters(YearQuarter.of(2015, 3), YearQuarter.of(2016, 2));
+        assertEquals(test.size(), 3);
+        assertEquals(test.record(LocalDate.of(2015, 7, 1).toEpochDay()), true);
+        assertEquals(test.record(LocalDate.of(2015, 9, 30).toEpochDay(), 2.5d), true);
+        assertEquals(test.record(LocalDate.of(2016, 3, 31).toEpochDay(), 1d), true);
+        assertEquals(test.record(LocalDate.of(2015, 6, 30).toEpochDay()), false);
+        assertEquals(test.record(LocalDate.of(2016, 4, 1).toEpochDay()), false);
+        assertEquals(test.getCount(YearQuarter.of(2015, 3)), 2);
+        assertEquals(test.getSum(YearQuarter.of(2015, 3)), 2.5d);
+        assertEquals(test.getCount(YearQuarter.of(2015, 4)), 0);
+        assertEquals(test.getCount(YearQuarter.of(2016, 1)), 1);
+        assertEquals(test.getCount(YearQuarter.of(2016, 2)), 0);
+        assertEquals(test.getTotalCount(), 3);
+        assertEquals(test.toCountArray(), new long[] {2, 0, 1});
+        assertEquals(new ArrayList<>(test.getCounts().keySet()),
+                YearQuarter.of(2015, 3).quartersUntil(YearQuarter.of(2016, 2)).collect(Collectors.toList()));
+    }
+
+    public void test_ofYearQuarters_matchesFrom() {
+        YearQuarter start = YearQuarter.of(-2, 1);
+        YearQuarter end = YearQuarter.of(3, 1);
+        PeriodHistogram<YearQuarter> test = PeriodHistogram.ofYearQuarters(start, end);
+        LocalDate first = start.atDay(1);
+        LocalDate last = end.atDay(1);
+        for (LocalDate date = first; date.isBefore(last); date = date.plusDays(1)) {
+            test.record(date.toEpochDay());
+        }
+        for (Map.Entry<YearQuarter, Long> entry : test.getCounts().entrySet()) {
+            assertEquals(entry.getValue().longValue(), entry.getKey().lengthOfQuarter());
+        }
+    }
+
+    public void test_ofYearWeeks() {
+        PeriodHistogram<YearWeek> test = PeriodHistogram.ofYearWeeks(YearWeek.of(2015, 52), YearWeek.of(2016, 2));
+        assertEquals(test.size(), 3);
+        LocalDate first = YearWeek.of(2015, 51).atDay(DayOfWeek.MONDAY);
+        for (int i = 0; i < 35; i++) {
+            test.record(first.plusDays(i).toEpochDay(), i);
+        }
+        assertEquals(test.toCountArray(), new long[] {7, 7, 7});
+        assertEquals(test.getCount(YearWeek.of(2015, 53)), 7);
+        assertEquals(test.getSum(YearWeek.of(2015, 53)), 14d + 15 + 16 + 17 + 18 + 19 + 20);
+        assertEquals(test.getCount(YearWeek.of(2015, 51)), 0);
+        assertEquals(test.getTotalCount(), 21);
+        assertEquals(test.getCounts().keySet().iterator().next(), YearWeek.of(2015, 52));
+    }
+
+    public void test_ofDaysOfYear() {
+        PeriodHistogram<DayOfYear> test = PeriodHistogram.ofDaysOfYear();
+        assertEquals(test.size(), 366);
+        for (LocalDate date = LocalDate.of(2011, 1, 1); date.getYear() < 2013; date = date.plusDays(1)) {
+            test.record(date.toEpochDay());
+        }
+        assertEquals(test.getCount(DayOfYear.of(1)), 2);
+        assertEquals(test.getCount(DayOfYear.of(365)), 2);
+        assertEquals(test.getCount(DayOfYear.of(366)), 1);
+        assertEquals(test.getTotalCount(), 731);
+    }
+
+    public void test_ofDaysOfMonth() {
+        PeriodHistogram<DayOfMonth> test = PeriodHistogram.ofDaysOfMonth();
+        assertEquals(test.size(), 31);
+        for (LocalDate date = LocalDate.of(2012, 1, 1); date.getYear() < 2013; date = date.plusDays(1)) {
+            test.record(date.toEpochDay(), 1d);
+        }
+        assertEquals(test.getCount(DayOfMonth.of(1)), 12);
+        assertEquals(test.getCount(DayOfMonth.of(29)), 12);
+        assertEquals(test.getCount(DayOfMonth.of(30)), 11);
+        assertEquals(test.getSum(DayOfMonth.of(31)), 7d);
+    }
+
+    public void test_record_instant() {
+        PeriodHistogram<DayOfMonth> test = PeriodHistogram.ofDaysOfMonth();
+        Instant instant = Instant.parse("2015-06-30T23:30:00Z");
+        test.record(instant, ZoneOffset.UTC);
+        test.record(instant, ZoneId.of("Europe/Paris"), 3d);
+        test.record(instant, ZoneId.of("America/New_York"));
+        assertEquals(test.getCount(DayOfMonth.of(30)), 2);
+        assertEquals(test.getCount(DayOfMonth.of(1)), 1);
+        assertEquals(test.getSum(DayOfMonth.of(1)), 3d);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_record_invalidEpochDay() {
+        PeriodHistogram.ofDaysOfMonth().record(Long.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofYearWeeks_endBeforeStart() {
+        PeriodHistogram.ofYearWeeks(YearWeek.of(2015, 2), YearWeek.of(2015, 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_ofYearQuarters_tooLarge() {
+        PeriodHistogram.ofYearQuarters(YearQuarter.of(-999_999_999, 1), YearQuarter.of(999_999_999, 1));
+    }
+
+    public void test_concurrent() throws Exception {
+        PeriodHistogram<YearWeek> test = PeriodHistogram.ofYearWeeks(YearWeek.of(2015, 1), YearWeek.of(2016, 1));
+        long start = YearWeek.of(2015, 1).atDay(DayOfWeek.MONDAY).toEpochDay();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        test.record(start + i % 371, 0.5d);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(test.getTotalCount(), 40000);
+        double total = 0;
+        for (double sum : test.toSumArray()) {
+            total += sum;
+        }
+        assertEquals(total, 20000d);
+    }
+
+    public void test_toString() {
+        PeriodHistogram<DayOfMonth> test = PeriodHistogram.ofDaysOfMonth();
+        test.record(0);
+        assertEquals(test.toString(), "PeriodHistogram[buckets=31, count=1]");
+    }
+
+}
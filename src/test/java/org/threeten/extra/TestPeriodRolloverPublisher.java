@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test PeriodRolloverPublisher.
+ */
+@Test
+public class TestPeriodRolloverPublisher {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    private static Instant instant(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).atZone(PARIS).toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_rollover() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            List<PeriodRollover<YearWeek>> weeks = new ArrayList<>();
+            List<PeriodRollover<YearQuarter>> quarters = new ArrayList<>();
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            publisher.subscribe(YearWeek::from, weeks::add);
+            publisher.subscribe(YearQuarter::from, quarters::add);
+            publisher.subscribe(LocalDate::from, days::add);
+            assertEquals(publisher.getSubscriptionCount(), 3);
+
+            publisher.publish(instant(2024, 12, 29, 23));
+            assertEquals(weeks.size(), 0);
+            assertEquals(days.size(), 0);
+
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(weeks, Collections.singletonList(PeriodRollover.of(YearWeek.of(2024, 52), YearWeek.of(2025, 1), instant(2024, 12, 30, 0))));
+            assertEquals(quarters.size(), 0);
+            assertEquals(days.size(), 1);
+
+            publisher.publish(instant(2025, 1, 1, 0));
+            assertEquals(weeks.size(), 1);
+            assertEquals(quarters, Collections.singletonList(PeriodRollover.of(YearQuarter.of(2024, 4), YearQuarter.of(2025, 1), instant(2025, 1, 1, 0))));
+            assertEquals(days.size(), 2);
+            assertEquals(days.get(1).getPreviousPeriod(), LocalDate.of(2024, 12, 30));
+            assertEquals(days.get(1).getPeriod(), LocalDate.of(2025, 1, 1));
+        }
+    }
+
+    public void test_cancel() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            PeriodRolloverPublisher.Subscription<LocalDate> subscription = publisher.subscribe(LocalDate::from, days::add);
+            assertEquals(subscription.getPeriod(), LocalDate.of(2024, 12, 29));
+            subscription.cancel();
+            assertEquals(subscription.isCancelled(), true);
+            assertEquals(publisher.getSubscriptionCount(), 0);
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(days.size(), 0);
+        }
+    }
+
+    public void test_subscriberThrows() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            PeriodRolloverPublisher.Subscription<LocalDate> failing = publisher.subscribe(LocalDate::from, event -> {
+                throw new IllegalStateException();
+            });
+            publisher.subscribe(LocalDate::from, days::add);
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(failing.isCancelled(), true);
+            assertEquals(days.size(), 1);
+            assertEquals(publisher.getSubscriptionCount(), 1);
+        }
+    }
+
+    public void test_subscriberThrows_errorHandler() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            IllegalStateException failure = new IllegalStateException();
+            List<RuntimeException> errors = new ArrayList<>();
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            PeriodRolloverPublisher.Subscription<LocalDate> failing = publisher.subscribe(LocalDate::from, event -> {
+                throw failure;
+            }, errors::add);
+            publisher.subscribe(LocalDate::from, days::add);
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(failing.isCancelled(), true);
+            assertEquals(errors, Collections.singletonList(failure));
+            assertEquals(days.size(), 1);
+            publisher.publish(instant(2024, 12, 31, 0));
+            assertEquals(errors.size(), 1);
+            assertEquals(days.size(), 2);
+        }
+    }
+
+    public void test_queryThrows_errorHandler() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            List<RuntimeException> errors = new ArrayList<>();
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            PeriodRolloverPublisher.Subscription<LocalDate> failing = publisher.subscribe(date -> {
+                LocalDate local = LocalDate.from(date);
+                if (local.getYear() == 2024 && local.getDayOfMonth() == 30) {
+                    throw new ArithmeticException();
+                }
+                return local;
+            }, days::add, errors::add);
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(failing.isCancelled(), true);
+            assertEquals(errors.size(), 1);
+            assertEquals(errors.get(0).getClass(), ArithmeticException.class);
+            assertEquals(days.size(), 0);
+        }
+    }
+
+    public void test_errorHandlerThrows() {
+        Clock clock = Clock.fixed(instant(2024, 12, 29, 12), PARIS);
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            publisher.subscribe(LocalDate::from, event -> {
+                throw new IllegalStateException();
+            }, ex -> {
+                throw new IllegalArgumentException();
+            });
+            publisher.subscribe(LocalDate::from, days::add);
+            publisher.publish(instant(2024, 12, 30, 0));
+            assertEquals(days.size(), 1);
+            assertEquals(publisher.getSubscriptionCount(), 1);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void test_subscribe_closed() {
+        PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(Clock.systemUTC());
+        publisher.close();
+        publisher.subscribe(LocalDate::from, event -> {});
+    }
+
+    public void test_timer() throws InterruptedException {
+        // a clock running just before midnight
+        Instant now = Instant.now();
+        Instant midnight = now.atZone(ZoneOffset.UTC).toLocalDate().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Clock clock = Clock.offset(Clock.systemUTC(), Duration.between(now, midnight).minusMillis(200));
+        try (PeriodRolloverPublisher publisher = PeriodRolloverPublisher.of(clock)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            List<PeriodRollover<LocalDate>> days = new ArrayList<>();
+            publisher.subscribe(LocalDate::from, event -> {
+                days.add(event);
+                latch.countDown();
+            });
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(days.get(0).getPeriod(), days.get(0).getPreviousPeriod().plusDays(1));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_event() {
+        PeriodRollover<YearWeek> test = PeriodRollover.of(YearWeek.of(2024, 52), YearWeek.of(2025, 1), Instant.EPOCH);
+        assertEquals(test.getPreviousPeriod(), YearWeek.of(2024, 52));
+        assertEquals(test.getPeriod(), YearWeek.of(2025, 1));
+        assertEquals(test.getInstant(), Instant.EPOCH);
+        assertEquals(test, PeriodRollover.of(YearWeek.of(2024, 52), YearWeek.of(2025, 1), Instant.EPOCH));
+        assertEquals(test.hashCode(), PeriodRollover.of(YearWeek.of(2024, 52), YearWeek.of(2025, 1), Instant.EPOCH).hashCode());
+        assertEquals(test.equals(PeriodRollover.of(YearWeek.of(2024, 51), YearWeek.of(2025, 1), Instant.EPOCH)), false);
+        assertEquals(test.toString(), "2024-W52->2025-W01@1970-01-01T00:00:00Z");
+    }
+
+}
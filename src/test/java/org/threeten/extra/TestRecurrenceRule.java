@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.TemporalAdjusters.lastInMonth;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestRecurrenceRule {
+
+    private static List<LocalDate> dates(String... texts) {
+        return Arrays.stream(texts).map(LocalDate::parse).collect(Collectors.toList());
+    }
+
+    private static List<LocalDate> expand(String rule, LocalDate dtStart, int limit) {
+        return RecurrenceRule.parse(rule).stream(dtStart).limit(limit).collect(Collectors.toList());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_monthly_lastFriday() {
+        assertEquals(expand("FREQ=MONTHLY;BYDAY=-1FR", LocalDate.of(2015, 1, 1), 3),
+                dates("2015-01-30", "2015-02-27", "2015-03-27"));
+    }
+
+    public void test_monthly_firstFriday_count() {
+        assertEquals(expand("FREQ=MONTHLY;COUNT=10;BYDAY=1FR", LocalDate.of(1997, 9, 5), 100),
+                dates("1997-09-05", "1997-10-03", "1997-11-07", "1997-12-05", "1998-01-02",
+                        "1998-02-06", "1998-03-06", "1998-04-03", "1998-05-01", "1998-06-05"));
+    }
+
+    public void test_weekly_everyOtherWeek_until() {
+        assertEquals(expand("FREQ=WEEKLY;INTERVAL=2;UNTIL=19971224;BYDAY=TU,TH", LocalDate.of(1997, 9, 2), 100),
+                dates("1997-09-02", "1997-09-04", "1997-09-16", "1997-09-18", "1997-09-30",
+                        "1997-10-02", "1997-10-14", "1997-10-16", "1997-10-28", "1997-10-30",
+                        "1997-11-11", "1997-11-13", "1997-11-25", "1997-11-27",
+                        "1997-12-09", "1997-12-11", "1997-12-23"));
+    }
+
+    public void test_weekly_defaultDay() {
+        assertEquals(expand("FREQ=WEEKLY", LocalDate.of(2015, 1, 7), 3),
+                dates("2015-01-07", "2015-01-14", "2015-01-21"));
+    }
+
+    public void test_monthly_fridayThe13th() {
+        assertEquals(expand("FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13", LocalDate.of(1997, 9, 2), 5),
+                dates("1998-02-13", "1998-03-13", "1998-11-13", "1999-08-13", "2000-10-13"));
+    }
+
+    public void test_monthly_lastDay() {
+        assertEquals(expand("FREQ=MONTHLY;BYMONTHDAY=-1", LocalDate.of(2016, 1, 15), 3),
+                dates("2016-01-31", "2016-02-29", "2016-03-31"));
+    }
+
+    public void test_monthly_defaultDaySkipsShortMonths() {
+        assertEquals(expand("FREQ=MONTHLY", LocalDate.of(2015, 1, 31), 3),
+                dates("2015-01-31", "2015-03-31", "2015-05-31"));
+    }
+
+    public void test_yearly_20thMonday() {
+        assertEquals(expand("FREQ=YEARLY;BYDAY=20MO", LocalDate.of(1997, 5, 19), 3),
+                dates("1997-05-19", "1998-05-18", "1999-05-17"));
+    }
+
+    public void test_yearly_thursdaysInMarch() {
+        assertEquals(expand("FREQ=YEARLY;BYMONTH=3;BYDAY=TH", LocalDate.of(1997, 3, 13), 7),
+                dates("1997-03-13", "1997-03-20", "1997-03-27", "1998-03-05", "1998-03-12", "1998-03-19", "1998-03-26"));
+    }
+
+    public void test_yearly_leapDay() {
+        assertEquals(expand("FREQ=YEARLY", LocalDate.of(2016, 2, 29), 3),
+                dates("2016-02-29", "2020-02-29", "2024-02-29"));
+    }
+
+    public void test_daily_januaryForThreeYears() {
+        List<LocalDate> result = expand("FREQ=DAILY;UNTIL=20000131;BYMONTH=1", LocalDate.of(1998, 1, 1), 1000);
+        assertEquals(result.size(), 93);
+        assertTrue(result.stream().allMatch(date -> date.getMonthValue() == 1));
+    }
+
+    public void test_neverMatches() {
+        assertEquals(RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=30").stream(LocalDate.of(2015, 1, 1)).count(), 0);
+        assertEquals(RecurrenceRule.parse("FREQ=DAILY;BYMONTH=2;BYMONTHDAY=30").stream(LocalDate.of(2015, 1, 1)).count(), 0);
+    }
+
+    public void test_startNotMatching() {
+        assertEquals(expand("FREQ=MONTHLY;BYMONTHDAY=1", LocalDate.of(2015, 1, 15), 2),
+                dates("2015-02-01", "2015-03-01"));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_firstOnOrAfter() {
+        RecurrenceRule test = RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=-1FR");
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(3015, 6, 1)),
+                Optional.of(LocalDate.of(3015, 6, 1).with(lastInMonth(DayOfWeek.FRIDAY))));
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(2015, 1, 30)), Optional.of(LocalDate.of(2015, 1, 30)));
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(2015, 1, 31)), Optional.of(LocalDate.of(2015, 2, 27)));
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(2000, 1, 1)), Optional.of(LocalDate.of(2015, 1, 30)));
+    }
+
+    public void test_firstOnOrAfter_matchesStream() {
+        String[] rules = {
+            "FREQ=DAILY;INTERVAL=3;BYDAY=MO,TU",
+            "FREQ=WEEKLY;INTERVAL=3;BYDAY=SU",
+            "FREQ=MONTHLY;INTERVAL=5;BYMONTHDAY=1,-1",
+            "FREQ=YEARLY;INTERVAL=2;BYDAY=-2SA",
+        };
+        LocalDate start = LocalDate.of(2011, 7, 19);
+        for (String rule : rules) {
+            RecurrenceRule test = RecurrenceRule.parse(rule);
+            List<LocalDate> all = test.stream(start).limit(50).collect(Collectors.toList());
+            for (LocalDate date = start; date.isBefore(all.get(all.size() - 1)); date = date.plusDays(5)) {
+                LocalDate from = date;
+                LocalDate expected = all.stream().filter(d -> d.isBefore(from) == false).findFirst().get();
+                assertEquals(test.firstOnOrAfter(start, date), Optional.of(expected), rule + " " + date);
+            }
+        }
+    }
+
+    public void test_firstOnOrAfter_count() {
+        RecurrenceRule test = RecurrenceRule.parse("FREQ=WEEKLY;COUNT=3");
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(2015, 1, 10)), Optional.of(LocalDate.of(2015, 1, 15)));
+        assertEquals(test.firstOnOrAfter(start, LocalDate.of(2015, 1, 16)), Optional.empty());
+    }
+
+    public void test_firstOnOrAfter_until() {
+        RecurrenceRule test = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20150110");
+        assertEquals(test.firstOnOrAfter(LocalDate.of(2015, 1, 1), LocalDate.of(2015, 1, 11)), Optional.empty());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parallel() {
+        RecurrenceRule test = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20991231;BYDAY=MO;BYMONTHDAY=1,2,3");
+        LocalDate start = LocalDate.of(1900, 1, 1);
+        List<LocalDate> sequential = test.stream(start).collect(Collectors.toList());
+        List<LocalDate> parallel = test.stream(start).parallel().collect(Collectors.toList());
+        assertEquals(parallel, sequential);
+        assertEquals(sequential.size(), 3 * 12 * 200 / 7, 20);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_zoned() {
+        ZoneId zone = ZoneId.of("Europe/London");
+        ZonedDateTime start = ZonedDateTime.of(LocalDateTime.of(2015, 3, 28, 1, 30), zone);
+        RecurrenceRule test = RecurrenceRule.parse("FREQ=DAILY");
+        List<ZonedDateTime> result = test.stream(start).limit(3).collect(Collectors.toList());
+        assertEquals(result.get(0), start);
+        assertEquals(result.get(1).toLocalTime(), LocalTime.of(2, 30));
+        assertEquals(result.get(2).toLocalTime(), LocalTime.of(1, 30));
+        assertEquals(test.firstOnOrAfter(start, result.get(1).plusSeconds(1)), Optional.of(result.get(2)));
+        assertEquals(test.firstOnOrAfter(start, result.get(1)), Optional.of(result.get(1)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse_toString() {
+        assertEquals(RecurrenceRule.parse("RRULE:freq=monthly;byday=+2mo,-1fr;interval=1").toString(),
+                "FREQ=MONTHLY;BYDAY=2MO,-1FR");
+        assertEquals(RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=3,1;COUNT=4").toString(),
+                "FREQ=YEARLY;COUNT=4;BYMONTH=1,3");
+    }
+
+    @DataProvider(name = "badRules")
+    Object[][] data_badRules() {
+        return new Object[][] {
+            {""},
+            {"INTERVAL=2"},
+            {"FREQ=HOURLY"},
+            {"FREQ=DAILY;INTERVAL=0"},
+            {"FREQ=DAILY;COUNT=2;UNTIL=20150101"},
+            {"FREQ=DAILY;BYHOUR=2"},
+            {"FREQ=DAILY;BYDAY=1MO"},
+            {"FREQ=WEEKLY;BYMONTHDAY=1"},
+            {"FREQ=MONTHLY;BYMONTHDAY=0"},
+            {"FREQ=MONTHLY;BYMONTHDAY=32"},
+            {"FREQ=MONTHLY;BYMONTH=13"},
+            {"FREQ=MONTHLY;BYDAY=XX"},
+            {"FREQ=MONTHLY;UNTIL=2015"},
+        };
+    }
+
+    @Test(dataProvider = "badRules", expectedExceptions = DateTimeParseException.class)
+    public void test_parse_invalid(String text) {
+        RecurrenceRule.parse(text);
+    }
+
+    public void test_equalsHashCode() {
+        RecurrenceRule a = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO");
+        RecurrenceRule b = RecurrenceRule.parse("RRULE:BYDAY=MO;FREQ=WEEKLY;INTERVAL=1");
+        RecurrenceRule c = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU");
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.DECADES;
+import static java.time.temporal.ChronoUnit.ERAS;
+import static java.time.temporal.ChronoUnit.HALF_DAYS;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test class.
+ */
+@Test
+public class TestTemporalUnitConverter {
+
+    @DataProvider(name = "units")
+    Object[][] data_units() {
+        TemporalUnit[] units = {NANOS, MILLIS, SECONDS, MINUTES, HOURS, HALF_DAYS, DAYS, WEEKS};
+        TemporalUnit[] monthUnits = {MONTHS, QUARTER_YEARS, YEARS, DECADES};
+        Object[][] data = new Object[units.length * units.length + monthUnits.length * monthUnits.length][];
+        int index = 0;
+        for (TemporalUnit from : units) {
+            for (TemporalUnit to : units) {
+                data[index++] = new Object[] {from, to};
+            }
+        }
+        for (TemporalUnit from : monthUnits) {
+            for (TemporalUnit to : monthUnits) {
+                data[index++] = new Object[] {from, to};
+            }
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "units")
+    public void test_matchesConvertAmount(TemporalUnit fromUnit, TemporalUnit toUnit) {
+        TemporalUnitConverter test = TemporalUnitConverter.of(fromUnit, toUnit);
+        assertEquals(test.getFromUnit(), fromUnit);
+        assertEquals(test.getToUnit(), toUnit);
+        long[] amounts = {-10007, -25, -1, 0, 1, 2, 3, 11, 12, 13, 10007};
+        long[] quotients = new long[amounts.length];
+        long[] remainders = new long[amounts.length];
+        test.quotients(amounts, quotients);
+        test.remainders(amounts, remainders);
+        for (int i = 0; i < amounts.length; i++) {
+            long[] expected = Temporals.convertAmount(amounts[i], fromUnit, toUnit);
+            assertEquals(test.quotient(amounts[i]), expected[0]);
+            assertEquals(test.remainder(amounts[i]), expected[1]);
+            assertEquals(quotients[i], expected[0]);
+            assertEquals(remainders[i], expected[1]);
+        }
+    }
+
+    public void test_quarters() {
+        TemporalUnitConverter test = TemporalUnitConverter.of(MONTHS, QUARTER_YEARS);
+        assertEquals(test.quotient(7), 2);
+        assertEquals(test.remainder(7), 1);
+        assertEquals(test.quotient(-7), -2);
+        assertEquals(test.remainder(-7), -1);
+        assertEquals(TemporalUnitConverter.of(YEARS, QUARTER_YEARS).quotient(3), 12);
+    }
+
+    public void test_halfDays() {
+        TemporalUnitConverter test = TemporalUnitConverter.of(HOURS, HALF_DAYS);
+        assertEquals(test.quotient(30), 2);
+        assertEquals(test.remainder(30), 6);
+        assertEquals(TemporalUnitConverter.of(WEEKS, HALF_DAYS).quotient(2), 28);
+    }
+
+    public void test_quotients_inPlace() {
+        long[] amounts = {1, 2, 3};
+        TemporalUnitConverter.of(MINUTES, SECONDS).quotients(amounts, amounts);
+        assertEquals(amounts, new long[] {60, 120, 180});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_quotients_lengthMismatch() {
+        TemporalUnitConverter.of(MINUTES, SECONDS).quotients(new long[2], new long[3]);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_quotient_overflow() {
+        TemporalUnitConverter.of(DAYS, NANOS).quotient(Long.MAX_VALUE / 1000);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_incompatible() {
+        TemporalUnitConverter.of(DAYS, MONTHS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_of_unsupported() {
+        TemporalUnitConverter.of(ERAS, YEARS);
+    }
+
+    public void test_of_cached() {
+        assertSame(TemporalUnitConverter.of(HOURS, DAYS), TemporalUnitConverter.of(HOURS, DAYS));
+        assertSame(TemporalUnitConverter.of(QUARTER_YEARS, MONTHS), TemporalUnitConverter.of(QUARTER_YEARS, MONTHS));
+        assertEquals(TemporalUnitConverter.of(DAYS, HOURS).getFromUnit(), DAYS);
+        assertEquals(TemporalUnitConverter.of(HOURS, DAYS).getFromUnit(), HOURS);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equalsHashCode() {
+        TemporalUnitConverter a = TemporalUnitConverter.of(HOURS, DAYS);
+        TemporalUnitConverter b = TemporalUnitConverter.of(HOURS, DAYS);
+        TemporalUnitConverter c = TemporalUnitConverter.of(DAYS, HOURS);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(TemporalUnitConverter.of(HOURS, DAYS).toString(), "Hours->Days");
+    }
+
+}
@@ -218,6 +218,75 @@ public class TestTemporals {
         assertEquals(LocalDate.of(2010, DECEMBER, 31), test);
     }
 
+    //-----------------------------------------------------------------------
+    // nextWorkingDays() / previousWorkingDays() / plusWorkingDays()
+    //-----------------------------------------------------------------------
+    private static LocalDate iterateWorkingDays(LocalDate date, int amount) {
+        for (int i = 0; i < Math.abs(amount); i++) {
+            date = (LocalDate) (amount > 0 ? Temporals.nextWorkingDay() : Temporals.previousWorkingDay()).adjustInto(date);
+        }
+        return date;
+    }
+
+    @Test
+    public void test_nextWorkingDays_long() {
+        long[] epochDays = new long[28];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = LocalDate.of(2007, 12, 20).plusDays(i).toEpochDay();
+        }
+        Temporals.nextWorkingDays(epochDays);
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate date = LocalDate.of(2007, 12, 20).plusDays(i);
+            assertEquals(date.with(Temporals.nextWorkingDay()), LocalDate.ofEpochDay(epochDays[i]));
+        }
+    }
+
+    @Test
+    public void test_previousWorkingDays_int() {
+        int[] epochDays = new int[28];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = (int) LocalDate.of(1969, 12, 20).plusDays(i).toEpochDay();
+        }
+        Temporals.previousWorkingDays(epochDays);
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate date = LocalDate.of(1969, 12, 20).plusDays(i);
+            assertEquals(date.with(Temporals.previousWorkingDay()), LocalDate.ofEpochDay(epochDays[i]));
+        }
+    }
+
+    @Test
+    public void test_plusWorkingDays_long() {
+        for (int amount = -12; amount <= 12; amount++) {
+            long[] epochDays = new long[14];
+            for (int i = 0; i < epochDays.length; i++) {
+                epochDays[i] = LocalDate.of(2014, 1, 1).plusDays(i).toEpochDay();
+            }
+            Temporals.plusWorkingDays(epochDays, amount);
+            for (int i = 0; i < epochDays.length; i++) {
+                LocalDate date = LocalDate.of(2014, 1, 1).plusDays(i);
+                assertEquals(iterateWorkingDays(date, amount), LocalDate.ofEpochDay(epochDays[i]));
+            }
+        }
+    }
+
+    @Test
+    public void test_plusWorkingDays_intParallel() {
+        int[] epochDays = new int[20000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = i - 10000;
+        }
+        Temporals.plusWorkingDays(epochDays, 7);
+        for (int i = 0; i < epochDays.length; i += 97) {
+            LocalDate date = LocalDate.ofEpochDay(i - 10000);
+            assertEquals(iterateWorkingDays(date, 7), LocalDate.ofEpochDay(epochDays[i]));
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_plusWorkingDays_intOverflow() {
+        Temporals.plusWorkingDays(new int[] {Integer.MAX_VALUE - 1}, 5);
+    }
+
     //-----------------------------------------------------------------------
     // chronoUnit() / timeUnit()
     //-----------------------------------------------------------------------
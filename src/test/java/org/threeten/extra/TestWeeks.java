@@ -34,17 +34,24 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -96,6 +103,26 @@ public class TestWeeks {
         assertEquals(Weeks.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
 
+    public void test_of_cached() {
+        assertSame(Weeks.of(7), Weeks.of(7));
+        assertSame(Weeks.of(-1024), Weeks.of(-1024));
+        assertSame(Weeks.of(1024), Weeks.of(1024));
+        assertSame(Weeks.of(3).plus(4), Weeks.of(7));
+        assertSame(Weeks.of(7).negated(), Weeks.of(-7));
+        assertEquals(Weeks.of(1025) == Weeks.of(1025), false);
+        assertEquals(Weeks.of(1025), Weeks.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Weeks.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Weeks.of(15));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_from_P0W() {
         assertEquals(Weeks.from(Period.ofWeeks(0)), Weeks.of(0));
@@ -166,6 +193,38 @@ public class TestWeeks {
         Weeks.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequence_region() {
+        assertEquals(Weeks.parse("x=P2W;", 2, 5), Weeks.of(2));
+        assertEquals(Weeks.parse("-P3W", 0, 4), Weeks.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=p2w;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Weeks.parse(bytes, 2, 5), Weeks.of(2));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Weeks.parse("x=P1D", 2, 5);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "x=P1D");
+        }
+        try {
+            Weeks.parse("P2147483648W".getBytes(StandardCharsets.US_ASCII), 0, 12);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 1);
+            assertEquals(ex.getParsedString(), "P2147483648W");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Weeks.parse("P2W", 1, 4);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Weeks() {
         Weeks test5 = Weeks.of(5);
@@ -425,4 +484,68 @@ public class TestWeeks {
         assertEquals("P-1W", testM1.toString());
     }
 
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Weeks.of(2), Weeks.of(-5), Weeks.of(10)).collect(Weeks.summing()), Weeks.of(7));
+        assertSame(Stream.<Weeks>empty().collect(Weeks.summing()), Weeks.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Weeks.summing(Weeks::of)), Weeks.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Weeks> stream = Stream.of(Weeks.of(Integer.MAX_VALUE), Weeks.of(1), Weeks.of(-2));
+        assertEquals(stream.collect(Weeks.summing()), Weeks.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Weeks.of(Integer.MAX_VALUE), Weeks.of(1)).collect(Weeks.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Weeks.summarizing(Weeks::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_betweenEpochDays_matchesBetween() {
+        Random random = new Random(155);
+        for (int i = 0; i < 20000; i++) {
+            long start = random.nextInt(200_000) - 100_000;
+            long end = start + random.nextInt(4000) - 2000;
+            int expected = Weeks.between(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end)).getAmount();
+            assertEquals(Weeks.betweenEpochDays(start, end), expected);
+        }
+    }
+
+    public void test_betweenEpochDays_monthEnds() {
+        for (LocalDate start = LocalDate.of(2019, 12, 25); start.getYear() < 2021; start = start.plusDays(1)) {
+            for (LocalDate end = start.minusDays(800); end.isBefore(start.plusDays(800)); end = end.plusDays(13)) {
+                int expected = Weeks.between(start, end).getAmount();
+                assertEquals(Weeks.betweenEpochDays(start.toEpochDay(), end.toEpochDay()), expected);
+            }
+        }
+    }
+
+    public void test_betweenEpochDays_bulk() {
+        long[] starts = {LocalDate.of(2020, 1, 31).toEpochDay(), LocalDate.of(2024, 2, 29).toEpochDay()};
+        long[] ends = {LocalDate.of(2022, 3, 1).toEpochDay(), LocalDate.of(2021, 2, 28).toEpochDay()};
+        int[] results = new int[2];
+        Weeks.betweenEpochDays(starts, ends, results);
+        assertEquals(results[0], Weeks.between(LocalDate.of(2020, 1, 31), LocalDate.of(2022, 3, 1)).getAmount());
+        assertEquals(results[1], Weeks.between(LocalDate.of(2024, 2, 29), LocalDate.of(2021, 2, 28)).getAmount());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_betweenEpochDays_bulk_lengthMismatch() {
+        Weeks.betweenEpochDays(new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_betweenEpochDays_invalidEpochDay() {
+        Weeks.betweenEpochDays(0, Long.MAX_VALUE);
+    }
+
 }
@@ -79,7 +79,9 @@ import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
 import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.extra.Quarter.Q1;
 import static org.threeten.extra.Quarter.Q2;
 import static org.threeten.extra.Quarter.Q3;
@@ -91,13 +93,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Year;
 import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
+import java.time.format.SignStyle;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalAdjuster;
@@ -106,8 +111,12 @@ import java.time.temporal.TemporalQueries;
 import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -268,6 +277,114 @@ public class TestYearQuarter {
         YearQuarter.parse((CharSequence) null);
     }
 
+    //-----------------------------------------------------------------------
+    // parse(CharSequence,int,int)
+    // parse(byte[],int,int)
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "parseCompatibility")
+    Object[][] provider_parseCompatibility() {
+        return new Object[][] {
+            {"2012-Q3"},
+            {"2012-q3"},
+            {"+2012-Q3"},
+            {"-2012-Q3"},
+            {"12345-Q3"},
+            {"+12345-Q3"},
+            {"-12345-Q3"},
+            {"-0000-Q1"},
+            {"0000-Q1"},
+            {"+0000-Q1"},
+            {"012-Q1"},
+            {"-0012-Q1"},
+            {"2012-Q5"},
+            {"2012-Q0"},
+            {"2012-Q"},
+            {"2012-Q12"},
+            {"2012Q1"},
+            {"2012-X1"},
+            {"2012-Q1 "},
+            {"+999999999-Q4"},
+            {"+1000000000-Q1"},
+            {"-999999999-Q1"},
+            {"+12345678901-Q1"},
+            {""},
+            {"-"},
+            {"+"},
+            {"2012-"},
+        };
+    }
+
+    @Test(dataProvider = "parseCompatibility")
+    public void test_parse_matchesFormatter(String text) {
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
+                .appendLiteral("-Q")
+                .appendValue(QUARTER_OF_YEAR, 1)
+                .toFormatter();
+        YearQuarter expected;
+        try {
+            expected = YearQuarter.parse(text, formatter);
+        } catch (DateTimeParseException ex) {
+            expected = null;
+        }
+        YearQuarter parsed;
+        try {
+            parsed = YearQuarter.parse(text);
+        } catch (DateTimeParseException ex) {
+            parsed = null;
+        }
+        assertEquals(parsed, expected);
+        YearQuarter parsedBytes;
+        try {
+            byte[] ascii = text.getBytes(StandardCharsets.US_ASCII);
+            parsedBytes = YearQuarter.parse(ascii, 0, ascii.length);
+        } catch (DateTimeParseException ex) {
+            parsedBytes = null;
+        }
+        assertEquals(parsedBytes, expected);
+    }
+
+    public void test_parse_CharSequenceRegion() {
+        assertEquals(YearQuarter.parse("xx2012-Q3yy", 2, 9), YearQuarter.of(2012, Q3));
+    }
+
+    public void test_parse_byteRegion() {
+        byte[] ascii = "xx2012-Q3yy".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(YearQuarter.parse(ascii, 2, 9), YearQuarter.of(2012, Q3));
+    }
+
+    public void test_parse_CharSequenceRegion_errorIndex() {
+        try {
+            YearQuarter.parse("xx2012-Q3yy", 2, 10);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 9);
+            assertEquals(ex.getParsedString(), "xx2012-Q3yy");
+        }
+    }
+
+    public void test_parse_byteRegion_errorIndex() {
+        byte[] ascii = "xx2012-Q3yy".getBytes(StandardCharsets.US_ASCII);
+        try {
+            YearQuarter.parse(ascii, 2, 6);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 6);
+            assertEquals(ex.getParsedString(), "xx2012-Q3yy");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceRegion_invalidRegion() {
+        YearQuarter.parse("xx2012-Q3yy", 2, 13);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_byteRegion_invalidRegion() {
+        YearQuarter.parse(new byte[4], 3, 2);
+    }
+
     //-----------------------------------------------------------------------
     // parse(CharSequence,DateTimeFormatter)
     //-----------------------------------------------------------------------
@@ -878,6 +995,89 @@ public class TestYearQuarter {
         assertEquals(TEST.equals("Incorrect type"), false);
     }
 
+    //-----------------------------------------------------------------------
+    // formatTo(Appendable)
+    // formatTo(byte[],int)
+    //-----------------------------------------------------------------------
+    public void test_formatTo() {
+        assertFormatTo(YearQuarter.of(2012, Q2), "2012-Q2");
+        assertFormatTo(YearQuarter.of(-1, Q2), "-0001-Q2");
+        assertFormatTo(YearQuarter.of(10000, Q4), "+10000-Q4");
+        assertFormatTo(YearQuarter.of(-999999999, Q1), "-999999999-Q1");
+    }
+
+    private static void assertFormatTo(YearQuarter test, String expected) {
+        assertEquals(test.toString(), expected);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(buf);
+        assertEquals(buf.toString(), "x" + expected);
+        byte[] ascii = new byte[20];
+        assertEquals(test.formatTo(ascii, 3), expected.length());
+        assertEquals(new String(ascii, 3, expected.length(), StandardCharsets.US_ASCII), expected);
+        assertEquals(YearQuarter.parse(ascii, 3, 3 + expected.length()), test);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_byteTooSmall() {
+        YearQuarter.of(2012, Q2).formatTo(new byte[10], 4);
+    }
+
+    public void test_toString_cached() {
+        assertSame(YearQuarter.of(2012, Q2).toString(), YearQuarter.of(2012, Q2).toString());
+    }
+
+    //-----------------------------------------------------------------------
+    // quartersUntil(YearQuarter)
+    //-----------------------------------------------------------------------
+    public void test_quartersUntil() {
+        assertEquals(
+                YearQuarter.of(2012, Q3).quartersUntil(YearQuarter.of(2013, Q2)).collect(Collectors.toList()),
+                Arrays.asList(YearQuarter.of(2012, Q3), YearQuarter.of(2012, Q4), YearQuarter.of(2013, Q1)));
+        assertEquals(YearQuarter.of(-1, Q4).quartersUntil(YearQuarter.of(0, Q2)).collect(Collectors.toList()),
+                Arrays.asList(YearQuarter.of(-1, Q4), YearQuarter.of(0, Q1)));
+    }
+
+    public void test_quartersUntil_empty() {
+        assertEquals(TEST.quartersUntil(TEST).count(), 0);
+    }
+
+    public void test_quartersUntil_sized() {
+        Spliterator<YearQuarter> spliterator = YearQuarter.of(1900, Q1).quartersUntil(YearQuarter.of(2100, Q1)).parallel().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(spliterator.getExactSizeIfKnown(), 800);
+        Spliterator<YearQuarter> prefix = spliterator.trySplit();
+        assertEquals(prefix.getExactSizeIfKnown(), 400);
+        assertEquals(spliterator.getExactSizeIfKnown(), 400);
+    }
+
+    public void test_quartersUntil_parallel() {
+        YearQuarter start = YearQuarter.of(1900, Q1);
+        YearQuarter end = YearQuarter.of(2100, Q1);
+        assertEquals(
+                start.quartersUntil(end).parallel().collect(Collectors.toList()),
+                start.quartersUntil(end).collect(Collectors.toList()));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_quartersUntil_endBeforeStart() {
+        TEST.quartersUntil(TEST.minusQuarters(1));
+    }
+
+    //-----------------------------------------------------------------------
+    // days()
+    //-----------------------------------------------------------------------
+    public void test_days() {
+        for (int year = 2011; year <= 2012; year++) {
+            for (Quarter quarter : Quarter.values()) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                assertEquals(test.days().count(), test.lengthOfQuarter());
+                assertEquals(test.days().findFirst().get(), test.atDay(1));
+                assertEquals(test.days().reduce((a, b) -> b).get(), test.atEndOfQuarter());
+                assertTrue(test.days().allMatch(date -> YearQuarter.from(date).equals(test)));
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
@@ -897,4 +1097,73 @@ public class TestYearQuarter {
         assertEquals(YearQuarter.of(-10000, Q2).toString(), "-10000-Q2");
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedInt() / ofPackedInt()
+    //-----------------------------------------------------------------------
+    public void test_toPackedInt() {
+        assertEquals(YearQuarter.of(2024, 3).toPackedInt(), 20243);
+        assertEquals(YearQuarter.of(0, 1).toPackedInt(), 1);
+        assertEquals(YearQuarter.of(-1, 4).toPackedInt(), -6);
+        assertEquals(YearQuarter.ofPackedInt(-6), YearQuarter.of(-1, 4));
+        assertEquals(YearQuarter.of(214_748_364, 4).toPackedInt(), 2_147_483_644);
+        assertEquals(YearQuarter.ofPackedInt(2_147_483_644), YearQuarter.of(214_748_364, 4));
+    }
+
+    public void test_toPackedInt_roundTripAndOrder() {
+        YearQuarter previous = null;
+        for (int year = -5; year <= 5; year++) {
+            for (Quarter quarter : Quarter.values()) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                assertEquals(YearQuarter.ofPackedInt(test.toPackedInt()), test);
+                if (previous != null) {
+                    assertTrue(previous.toPackedInt() < test.toPackedInt());
+                }
+                previous = test;
+            }
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_toPackedInt_outOfRange() {
+        YearQuarter.of(-214_748_365, 1).toPackedInt();
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofPackedInt_invalid() {
+        YearQuarter.ofPackedInt(20245);
+    }
+
+    public void test_packEpochDays() {
+        long[] epochDays = new long[1000];
+        LocalDate[] dates = new LocalDate[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            dates[i] = LocalDate.of(-1, 11, 1).plusDays(i);
+            epochDays[i] = dates[i].toEpochDay();
+        }
+        int[] packed = new int[epochDays.length];
+        int[] packedFromDates = new int[epochDays.length];
+        YearQuarter.packEpochDays(epochDays, packed);
+        YearQuarter.packDates(dates, packedFromDates);
+        long[] starts = new long[epochDays.length];
+        LocalDate[] startDates = new LocalDate[epochDays.length];
+        YearQuarter.unpackToEpochDays(packed, starts);
+        YearQuarter.unpackToDates(packed, startDates);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(packed[i], YearQuarter.from(dates[i]).toPackedInt());
+            assertEquals(packedFromDates[i], packed[i]);
+            assertEquals(startDates[i], YearQuarter.from(dates[i]).atDay(1));
+            assertEquals(starts[i], startDates[i].toEpochDay());
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_unpackToEpochDays_invalid() {
+        YearQuarter.unpackToEpochDays(new int[] {20240}, new long[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_packDates_lengthMismatch() {
+        YearQuarter.packDates(new LocalDate[2], new int[1]);
+    }
+
 }
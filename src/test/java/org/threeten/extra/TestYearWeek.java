@@ -68,13 +68,21 @@ import static java.time.temporal.ChronoField.SECOND_OF_DAY;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 import static java.time.temporal.ChronoField.YEAR;
 import static java.time.temporal.ChronoField.YEAR_OF_ERA;
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MONTHS;
+import static java.time.temporal.ChronoUnit.WEEKS;
+import static java.time.temporal.ChronoUnit.YEARS;
 import static java.time.temporal.IsoFields.DAY_OF_QUARTER;
 import static java.time.temporal.IsoFields.QUARTER_OF_YEAR;
+import static java.time.temporal.IsoFields.QUARTER_YEARS;
 import static java.time.temporal.IsoFields.WEEK_BASED_YEAR;
+import static java.time.temporal.IsoFields.WEEK_BASED_YEARS;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -82,6 +90,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
@@ -89,6 +98,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.chrono.IsoChronology;
@@ -96,13 +106,19 @@ import java.time.chrono.ThaiBuddhistDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
+import java.time.format.SignStyle;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalAdjuster;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalUnit;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.ValueRange;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -286,6 +302,7 @@ public class TestYearWeek {
         assertTrue(Comparable.class.isAssignableFrom(YearWeek.class));
         assertTrue(TemporalAdjuster.class.isAssignableFrom(YearWeek.class));
         assertTrue(TemporalAccessor.class.isAssignableFrom(YearWeek.class));
+        assertTrue(Temporal.class.isAssignableFrom(YearWeek.class));
     }
 
     public void test_serialization() throws IOException, ClassNotFoundException {
@@ -581,6 +598,90 @@ public class TestYearWeek {
         assertEquals(YearWeek.of(2015, 1).lengthOfYear(), 371);
     }
 
+    //-----------------------------------------------------------------------
+    // weeksUntil(YearWeek)
+    //-----------------------------------------------------------------------
+    public void test_weeksUntil() {
+        assertEquals(
+                YearWeek.of(2015, 52).weeksUntil(YearWeek.of(2016, 2)).collect(Collectors.toList()),
+                Arrays.asList(YearWeek.of(2015, 52), YearWeek.of(2015, 53), YearWeek.of(2016, 1)));
+    }
+
+    public void test_weeksUntil_empty() {
+        assertEquals(TEST.weeksUntil(TEST).count(), 0);
+    }
+
+    public void test_weeksUntil_sized() {
+        YearWeek start = YearWeek.of(2000, 1);
+        YearWeek end = YearWeek.of(2020, 1);
+        Spliterator<YearWeek> spliterator = start.weeksUntil(end).parallel().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(spliterator.getExactSizeIfKnown(), start.until(end, WEEKS));
+        long total = spliterator.getExactSizeIfKnown();
+        Spliterator<YearWeek> prefix = spliterator.trySplit();
+        assertEquals(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown(), total);
+        assertTrue(Math.abs(prefix.getExactSizeIfKnown() - spliterator.getExactSizeIfKnown()) <= 1);
+    }
+
+    public void test_weeksUntil_matchesPlusWeeks() {
+        YearWeek start = YearWeek.of(1995, 10);
+        YearWeek end = YearWeek.of(2030, 20);
+        long[] index = {0};
+        start.weeksUntil(end).forEachOrdered(yw -> assertEquals(yw, start.plusWeeks(index[0]++)));
+        assertEquals(index[0], start.until(end, WEEKS));
+        assertEquals(
+                start.weeksUntil(end).parallel().collect(Collectors.toList()),
+                start.weeksUntil(end).collect(Collectors.toList()));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_weeksUntil_endBeforeStart() {
+        TEST.weeksUntil(TEST.minusWeeks(1));
+    }
+
+    //-----------------------------------------------------------------------
+    // days()
+    //-----------------------------------------------------------------------
+    public void test_days() {
+        YearWeek test = YearWeek.of(2015, 53);
+        assertEquals(test.days().collect(Collectors.toList()), Arrays.asList(
+                LocalDate.of(2015, 12, 28), LocalDate.of(2015, 12, 29), LocalDate.of(2015, 12, 30),
+                LocalDate.of(2015, 12, 31), LocalDate.of(2016, 1, 1), LocalDate.of(2016, 1, 2),
+                LocalDate.of(2016, 1, 3)));
+        assertTrue(test.days().spliterator().hasCharacteristics(Spliterator.SIZED));
+    }
+
+    //-----------------------------------------------------------------------
+    // formatTo(Appendable)
+    // formatTo(byte[],int)
+    //-----------------------------------------------------------------------
+    public void test_formatTo() {
+        assertFormatTo(YearWeek.of(2015, 7), "2015-W07");
+        assertFormatTo(YearWeek.of(-1, 52), "-0001-W52");
+        assertFormatTo(YearWeek.of(10000, 10), "+10000-W10");
+        assertFormatTo(YearWeek.of(-999999999, 1), "-999999999-W01");
+    }
+
+    private static void assertFormatTo(YearWeek test, String expected) {
+        assertEquals(test.toString(), expected);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(buf);
+        assertEquals(buf.toString(), "x" + expected);
+        byte[] ascii = new byte[20];
+        assertEquals(test.formatTo(ascii, 3), expected.length());
+        assertEquals(new String(ascii, 3, expected.length(), StandardCharsets.US_ASCII), expected);
+        assertEquals(YearWeek.parse(ascii, 3, 3 + expected.length()), test);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_byteTooSmall() {
+        YearWeek.of(2015, 7).formatTo(new byte[10], 3);
+    }
+
+    public void test_toString_cached() {
+        assertSame(YearWeek.of(2015, 7).toString(), YearWeek.of(2015, 7).toString());
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
@@ -610,6 +711,112 @@ public class TestYearWeek {
         YearWeek.parse((CharSequence) null);
     }
 
+    //-----------------------------------------------------------------------
+    // parse(CharSequence,int,int)
+    // parse(byte[],int,int)
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "parseCompatibility")
+    Object[][] provider_parseCompatibility() {
+        return new Object[][] {
+            {"2015-W01"},
+            {"2015-w01"},
+            {"+2015-W01"},
+            {"-2015-W01"},
+            {"12345-W01"},
+            {"+12345-W01"},
+            {"-12345-W01"},
+            {"-0000-W01"},
+            {"0000-W01"},
+            {"2015-W1"},
+            {"2015-W001"},
+            {"2015-W00"},
+            {"2015-W53"},
+            {"2020-W53"},
+            {"2015-W54"},
+            {"2015W01"},
+            {"2015-X01"},
+            {"2015-W01 "},
+            {"+999999999-W52"},
+            {"+999999999-W53"},
+            {"-999999999-W01"},
+            {"+1000000000-W01"},
+            {""},
+            {"-"},
+            {"2015-W"},
+        };
+    }
+
+    @Test(dataProvider = "parseCompatibility")
+    public void test_parse_matchesFormatter(String text) {
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendValue(WEEK_BASED_YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
+                .appendLiteral("-W")
+                .appendValue(WEEK_OF_WEEK_BASED_YEAR, 2)
+                .toFormatter();
+        YearWeek expected;
+        try {
+            expected = YearWeek.parse(text, formatter);
+        } catch (DateTimeParseException ex) {
+            expected = null;
+        }
+        YearWeek parsed;
+        try {
+            parsed = YearWeek.parse(text);
+        } catch (DateTimeParseException ex) {
+            parsed = null;
+        }
+        assertEquals(parsed, expected);
+        YearWeek parsedBytes;
+        try {
+            byte[] ascii = text.getBytes(StandardCharsets.US_ASCII);
+            parsedBytes = YearWeek.parse(ascii, 0, ascii.length);
+        } catch (DateTimeParseException ex) {
+            parsedBytes = null;
+        }
+        assertEquals(parsedBytes, expected);
+    }
+
+    public void test_parse_CharSequenceRegion() {
+        assertEquals(YearWeek.parse("xx2015-W07yy", 2, 10), YearWeek.of(2015, 7));
+    }
+
+    public void test_parse_byteRegion() {
+        byte[] ascii = "xx2015-W07yy".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(YearWeek.parse(ascii, 2, 10), YearWeek.of(2015, 7));
+    }
+
+    public void test_parse_CharSequenceRegion_errorIndex() {
+        try {
+            YearWeek.parse("xx2015-W07yy", 2, 11);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 10);
+            assertEquals(ex.getParsedString(), "xx2015-W07yy");
+        }
+    }
+
+    public void test_parse_byteRegion_errorIndex() {
+        byte[] ascii = "xx2015-W07yy".getBytes(StandardCharsets.US_ASCII);
+        try {
+            YearWeek.parse(ascii, 2, 6);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 6);
+            assertEquals(ex.getParsedString(), "xx2015-W07yy");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequenceRegion_invalidRegion() {
+        YearWeek.parse("xx2015-W07yy", 2, 13);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_byteRegion_invalidRegion() {
+        YearWeek.parse(new byte[4], 3, 2);
+    }
+
     //-----------------------------------------------------------------------
     // parse(CharSequence,DateTimeFormatter)
     //-----------------------------------------------------------------------
@@ -732,6 +939,163 @@ public class TestYearWeek {
         TEST.withWeek(Integer.MIN_VALUE);
     }
 
+    //-----------------------------------------------------------------------
+    // isSupported(TemporalUnit)
+    //-----------------------------------------------------------------------
+    public void test_isSupported_TemporalUnit() {
+        assertEquals(TEST.isSupported((TemporalUnit) null), false);
+        assertEquals(TEST.isSupported(DAYS), false);
+        assertEquals(TEST.isSupported(WEEKS), true);
+        assertEquals(TEST.isSupported(MONTHS), false);
+        assertEquals(TEST.isSupported(YEARS), true);
+        assertEquals(TEST.isSupported(WEEK_BASED_YEARS), true);
+        assertEquals(TEST.isSupported(QUARTER_YEARS), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // with(TemporalField, long)
+    //-----------------------------------------------------------------------
+    public void test_with_field() {
+        assertEquals(TEST.with(WEEK_OF_WEEK_BASED_YEAR, 12), YearWeek.of(2015, 12));
+        assertEquals(TEST.with(WEEK_BASED_YEAR, 2009), YearWeek.of(2009, 1));
+        assertEquals(YearWeek.of(2015, 53).with(WEEK_BASED_YEAR, 2014), YearWeek.of(2014, 52));
+        assertEquals(TEST.with(PackedFields.PACKED_YEAR_WEEK, 202053), YearWeek.of(2020, 53));
+    }
+
+    public void test_with_adjuster() {
+        assertEquals(TEST.with(YearWeek.of(2020, 53)), YearWeek.of(2020, 53));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_with_field_invalidWeek() {
+        TEST.with(WEEK_OF_WEEK_BASED_YEAR, 54);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_with_field_unsupported() {
+        TEST.with(YEAR, 2015);
+    }
+
+    //-----------------------------------------------------------------------
+    // plusWeeks(long)
+    //-----------------------------------------------------------------------
+    public void test_plusWeeks() {
+        assertEquals(TEST.plusWeeks(0), TEST);
+        assertEquals(TEST.plusWeeks(1), YearWeek.of(2015, 2));
+        assertEquals(TEST.plusWeeks(52), YearWeek.of(2015, 53));
+        assertEquals(TEST.plusWeeks(53), YearWeek.of(2016, 1));
+        assertEquals(TEST.plusWeeks(-1), YearWeek.of(2014, 52));
+        assertEquals(TEST.plusWeeks(-53), YearWeek.of(2013, 52));
+        assertEquals(TEST.plusWeeks(-52), YearWeek.of(2014, 1));
+    }
+
+    public void test_plusWeeks_matchesLocalDate() {
+        LocalDate base = LocalDate.of(1990, 6, 13);
+        YearWeek start = YearWeek.from(base);
+        for (int i = -2000; i <= 2000; i += 7) {
+            assertEquals(start.plusWeeks(i), YearWeek.from(base.plusWeeks(i)));
+            assertEquals(start.plus(i, WEEKS), YearWeek.from(base.plusWeeks(i)));
+            assertEquals(start.minusWeeks(i), YearWeek.from(base.minusWeeks(i)));
+            assertEquals(start.until(start.plusWeeks(i), WEEKS), i);
+        }
+    }
+
+    public void test_plusWeeks_limits() {
+        YearWeek max = YearWeek.from(LocalDate.MAX);
+        assertEquals(max.minusWeeks(1).plusWeeks(1), max);
+        YearWeek min = YearWeek.of(Year.MIN_VALUE, 1);
+        assertEquals(min.plusWeeks(1).minusWeeks(1), min);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusWeeks_max() {
+        YearWeek.from(LocalDate.MAX).plusWeeks(1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusWeeks_min() {
+        YearWeek.of(Year.MIN_VALUE, 1).minusWeeks(1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusWeeks_longMax() {
+        TEST.plusWeeks(Long.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_minusWeeks_longMin() {
+        YearWeek.of(-2015, 1).minusWeeks(Long.MIN_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    // plusYears(long)
+    //-----------------------------------------------------------------------
+    public void test_plusYears() {
+        assertEquals(TEST.plusYears(0), TEST);
+        assertEquals(TEST.plusYears(1), YearWeek.of(2016, 1));
+        assertEquals(TEST.plusYears(-1), YearWeek.of(2014, 1));
+        assertEquals(YearWeek.of(2015, 53).plusYears(5), YearWeek.of(2020, 53));
+        assertEquals(YearWeek.of(2015, 53).plusYears(1), YearWeek.of(2016, 52));
+        assertEquals(YearWeek.of(2015, 53).plus(1, WEEK_BASED_YEARS), YearWeek.of(2016, 52));
+        assertEquals(YearWeek.of(2015, 53).plus(-1, YEARS), YearWeek.of(2014, 52));
+        assertEquals(YearWeek.of(2015, 53).minusYears(6), YearWeek.of(2009, 53));
+        assertEquals(YearWeek.of(2015, 53).minus(6, WEEK_BASED_YEARS), YearWeek.of(2009, 53));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusYears_max() {
+        YearWeek.of(Year.MAX_VALUE, 1).plusYears(1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusYears_longMax() {
+        TEST.plusYears(Long.MAX_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus(TemporalAmount) / minus(TemporalAmount)
+    //-----------------------------------------------------------------------
+    public void test_plus_amount() {
+        assertEquals(TEST.plus(Weeks.of(3)), YearWeek.of(2015, 4));
+        assertEquals(TEST.minus(Weeks.of(3)), YearWeek.of(2014, 50));
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_plus_unsupportedUnit() {
+        TEST.plus(1, DAYS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_minus_unsupportedUnit() {
+        TEST.minus(1, MONTHS);
+    }
+
+    //-----------------------------------------------------------------------
+    // until(Temporal, TemporalUnit)
+    //-----------------------------------------------------------------------
+    public void test_until_weeks() {
+        assertEquals(TEST.until(TEST, WEEKS), 0);
+        assertEquals(TEST.until(YearWeek.of(2016, 1), WEEKS), 53);
+        assertEquals(YearWeek.of(2016, 1).until(TEST, WEEKS), -53);
+        assertEquals(TEST.until(LocalDate.of(2015, 1, 11), WEEKS), 1);
+        assertEquals(WEEKS.between(TEST, YearWeek.of(2014, 52)), -1);
+    }
+
+    public void test_until_years() {
+        assertEquals(TEST.until(YearWeek.of(2016, 1), YEARS), 1);
+        assertEquals(TEST.until(YearWeek.of(2015, 53), YEARS), 0);
+        assertEquals(YearWeek.of(2015, 53).until(YearWeek.of(2016, 52), YEARS), 0);
+        assertEquals(YearWeek.of(2015, 53).until(YearWeek.of(2020, 53), WEEK_BASED_YEARS), 5);
+        assertEquals(YearWeek.of(2016, 1).until(YearWeek.of(2015, 2), YEARS), 0);
+        assertEquals(YearWeek.of(2016, 1).until(YearWeek.of(2015, 1), YEARS), -1);
+        assertEquals(WEEK_BASED_YEARS.between(TEST, YearWeek.of(2025, 1)), 10);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_until_unsupportedUnit() {
+        TEST.until(YearWeek.of(2016, 1), DAYS);
+    }
+
     //-----------------------------------------------------------------------
     // query(TemporalQuery)
     //-----------------------------------------------------------------------
@@ -796,4 +1160,94 @@ public class TestYearWeek {
         assertEquals(s, expected);
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedInt() / ofPackedInt()
+    //-----------------------------------------------------------------------
+    public void test_toPackedInt() {
+        assertEquals(YearWeek.of(2024, 52).toPackedInt(), 202452);
+        assertEquals(YearWeek.of(2020, 53).toPackedInt(), 202053);
+        assertEquals(YearWeek.of(0, 1).toPackedInt(), 1);
+        assertEquals(YearWeek.of(-1, 52).toPackedInt(), -48);
+        assertEquals(YearWeek.ofPackedInt(-48), YearWeek.of(-1, 52));
+        assertEquals(YearWeek.of(21_474_835, 1).toPackedInt(), 2_147_483_501);
+    }
+
+    public void test_toPackedInt_roundTripAndOrder() {
+        YearWeek previous = null;
+        for (LocalDate date = LocalDate.of(-3, 1, 1); date.getYear() < 3; date = date.plusDays(7)) {
+            YearWeek test = YearWeek.from(date);
+            assertEquals(YearWeek.ofPackedInt(test.toPackedInt()), test);
+            if (previous != null) {
+                assertEquals(Integer.signum(Integer.compare(previous.toPackedInt(), test.toPackedInt())),
+                        Integer.signum(previous.compareTo(test)));
+            }
+            previous = test;
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_toPackedInt_outOfRange() {
+        YearWeek.of(21_474_836, 1).toPackedInt();
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofPackedInt_week53Invalid() {
+        YearWeek.ofPackedInt(202453);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofPackedInt_week0() {
+        YearWeek.ofPackedInt(202400);
+    }
+
+    public void test_packEpochDays() {
+        long[] epochDays = new long[3000];
+        LocalDate[] dates = new LocalDate[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            dates[i] = LocalDate.of(1999, 12, 1).plusDays(i);
+            epochDays[i] = dates[i].toEpochDay();
+        }
+        int[] packed = new int[epochDays.length];
+        int[] packedFromDates = new int[epochDays.length];
+        YearWeek.packEpochDays(epochDays, packed);
+        YearWeek.packDates(dates, packedFromDates);
+        long[] mondays = new long[epochDays.length];
+        LocalDate[] mondayDates = new LocalDate[epochDays.length];
+        YearWeek.unpackToEpochDays(packed, mondays);
+        YearWeek.unpackToDates(packed, mondayDates);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(packed[i], YearWeek.from(dates[i]).toPackedInt());
+            assertEquals(packedFromDates[i], packed[i]);
+            assertEquals(mondayDates[i], YearWeek.from(dates[i]).atDay(MONDAY));
+            assertEquals(mondays[i], mondayDates[i].toEpochDay());
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_unpackToEpochDays_invalid() {
+        YearWeek.unpackToEpochDays(new int[] {202453}, new long[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_packEpochDays_lengthMismatch() {
+        YearWeek.packEpochDays(new long[2], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_from_atDay_matchesIsoFields() {
+        for (LocalDate date = LocalDate.of(1595, 12, 1); date.getYear() < 2405; date = date.plusDays(3)) {
+            YearWeek test = YearWeek.from(date);
+            assertEquals(test.getYear(), date.get(WEEK_BASED_YEAR));
+            assertEquals(test.getWeek(), date.get(WEEK_OF_WEEK_BASED_YEAR));
+            assertEquals(test.atDay(date.getDayOfWeek()), date);
+            assertEquals(test.is53WeekYear(), date.range(WEEK_OF_WEEK_BASED_YEAR).getMaximum() == 53);
+        }
+    }
+
+    public void test_from_LocalDate_max() {
+        YearWeek test = YearWeek.from(LocalDate.MAX);
+        assertEquals(test.getYear(), LocalDate.MAX.get(WEEK_BASED_YEAR));
+        assertEquals(test.getWeek(), LocalDate.MAX.get(WEEK_OF_WEEK_BASED_YEAR));
+    }
+
 }
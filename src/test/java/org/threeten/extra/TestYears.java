@@ -34,17 +34,24 @@ package org.threeten.extra;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
+import java.util.IntSummaryStatistics;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -96,6 +103,26 @@ public class TestYears {
         assertEquals(Years.of(Integer.MIN_VALUE).getAmount(), Integer.MIN_VALUE);
     }
 
+    public void test_of_cached() {
+        assertSame(Years.of(7), Years.of(7));
+        assertSame(Years.of(-1024), Years.of(-1024));
+        assertSame(Years.of(1024), Years.of(1024));
+        assertSame(Years.of(3).plus(4), Years.of(7));
+        assertSame(Years.of(7).negated(), Years.of(-7));
+        assertEquals(Years.of(1025) == Years.of(1025), false);
+        assertEquals(Years.of(1025), Years.of(1025));
+    }
+
+    public void test_deserialization_cached() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(Years.of(15));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            assertSame(in.readObject(), Years.of(15));
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_from_P0Y() {
         assertEquals(Years.from(Period.ofYears(0)), Years.of(0));
@@ -170,6 +197,38 @@ public class TestYears {
         Years.parse((CharSequence) null);
     }
 
+    public void test_parse_CharSequence_region() {
+        assertEquals(Years.parse("x=P2Y;", 2, 5), Years.of(2));
+        assertEquals(Years.parse("-P3Y", 0, 4), Years.of(-3));
+    }
+
+    public void test_parse_bytes() {
+        byte[] bytes = "x=p2y;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Years.parse(bytes, 2, 5), Years.of(2));
+    }
+
+    public void test_parse_errorIndex() {
+        try {
+            Years.parse("x=P1M", 2, 5);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 4);
+            assertEquals(ex.getParsedString(), "x=P1M");
+        }
+        try {
+            Years.parse("P2147483648Y".getBytes(StandardCharsets.US_ASCII), 0, 12);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 1);
+            assertEquals(ex.getParsedString(), "P2147483648Y");
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_CharSequence_invalidRegion() {
+        Years.parse("P2Y", 1, 4);
+    }
+
     //-----------------------------------------------------------------------
     public void test_plus_TemporalAmount_Years() {
         Years test5 = Years.of(5);
@@ -429,4 +488,68 @@ public class TestYears {
         assertEquals("P-1Y", testM1.toString());
     }
 
+    //-----------------------------------------------------------------------
+    public void test_summing() {
+        assertEquals(Stream.of(Years.of(2), Years.of(-5), Years.of(10)).collect(Years.summing()), Years.of(7));
+        assertSame(Stream.<Years>empty().collect(Years.summing()), Years.ZERO);
+        assertEquals(IntStream.rangeClosed(1, 1000).parallel().boxed().collect(Years.summing(Years::of)), Years.of(500500));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        Stream<Years> stream = Stream.of(Years.of(Integer.MAX_VALUE), Years.of(1), Years.of(-2));
+        assertEquals(stream.collect(Years.summing()), Years.of(Integer.MAX_VALUE - 1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Years.of(Integer.MAX_VALUE), Years.of(1)).collect(Years.summing());
+    }
+
+    public void test_summarizing() {
+        IntSummaryStatistics stats = IntStream.rangeClosed(-10, 20).parallel().boxed().collect(Years.summarizing(Years::of));
+        assertEquals(stats.getCount(), 31);
+        assertEquals(stats.getSum(), 155);
+        assertEquals(stats.getMin(), -10);
+        assertEquals(stats.getMax(), 20);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_betweenEpochDays_matchesBetween() {
+        Random random = new Random(155);
+        for (int i = 0; i < 20000; i++) {
+            long start = random.nextInt(200_000) - 100_000;
+            long end = start + random.nextInt(4000) - 2000;
+            int expected = Years.between(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end)).getAmount();
+            assertEquals(Years.betweenEpochDays(start, end), expected);
+        }
+    }
+
+    public void test_betweenEpochDays_monthEnds() {
+        for (LocalDate start = LocalDate.of(2019, 12, 25); start.getYear() < 2021; start = start.plusDays(1)) {
+            for (LocalDate end = start.minusDays(800); end.isBefore(start.plusDays(800)); end = end.plusDays(13)) {
+                int expected = Years.between(start, end).getAmount();
+                assertEquals(Years.betweenEpochDays(start.toEpochDay(), end.toEpochDay()), expected);
+            }
+        }
+    }
+
+    public void test_betweenEpochDays_bulk() {
+        long[] starts = {LocalDate.of(2020, 1, 31).toEpochDay(), LocalDate.of(2024, 2, 29).toEpochDay()};
+        long[] ends = {LocalDate.of(2022, 3, 1).toEpochDay(), LocalDate.of(2021, 2, 28).toEpochDay()};
+        int[] results = new int[2];
+        Years.betweenEpochDays(starts, ends, results);
+        assertEquals(results[0], Years.between(LocalDate.of(2020, 1, 31), LocalDate.of(2022, 3, 1)).getAmount());
+        assertEquals(results[1], Years.between(LocalDate.of(2024, 2, 29), LocalDate.of(2021, 2, 28)).getAmount());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_betweenEpochDays_bulk_lengthMismatch() {
+        Years.betweenEpochDays(new long[2], new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_betweenEpochDays_invalidEpochDay() {
+        Years.betweenEpochDays(0, Long.MAX_VALUE);
+    }
+
 }